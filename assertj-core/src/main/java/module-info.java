@@ -51,6 +51,8 @@ module org.assertj.core {
 
   requires static java.logging; // required when printThreadDump is true
   requires static java.management;
+  requires static jdk.management; // to measure the memory allocated by a thread
+  requires static jdk.jfr; // to record assertion events with Java Flight Recorder
   requires static java.sql;
   requires static java.xml; // used for XML pretty print
   requires static org.hamcrest;
@@ -58,6 +60,7 @@ module org.assertj.core {
   requires static org.opentest4j; // to throw AssertionFailedError which is IDE friendly
 
   // Services loaded by org.assertj.core.configuration.ConfigurationProvider
+  uses org.assertj.core.configuration.AssertionMetrics;
   uses org.assertj.core.configuration.Configuration;
   uses org.assertj.core.presentation.Representation;
 }
@@ -19,6 +19,7 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.description.Description.mostRelevantDescription;
 import static org.assertj.core.error.ShouldMatch.shouldMatch;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
@@ -29,6 +30,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.formatIfArgs;
 
+import java.lang.StackWalker.StackFrame;
 import java.lang.reflect.ParameterizedType;
 import java.util.Arrays;
 import java.util.List;
@@ -43,13 +45,17 @@ import org.assertj.core.api.AssertFactory.ValueProvider;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.configuration.AssertionMetrics;
+import org.assertj.core.configuration.AssertionMetrics.Outcome;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.internal.Conditions;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.FlightRecorderEvents;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.annotation.Contract;
 import org.assertj.core.presentation.PredicateDescription;
@@ -74,6 +80,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
 
   private static final String ORG_ASSERTJ = "org.assert";
 
+  // stateless, shared to keep the assertions creation cheap as most of them never fail
+  private static final AssertionErrorCreator ASSERTION_ERROR_CREATOR = new AssertionErrorCreator();
+
   protected Objects objects = Objects.instance();
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -88,15 +97,15 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   // = ConfigurationProvider.CONFIGURATION_PROVIDER.representation(); ?
-  static Representation customRepresentation = null;
+  static volatile Representation customRepresentation = null;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   AssertionErrorCreator assertionErrorCreator;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  static boolean printAssertionsDescription;
+  static volatile boolean printAssertionsDescription;
 
-  private static Consumer<Description> descriptionConsumer;
+  private static volatile Consumer<Description> descriptionConsumer;
 
   // When non-null, assertion errors are handled by this handler instead of being thrown directly.
   // Used by soft assertions (collect errors) and assumptions (convert to assumption exceptions).
@@ -111,6 +120,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   // Depth counter for nested soft assertion call detection (replaces stack trace scanning)
   private static final ThreadLocal<Integer> SOFT_CALL_DEPTH = ThreadLocal.withInitial(() -> 0);
 
+  // used to find the assertion method notified to the registered assertion metrics
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
   // we prefer not to use Class<? extends S> selfType because it would force inherited
   // constructor to cast with a compiler warning
   // let's keep compiler warning internal (when we can) and not expose them to our end users.
@@ -118,8 +130,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   protected AbstractAssert(ACTUAL actual, Class<?> selfType) {
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
-    info = new WritableAssertionInfo(customRepresentation);
-    assertionErrorCreator = new AssertionErrorCreator();
+    ConfigurationScope configurationScope = ConfigurationScope.current();
+    info = new WritableAssertionInfo(configurationScope == null ? customRepresentation : configurationScope.representation());
+    assertionErrorCreator = ASSERTION_ERROR_CREATOR;
   }
 
   /**
@@ -133,14 +146,14 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
    */
   protected SELF executeAssertion(Runnable body) {
     if (assertionErrorHandler == null) {
-      body.run();
+      runAssertion(body);
       return myself;
     }
     if (skipAssertions) return myself;
     int depth = SOFT_CALL_DEPTH.get();
     SOFT_CALL_DEPTH.set(depth + 1);
     try {
-      body.run();
+      runAssertion(body);
       if (depth == 0) assertionErrorHandler.succeeded();
     } catch (AssertionError e) {
       if (depth > 0) throw e;
@@ -167,7 +180,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
                                                                           Supplier<T> assertSupplier) {
     if (assertionErrorHandler == null) {
       try {
-        return navigationCode.get();
+        return runNavigation(navigationCode);
       } catch (AssertionError | RuntimeException e) {
         throw e;
       } catch (Exception e) {
@@ -178,7 +191,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     int depth = SOFT_CALL_DEPTH.get();
     SOFT_CALL_DEPTH.set(depth + 1);
     try {
-      T navigatedAssert = navigationCode.get();
+      T navigatedAssert = runNavigation(navigationCode);
       if (depth == 0) assertionErrorHandler.succeeded();
       return navigatedAssert;
     } catch (AssertionError e) {
@@ -194,6 +207,57 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     }
   }
 
+  private void runAssertion(Runnable body) {
+    AssertionMetrics assertionMetrics = CONFIGURATION_PROVIDER.assertionMetrics();
+    if (assertionMetrics == null) {
+      FlightRecorderEvents.runAssertion(getClass(), body);
+      return;
+    }
+    String assertionMethod = assertionMethod();
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERRORED;
+    try {
+      FlightRecorderEvents.runAssertion(getClass(), body);
+      outcome = Outcome.SUCCEEDED;
+    } catch (AssertionError e) {
+      outcome = Outcome.FAILED;
+      throw e;
+    } finally {
+      assertionMetrics.assertionExecuted(getClass(), assertionMethod, outcome, System.nanoTime() - start);
+    }
+  }
+
+  private <T> T runNavigation(Supplier<T> navigationCode) {
+    AssertionMetrics assertionMetrics = CONFIGURATION_PROVIDER.assertionMetrics();
+    if (assertionMetrics == null) return navigationCode.get();
+    String assertionMethod = assertionMethod();
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERRORED;
+    try {
+      T navigatedAssert = navigationCode.get();
+      outcome = Outcome.SUCCEEDED;
+      return navigatedAssert;
+    } catch (AssertionError e) {
+      outcome = Outcome.FAILED;
+      throw e;
+    } finally {
+      assertionMetrics.assertionExecuted(getClass(), assertionMethod, outcome, System.nanoTime() - start);
+    }
+  }
+
+  // the assertion method is the caller of executeAssertion or executeAssertionNavigation
+  private static String assertionMethod() {
+    return STACK_WALKER.walk(frames -> frames.dropWhile(frame -> !isExecuteAssertionFrame(frame))
+                                             .dropWhile(AbstractAssert::isExecuteAssertionFrame)
+                                             .findFirst()
+                                             .map(StackFrame::getMethodName)
+                                             .orElse("unknown"));
+  }
+
+  private static boolean isExecuteAssertionFrame(StackFrame frame) {
+    return frame.getClassName().equals(AbstractAssert.class.getName()) && frame.getMethodName().startsWith("executeAssertion");
+  }
+
   /**
    * Exposes the {@link WritableAssertionInfo} used in the current assertion for better extensibility.<br> When writing
    * your own assertion class, you can use the returned {@link WritableAssertionInfo} to change the error message and
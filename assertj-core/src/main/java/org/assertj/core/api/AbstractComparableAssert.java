@@ -36,7 +36,7 @@ public abstract class AbstractComparableAssert<SELF extends AbstractComparableAs
     extends AbstractObjectAssert<SELF, ACTUAL> implements ComparableAssert<SELF, ACTUAL> {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   protected AbstractComparableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -106,7 +106,7 @@ public abstract class AbstractComparableAssert<SELF extends AbstractComparableAs
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
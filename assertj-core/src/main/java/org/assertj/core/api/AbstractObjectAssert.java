@@ -15,6 +15,7 @@
  */
 package org.assertj.core.api;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.description.Description.mostRelevantDescription;
@@ -26,7 +27,6 @@ import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -59,7 +59,7 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SELF, ACTUAL>, ACTUAL>
     extends AbstractAssertWithComparator<SELF, ACTUAL> {
 
-  private Map<String, Comparator<?>> comparatorsByPropertyOrField = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorsByPropertyOrField = emptyMap();
   private TypeComparators comparatorsByType;
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
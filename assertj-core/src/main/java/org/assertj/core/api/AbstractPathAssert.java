@@ -30,6 +30,7 @@ import java.nio.file.Path;
 import java.nio.file.ProviderMismatchException;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.MessageDigest;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.assertj.core.annotation.CheckReturnValue;
@@ -1410,6 +1411,43 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return executeAssertion(() -> paths.assertHasDigest(info, actual, algorithm, expected));
   }
 
+  /**
+   * Verifies that the tested {@link Path} digests, calculated with each of the given algorithms, are equal to the given ones.
+   * <p>
+   * The content of the {@link Path} is read only once whatever the number of algorithms, which is cheaper than chaining
+   * several {@link #hasDigest(String, String)} calls on large files.
+   * <p>
+   * Note that the {@link Path} must be readable.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // assume that assertj-core-2.9.0.jar was downloaded from https://repo1.maven.org/maven2/org/assertj/assertj-core/2.9.0/assertj-core-2.9.0.jar
+   * Path tested = Paths.get("assertj-core-2.9.0.jar");
+   *
+   * // The following assertion succeeds:
+   * assertThat(tested).hasDigests(Map.of("SHA1", "5c5ae45b58f12023817abe492447cdc7912c1a2c",
+   *                                      "MD5", "dcb3015cd28447644c810af352832c19"));
+   *
+   * // The following assertion fails:
+   * assertThat(tested).hasDigests(Map.of("SHA1", "5c5ae45b58f12023817abe492447cdc7912c1a2c",
+   *                                      "MD5", "3735dff8e1f9df0492a34ef075205b8f")); </code></pre>
+   *
+   * @param expectedDigestsByAlgorithm the expected digest (in hexadecimal) per algorithm used to calculate it.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map, one of its algorithms or one of its digests is {@code null}.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws IllegalStateException if one of the given algorithms is not available.
+   * @throws AssertionError       if the actual {@code Path} is {@code null}.
+   * @throws AssertionError       if the actual {@code Path} does not exist.
+   * @throws AssertionError       if the actual {@code Path} is not a file.
+   * @throws AssertionError       if the actual {@code Path} is not readable.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError       if any of the tested {@code Path}'s digests is not equal to the expected one.
+   * @since 4.0.0
+   */
+  public SELF hasDigests(Map<String, String> expectedDigestsByAlgorithm) {
+    return executeAssertion(() -> paths.assertHasDigests(info, actual, expectedDigestsByAlgorithm));
+  }
+
   /**
    * Verify that the actual {@code Path} is a directory containing at least one file matching the given {@code Predicate<Path>}.
    * <p>
@@ -44,7 +44,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   /**
    * Verifies that the actual value is less than the given {@link String} according to {@link String#compareTo(String)}.
@@ -366,7 +366,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
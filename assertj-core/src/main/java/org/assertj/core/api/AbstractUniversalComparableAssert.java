@@ -59,7 +59,7 @@ public abstract class AbstractUniversalComparableAssert<SELF extends AbstractUni
     extends AbstractObjectAssert<SELF, Comparable<T>> {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   protected AbstractUniversalComparableAssert(Comparable<T> actual, Class<?> selfType) {
     super(actual, selfType);
@@ -263,7 +263,7 @@ public abstract class AbstractUniversalComparableAssert<SELF extends AbstractUni
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
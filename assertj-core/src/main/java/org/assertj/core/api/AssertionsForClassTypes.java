@@ -45,6 +45,7 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 
 import org.assertj.core.annotation.CanIgnoreReturnValue;
@@ -840,6 +841,41 @@ public class AssertionsForClassTypes {
     return new NotThrownAssert();
   }
 
+  /**
+   * Creates a new instance of <code>{@link PerformanceAssert}</code> to check how long the given code takes to run and how
+   * much memory it allocates.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatPerformanceOf(() -&gt; parser.parse(document)).withWarmUpIterations(1000)
+   *                                                       .completesWithin(Duration.ofMillis(10))
+   *                                                       .allocatesAtMostBytes(64 * 1024);</code></pre>
+   *
+   * @param code the code to measure.
+   * @return the created {@link PerformanceAssert}.
+   * @since 4.0.0
+   */
+  public static PerformanceAssert assertThatPerformanceOf(ThrowingCallable code) {
+    return new PerformanceAssert(code);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link WorkloadAssert}</code> to check how the execution time of the given workload
+   * grows with its size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatWorkload(size -&gt; {
+   *   List&lt;Integer&gt; list = randomIntegers(size);
+   *   return () -&gt; assertThat(list).containsOnly(0, 1);
+   * }).scalesLinearly();</code></pre>
+   *
+   * @param workload creates the code to measure for a given size.
+   * @return the created {@link WorkloadAssert}.
+   * @since 4.0.0
+   */
+  public static WorkloadAssert assertThatWorkload(IntFunction<Runnable> workload) {
+    return new WorkloadAssert(workload);
+  }
+
   /**
    * Allows capturing and then assert on a {@link Throwable} more easily when used with Java 8 lambdas.
    *
@@ -111,6 +111,26 @@ public class AssertionsForInterfaceTypes extends AssertionsForClassTypes {
     return IterableAssert.assertThatIterable(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link CompletableFuturesAssert}</code> to check a group of futures, waiting for all of
+   * them together under a single deadline instead of one after the other.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;CompletableFuture&lt;Order&gt;&gt; orders = orderService.loadAllAsync(ids);
+   *
+   * assertThatFutures(orders).allSucceedWithin(Duration.ofSeconds(5))
+   *                          .extracting(Order::status)
+   *                          .containsOnly(SHIPPED);</code></pre>
+   *
+   * @param <RESULT> the type of the futures results.
+   * @param futures the futures to check.
+   * @return the created {@link CompletableFuturesAssert}.
+   * @since 4.0.0
+   */
+  public static <RESULT> CompletableFuturesAssert<RESULT> assertThatFutures(Iterable<? extends CompletableFuture<? extends RESULT>> futures) {
+    return new CompletableFuturesAssert<>(futures);
+  }
+
   /**
    * Creates a new instance of <code>{@link IterableAssert}</code>.
    * <p>
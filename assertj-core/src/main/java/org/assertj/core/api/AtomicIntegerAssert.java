@@ -31,7 +31,7 @@ import org.assertj.core.internal.Integers;
 public class AtomicIntegerAssert extends AbstractAssertWithComparator<AtomicIntegerAssert, AtomicInteger> {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Integers integers = Integers.instance();
@@ -31,7 +31,7 @@ import org.assertj.core.internal.Longs;
 public class AtomicLongAssert extends AbstractAssertWithComparator<AtomicLongAssert, AtomicLong> {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Longs longs = Longs.instance();
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link AssertionErrorCollector} keeping a bounded number of errors, to validate large amounts of data with soft assertions
+ * without keeping every error in memory.
+ * <p>
+ * It is meant to be used as the delegate of soft assertions:
+ * <pre><code class='java'> BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(100).deduplicatingErrors()
+ *                                                                                .keepingStackTracesOfFirst(10)
+ *                                                                                .sendingOverflowTo(jsonLinesWriter(writer));
+ * SoftAssertions softly = new SoftAssertions();
+ * softly.setDelegate(collector);
+ *
+ * records.forEach(record -&gt; softly.assertThat(record.getAmount()).as("amount").isPositive());
+ *
+ * softly.assertAll();</code></pre>
+ * <ul>
+ * <li>only the given maximum of errors is stored, the other ones are sent to the overflow sink (if any) and counted</li>
+ * <li>when deduplicating, errors with the same shape are only stored once and counted, the default shape is the error type,
+ * the assertion description and the error message without its values (the lines that are not indented, AssertJ indents the
+ * values it reports)</li>
+ * <li>the stack trace of the errors stored after the first ones is dropped</li>
+ * </ul>
+ * {@link #assertionErrorsCollected()} returns the stored errors, the number of occurrences of the deduplicated ones is reported
+ * by an error added to their suppressed errors, they are followed by an error reporting the number of errors that were not
+ * stored, if any.
+ * <p>
+ * This collector is thread safe.
+ *
+ * @since 4.0.0
+ */
+public class BoundedAssertionErrorCollector implements AssertionErrorCollector {
+
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+  private final int maxStoredErrors;
+  private Function<? super AssertionError, ?> shape;
+  private int maxStackTraces = Integer.MAX_VALUE;
+  private Consumer<? super AssertionError> overflowSink;
+
+  private final List<StoredError> storedErrors = new ArrayList<>();
+  private final Map<Object, StoredError> storedErrorsByShape = new HashMap<>();
+  private long overflowingErrors;
+  private boolean wasSuccess = true;
+
+  /**
+   * Creates a collector storing at most the given number of errors.
+   *
+   * @param maxStoredErrors the maximum number of stored errors.
+   * @throws IllegalArgumentException if {@code maxStoredErrors} is negative.
+   */
+  public BoundedAssertionErrorCollector(int maxStoredErrors) {
+    checkArgument(maxStoredErrors >= 0, "maxStoredErrors must be >= 0 but was %s", maxStoredErrors);
+    this.maxStoredErrors = maxStoredErrors;
+  }
+
+  /**
+   * Only stores the first error of each shape and counts the following ones, the shape of an error being its type, the
+   * assertion description and its message without the reported values, for example the field paths of a recursive
+   * comparison error are part of its shape.
+   *
+   * @return this collector.
+   */
+  public BoundedAssertionErrorCollector deduplicatingErrors() {
+    return deduplicatingErrorsBy(BoundedAssertionErrorCollector::shapeOf);
+  }
+
+  /**
+   * Only stores the first error of each shape computed by the given function and counts the following ones, for example to
+   * include the field path of recursive comparison errors.
+   *
+   * @param shape computes the shape of an error, errors are deduplicated with the {@code equals} of their shape.
+   * @return this collector.
+   */
+  public synchronized BoundedAssertionErrorCollector deduplicatingErrorsBy(Function<? super AssertionError, ?> shape) {
+    this.shape = requireNonNull(shape, "The error shape function must not be null");
+    return this;
+  }
+
+  /**
+   * Drops the stack trace of the errors stored after the given number of errors.
+   *
+   * @param maxStackTraces the number of stored errors keeping their stack trace.
+   * @return this collector.
+   * @throws IllegalArgumentException if {@code maxStackTraces} is negative.
+   */
+  public synchronized BoundedAssertionErrorCollector keepingStackTracesOfFirst(int maxStackTraces) {
+    checkArgument(maxStackTraces >= 0, "maxStackTraces must be >= 0 but was %s", maxStackTraces);
+    this.maxStackTraces = maxStackTraces;
+    return this;
+  }
+
+  /**
+   * Sends the errors that are not stored as the maximum of stored errors is reached to the given sink, the deduplicated
+   * errors are only counted.
+   * <p>
+   * The sink is called while holding the collector lock, one error at a time.
+   *
+   * @param overflowSink the consumer of the errors that are not stored.
+   * @return this collector.
+   */
+  public synchronized BoundedAssertionErrorCollector sendingOverflowTo(Consumer<? super AssertionError> overflowSink) {
+    this.overflowSink = requireNonNull(overflowSink, "The overflow sink must not be null");
+    return this;
+  }
+
+  @Override
+  public synchronized void collectAssertionError(AssertionError error) {
+    wasSuccess = false;
+    Object errorShape = shape == null ? null : shape.apply(error);
+    if (errorShape != null) {
+      StoredError storedError = storedErrorsByShape.get(errorShape);
+      if (storedError != null) {
+        storedError.occurred();
+        return;
+      }
+    }
+    if (storedErrors.size() >= maxStoredErrors) {
+      overflowingErrors++;
+      if (overflowSink != null) overflowSink.accept(error);
+      return;
+    }
+    if (storedErrors.size() >= maxStackTraces) error.setStackTrace(NO_STACK_TRACE);
+    StoredError storedError = new StoredError(error);
+    storedErrors.add(storedError);
+    if (errorShape != null) storedErrorsByShape.put(errorShape, storedError);
+  }
+
+  /**
+   * Returns the stored errors followed by an error reporting the number of errors that were not stored, if any.
+   * <p>
+   * The stored errors are returned as collected, the ones that occurred several times have a suppressed error mentioning
+   * their number of occurrences.
+   *
+   * @return the stored errors.
+   */
+  @Override
+  public synchronized List<AssertionError> assertionErrorsCollected() {
+    List<AssertionError> errors = new ArrayList<>(storedErrors.size() + 1);
+    storedErrors.forEach(storedError -> errors.add(storedError.error));
+    if (overflowingErrors > 0) {
+      String overflowMessage = "%d more assertion error(s) not kept as the maximum of %d stored errors was reached";
+      AssertionError overflowError = new AssertionError(overflowMessage.formatted(overflowingErrors, maxStoredErrors));
+      overflowError.setStackTrace(NO_STACK_TRACE);
+      errors.add(overflowError);
+    }
+    return unmodifiableList(errors);
+  }
+
+  @Override
+  public synchronized void succeeded() {
+    wasSuccess = true;
+  }
+
+  @Override
+  public synchronized boolean wasSuccess() {
+    return wasSuccess;
+  }
+
+  /**
+   * Returns an overflow sink writing each error as a JSON object on its own line (JSON Lines format), with its {@code type},
+   * {@code message} and {@code location} (the first element of its stack trace).
+   * <p>
+   * Example:
+   * <pre><code class='java'> {"type":"java.lang.AssertionError","message":"[amount] \nExpecting actual:\n  -1\nto be greater than:\n  0\n","location":"org.example.RecordsTest.amounts_should_be_positive(RecordsTest.java:42)"}</code></pre>
+   *
+   * @param output where to write the errors, for example a {@link java.io.Writer}.
+   * @return the overflow sink.
+   * @throws UncheckedIOException if writing an error fails.
+   */
+  public static Consumer<AssertionError> jsonLinesWriter(Appendable output) {
+    requireNonNull(output, "The output must not be null");
+    return error -> {
+      StackTraceElement[] stackTrace = error.getStackTrace();
+      try {
+        output.append("{\"type\":");
+        appendJsonString(output, error.getClass().getName());
+        output.append(",\"message\":");
+        appendJsonString(output, error.getMessage());
+        output.append(",\"location\":");
+        appendJsonString(output, stackTrace.length == 0 ? null : stackTrace[0].toString());
+        output.append("}\n");
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  private static void appendJsonString(Appendable output, String value) throws IOException {
+    if (value == null) {
+      output.append("null");
+      return;
+    }
+    output.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+      case '"' -> output.append("\\\"");
+      case '\\' -> output.append("\\\\");
+      case '\n' -> output.append("\\n");
+      case '\r' -> output.append("\\r");
+      case '\t' -> output.append("\\t");
+      default -> {
+        if (c < 0x20) output.append("\\u%04x".formatted((int) c));
+        else output.append(c);
+      }
+      }
+    }
+    output.append('"');
+  }
+
+  private static Object shapeOf(AssertionError error) {
+    String message = error.getMessage();
+    return List.of(error.getClass(), descriptionOf(message), withoutValues(message));
+  }
+
+  // the values reported by AssertJ error messages are on indented lines, ex: "Expecting actual:\n  -1\nto be greater than:\n  0"
+  private static List<String> withoutValues(String message) {
+    if (message == null) return List.of();
+    return message.lines()
+                  .filter(line -> !line.isEmpty() && !Character.isWhitespace(line.charAt(0)))
+                  .toList();
+  }
+
+  // descriptions are displayed in brackets at the start of the error message, ex: "[amount] "
+  private static String descriptionOf(String message) {
+    if (message == null || !message.startsWith("[")) return "";
+    int descriptionEnd = message.indexOf("] ");
+    return descriptionEnd < 0 ? "" : message.substring(0, descriptionEnd + 1);
+  }
+
+  private static final class StoredError {
+
+    private final AssertionError error;
+    private Occurrences occurrences;
+
+    private StoredError(AssertionError error) {
+      this.error = error;
+    }
+
+    private void occurred() {
+      if (occurrences == null) {
+        occurrences = new Occurrences();
+        error.addSuppressed(occurrences);
+      }
+      occurrences.count++;
+    }
+  }
+
+  // suppressed error reporting the occurrences of a stored error, its count keeps up with the errors collected afterwards
+  private static final class Occurrences extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private volatile long count = 1;
+
+    private Occurrences() {
+      setStackTrace(NO_STACK_TRACE);
+    }
+
+    @Override
+    public String getMessage() {
+      return "%d occurrences of this error".formatted(count);
+    }
+  }
+
+}
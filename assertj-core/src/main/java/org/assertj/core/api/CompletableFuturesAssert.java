@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.internal.Futures;
+
+/**
+ * Assertions on a group of {@link CompletableFuture}s, waiting for all of them together under a single deadline.
+ * <p>
+ * Asserting each future with {@link AbstractCompletableFutureAssert#succeedsWithin(Duration)} waits for the futures one after
+ * the other, the worst case being the number of futures times the timeout. The assertions of this class register completion
+ * callbacks on all the futures and wait at most the given timeout for them, the futures that failed or did not complete in
+ * time are reported together with their index and elapsed time.
+ * <p>
+ * Example:
+ * <pre><code class='java'> List&lt;CompletableFuture&lt;Order&gt;&gt; orders = orderService.loadAllAsync(ids);
+ *
+ * assertThatFutures(orders).allSucceedWithin(Duration.ofSeconds(5))
+ *                          .extracting(Order::status)
+ *                          .containsOnly(SHIPPED);</code></pre>
+ *
+ * @param <RESULT> the type of the futures results.
+ * @since 4.0.0
+ */
+public class CompletableFuturesAssert<RESULT>
+    extends AbstractAssert<CompletableFuturesAssert<RESULT>, List<CompletableFuture<? extends RESULT>>> {
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  Futures futures = Futures.instance();
+
+  public CompletableFuturesAssert(Iterable<? extends CompletableFuture<? extends RESULT>> futures) {
+    super(newArrayList(futures), CompletableFuturesAssert.class);
+  }
+
+  /**
+   * Waits at most the given timeout for all the futures to complete normally and returns assertions on their results, in
+   * the order of the futures.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; ook = CompletableFuture.completedFuture("ook!");
+   * CompletableFuture&lt;String&gt; eek = CompletableFuture.supplyAsync(() -&gt; "eek!");
+   *
+   * // assertion succeeds
+   * assertThatFutures(List.of(ook, eek)).allSucceedWithin(Duration.ofMillis(100))
+   *                                     .containsExactly("ook!", "eek!");
+   *
+   * // assertion fails as the second future failed
+   * CompletableFuture&lt;String&gt; failed = CompletableFuture.failedFuture(new IOException());
+   * assertThatFutures(List.of(ook, failed)).allSucceedWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param timeout the maximum time to wait for all the futures.
+   * @return a new assertion instance on the futures results.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   * @throws AssertionError if the actual futures are {@code null} or contain a {@code null} future.
+   * @throws AssertionError if a future failed, was cancelled or did not complete within the given timeout.
+   */
+  public ListAssert<RESULT> allSucceedWithin(Duration timeout) {
+    requireNonNull(timeout, "non null timeout expected");
+    return executeAssertionNavigation(() -> newListAssert(futures.assertAllSucceededWithin(info, actual, timeout)),
+                                      ListAssert::nullListAssert);
+  }
+
+  private ListAssert<RESULT> newListAssert(List<RESULT> results) {
+    return new ListAssert<>(results).withAssertionState(myself);
+  }
+
+  /**
+   * Verifies that all the futures complete, normally or exceptionally, within the given timeout.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; ook = CompletableFuture.completedFuture("ook!");
+   * CompletableFuture&lt;String&gt; failed = CompletableFuture.failedFuture(new IOException());
+   *
+   * // assertion succeeds
+   * assertThatFutures(List.of(ook, failed)).allCompleteWithin(Duration.ofMillis(100));
+   *
+   * // assertion fails as the second future never completes
+   * CompletableFuture&lt;String&gt; pending = new CompletableFuture&lt;&gt;();
+   * assertThatFutures(List.of(ook, pending)).allCompleteWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param timeout the maximum time to wait for all the futures.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   * @throws AssertionError if the actual futures are {@code null} or contain a {@code null} future.
+   * @throws AssertionError if a future did not complete within the given timeout.
+   */
+  public CompletableFuturesAssert<RESULT> allCompleteWithin(Duration timeout) {
+    requireNonNull(timeout, "non null timeout expected");
+    return executeAssertion(() -> futures.assertAllCompletedWithin(info, actual, timeout));
+  }
+
+  /**
+   * Waits at most the given timeout for any of the futures to complete exceptionally and returns assertions on the exception
+   * of the first one that did, {@link java.util.concurrent.CompletionException CompletionException}s are unwrapped.
+   * <p>
+   * Waiting stops as soon as a future fails.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; ook = CompletableFuture.completedFuture("ook!");
+   * CompletableFuture&lt;String&gt; failed = CompletableFuture.failedFuture(new IOException("boom!"));
+   *
+   * // assertion succeeds
+   * assertThatFutures(List.of(ook, failed)).anyFailWithin(Duration.ofMillis(100))
+   *                                        .isInstanceOf(IOException.class)
+   *                                        .hasMessage("boom!");
+   *
+   * // assertion fails as no future fails
+   * CompletableFuture&lt;String&gt; pending = new CompletableFuture&lt;&gt;();
+   * assertThatFutures(List.of(ook, pending)).anyFailWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param timeout the maximum time to wait for a future to fail.
+   * @return a new assertion instance on the exception of the first future that failed.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   * @throws AssertionError if the actual futures are {@code null} or contain a {@code null} future.
+   * @throws AssertionError if no future completed exceptionally within the given timeout.
+   */
+  public ThrowableAssert<?> anyFailWithin(Duration timeout) {
+    requireNonNull(timeout, "non null timeout expected");
+    return executeAssertionNavigation(() -> newThrowableAssert(futures.assertAnyFailedWithin(info, actual, timeout)),
+                                      ThrowableAssert::nullThrowableAssert);
+  }
+
+  private ThrowableAssert<?> newThrowableAssert(Throwable failure) {
+    return new ThrowableAssert<>(failure).withAssertionState(myself);
+  }
+
+  /**
+   * Waits at most the given timeout for all the futures to complete, normally or exceptionally, and verifies that the list of
+   * the futures in the order they completed satisfies the given requirements.
+   * <p>
+   * The completion order is observed from the moment the assertion starts, the futures already completed at that time are
+   * considered to have completed in the order of the futures.
+   * <p>
+   * Example:
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; slow = CompletableFuture.supplyAsync(() -&gt; fetch("slow"));
+   * CompletableFuture&lt;String&gt; cached = CompletableFuture.supplyAsync(() -&gt; fetch("cached"));
+   *
+   * assertThatFutures(List.of(slow, cached))
+   *     .completionOrderSatisfies(Duration.ofSeconds(1), inOrder -&gt; assertThat(inOrder).startsWith(cached));</code></pre>
+   *
+   * @param timeout the maximum time to wait for all the futures.
+   * @param requirements the requirements on the futures in completion order.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given timeout or requirements are {@code null}.
+   * @throws AssertionError if the actual futures are {@code null} or contain a {@code null} future.
+   * @throws AssertionError if a future did not complete within the given timeout.
+   * @throws AssertionError if the futures in completion order do not satisfy the given requirements.
+   */
+  public CompletableFuturesAssert<RESULT> completionOrderSatisfies(
+      Duration timeout, ThrowingConsumer<? super List<CompletableFuture<? extends RESULT>>> requirements) {
+    requireNonNull(timeout, "non null timeout expected");
+    requireNonNull(requirements, "The Consumer expressing the assertions requirements must not be null");
+    return executeAssertion(() -> requirements.accept(futures.assertAllCompletedWithin(info, actual, timeout)));
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.time.Duration;
+
+import org.assertj.core.annotation.CheckReturnValue;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.internal.Workloads;
+
+/**
+ * Assertions on the performance of a {@link ThrowingCallable}: how long it takes to run and how much memory it allocates.
+ * <p>
+ * The code is run in the calling thread each time an assertion is performed, optionally after some warm-up iterations
+ * (see {@link #withWarmUpIterations(int)}), if the code throws an exception the assertion fails.
+ * <p>
+ * Example:
+ * <pre><code class='java'> assertThatPerformanceOf(() -&gt; parser.parse(document)).withWarmUpIterations(1000)
+ *                                                       .completesWithin(Duration.ofMillis(10))
+ *                                                       .allocatesAtMostBytes(64 * 1024)
+ *                                                       .hasMedianLatencyBelow(Duration.ofMillis(2), 100);</code></pre>
+ * <p>
+ * Measurements depend on the machine and its load, assertions should leave a comfortable margin to not be flaky.
+ *
+ * @since 4.0.0
+ */
+public class PerformanceAssert extends AbstractAssert<PerformanceAssert, ThrowingCallable> {
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  Workloads workloads = Workloads.instance();
+
+  private int warmUpIterations = 0;
+
+  public PerformanceAssert(ThrowingCallable code) {
+    super(code, PerformanceAssert.class);
+  }
+
+  /**
+   * Runs the code the given number of times before each measurement to let the JVM load and compile it, the default is no
+   * warm-up.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatPerformanceOf(() -&gt; cache.get(key)).withWarmUpIterations(10_000)
+   *                                               .completesWithin(Duration.ofNanos(500));</code></pre>
+   *
+   * @param warmUpIterations the number of runs before each measurement.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code warmUpIterations} is negative.
+   */
+  @CheckReturnValue
+  public PerformanceAssert withWarmUpIterations(int warmUpIterations) {
+    checkArgument(warmUpIterations >= 0, "The number of warm-up iterations must not be negative but was %s", warmUpIterations);
+    this.warmUpIterations = warmUpIterations;
+    return myself;
+  }
+
+  /**
+   * Verifies that the code completes within the given duration, the duration of a single run after the warm-up is measured.
+   * <p>
+   * The code is not interrupted if it takes longer than the given duration.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatPerformanceOf(() -&gt; Thread.sleep(10)).completesWithin(Duration.ofSeconds(1));
+   *
+   * // assertion will fail
+   * assertThatPerformanceOf(() -&gt; Thread.sleep(100)).completesWithin(Duration.ofMillis(10));</code></pre>
+   *
+   * @param maxDuration the maximum duration of the code.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given duration is {@code null}.
+   * @throws AssertionError if the code is {@code null}.
+   * @throws AssertionError if the code throws an exception.
+   * @throws AssertionError if the code takes longer than the given duration.
+   */
+  public PerformanceAssert completesWithin(Duration maxDuration) {
+    requireNonNull(maxDuration, "non null duration expected");
+    return executeAssertion(() -> workloads.assertCompletesWithin(info, actual, warmUpIterations, maxDuration));
+  }
+
+  /**
+   * Verifies that a single run of the code after the warm-up allocates at most the given number of bytes.
+   * <p>
+   * Only the memory allocated by the calling thread is measured, it relies on
+   * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} which is supported by HotSpot based JVMs (the
+   * {@code jdk.management} module is required when running on the module path).
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatPerformanceOf(() -&gt; Integer.parseInt("42")).withWarmUpIterations(10_000)
+   *                                                      .allocatesAtMostBytes(0);
+   *
+   * // assertion will fail
+   * assertThatPerformanceOf(() -&gt; new byte[1024]).allocatesAtMostBytes(100);</code></pre>
+   *
+   * @param maxBytes the maximum number of bytes the code can allocate.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code maxBytes} is negative.
+   * @throws UnsupportedOperationException if the JVM does not support measuring the memory allocated by a thread.
+   * @throws AssertionError if the code is {@code null}.
+   * @throws AssertionError if the code throws an exception.
+   * @throws AssertionError if the code allocates more than the given number of bytes.
+   */
+  public PerformanceAssert allocatesAtMostBytes(long maxBytes) {
+    checkArgument(maxBytes >= 0, "The maximum number of bytes must not be negative but was %s", maxBytes);
+    return executeAssertion(() -> workloads.assertAllocatesAtMostBytes(info, actual, warmUpIterations, maxBytes));
+  }
+
+  /**
+   * Verifies that the median latency of the code measured over the given number of runs (after the warm-up) is below the
+   * given duration, the error message reports the percentiles of the measured latencies.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatPerformanceOf(() -&gt; Thread.sleep(1)).hasMedianLatencyBelow(Duration.ofSeconds(1), 10);
+   *
+   * // assertion will fail
+   * assertThatPerformanceOf(() -&gt; Thread.sleep(20)).hasMedianLatencyBelow(Duration.ofMillis(10), 10);</code></pre>
+   *
+   * @param maxMedian the duration the median latency must be below.
+   * @param iterations the number of measured runs.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given duration is {@code null}.
+   * @throws IllegalArgumentException if {@code iterations} is not strictly positive.
+   * @throws AssertionError if the code is {@code null}.
+   * @throws AssertionError if the code throws an exception.
+   * @throws AssertionError if the median latency is not below the given duration.
+   */
+  public PerformanceAssert hasMedianLatencyBelow(Duration maxMedian, int iterations) {
+    requireNonNull(maxMedian, "non null duration expected");
+    checkArgument(iterations > 0, "The number of iterations must be strictly positive but was %s", iterations);
+    return executeAssertion(() -> workloads.assertHasMedianLatencyBelow(info, actual, warmUpIterations, maxMedian, iterations));
+  }
+
+}
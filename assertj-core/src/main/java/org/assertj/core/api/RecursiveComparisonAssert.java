@@ -212,8 +212,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
                                                                                                    recursiveComparisonConfiguration,
                                                                                                    info.representation()));
       if (other != null && actual != null) {
-        List<ComparisonDifference> differences = determineDifferencesWith(other);
-        if (differences.isEmpty())
+        // one difference is enough for the assertion to pass
+        if (!recursiveComparisonDifferenceCalculator.hasDifferences(actual, other, recursiveComparisonConfiguration))
           throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                      recursiveComparisonConfiguration,
                                                                                                      info.representation()));
@@ -2003,6 +2003,64 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison stop at the first difference found instead of exploring the whole object graphs, the
+   * error then only reports that difference.
+   * <p>
+   * This is useful when comparing large object graphs where a single difference is enough to know they are not equal.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Person sherlock = new Person("Sherlock", 1.80);
+   * sherlock.home.address.street = "Baker Street";
+   * sherlock.home.address.number = 221;
+   *
+   * Person moriarty = new Person("Moriarty", 1.75);
+   * moriarty.home.address.street = "Butcher Street";
+   * moriarty.home.address.number = 221;
+   *
+   * // assertion fails reporting only one of the name, height and home.address.street differences
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .stoppingAtFirstDifference()
+   *                     .isEqualTo(moriarty);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF stoppingAtFirstDifference() {
+    recursiveComparisonConfiguration.stopAtFirstDifference();
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison stop as soon as it has found the given number of differences instead of exploring the
+   * whole object graphs, the error then only reports these differences.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Person sherlock = new Person("Sherlock", 1.80);
+   * sherlock.home.address.street = "Baker Street";
+   * sherlock.home.address.number = 221;
+   *
+   * Person moriarty = new Person("Moriarty", 1.75);
+   * moriarty.home.address.street = "Butcher Street";
+   * moriarty.home.address.number = 221;
+   *
+   * // assertion fails reporting only two of the name, height and home.address.street differences
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .withMaxDifferences(2)
+   *                     .isEqualTo(moriarty);</code></pre>
+   *
+   * @param maxDifferences the maximum number of differences to look for.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if {@code maxDifferences} is not strictly positive.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF withMaxDifferences(int maxDifferences) {
+    recursiveComparisonConfiguration.setMaxDifferences(maxDifferences);
+    return myself;
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   SELF withTypeComparators(TypeComparators newTypeComparators) {
     if (newTypeComparators != null) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates the assert instances of {@link SoftAssertionsProvider#proxy(Class, Class, Object)}.
+ * <p>
+ * The constructor of an assert class taking a given actual class is looked up once, the resulting {@link MethodHandle} is
+ * cached per actual class and assert class in nested {@link ClassValue}s.
+ * <p>
+ * The outer one is keyed by the actual class and the inner one by the assert class. That way the {@link MethodHandle},
+ * which references the assert class, is stored with the assert class. The value stored with the actual class (often a JDK
+ * class like {@code String}) only references the actual class. The cache never keeps a custom assert class, or its class
+ * loader, from being unloaded. An assert class does reference its actual class, but its constructor already does.
+ */
+final class SoftAssertConstructors {
+
+  private static final ClassValue<ClassValue<MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+    @Override
+    protected ClassValue<MethodHandle> computeValue(Class<?> actualClass) {
+      return new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> assertClass) {
+          return constructorOf(assertClass, actualClass);
+        }
+      };
+    }
+  };
+
+  /**
+   * Creates an instance of the given assert class with its constructor taking a single parameter of {@code actualClass} type.
+   *
+   * @param <SELF> the type of the assert class
+   * @param assertClass the assert class to instantiate.
+   * @param actualClass the type of the constructor parameter.
+   * @param actual the actual value to pass to the constructor.
+   * @return a new instance of the assert class.
+   * @throws RuntimeException if the constructor can't be found or fails.
+   */
+  static <SELF> SELF newInstance(Class<SELF> assertClass, Class<?> actualClass, Object actual) {
+    MethodHandle constructor = CONSTRUCTORS.get(actualClass).get(assertClass);
+    try {
+      return assertClass.cast(constructor.invokeExact(actual));
+    } catch (Throwable e) {
+      // report constructor failures as Constructor.newInstance did
+      throw creationFailure(assertClass, new InvocationTargetException(e));
+    }
+  }
+
+  private static MethodHandle constructorOf(Class<?> assertClass, Class<?> actualClass) {
+    try {
+      Constructor<?> constructor = assertClass.getDeclaredConstructor(actualClass);
+      constructor.setAccessible(true);
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(methodType(Object.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      // not cached by ClassValue, the lookup is attempted again on the next call
+      throw creationFailure(assertClass, e);
+    }
+  }
+
+  private static RuntimeException creationFailure(Class<?> assertClass, ReflectiveOperationException cause) {
+    return new RuntimeException("Failed to create soft assertion instance for " + assertClass.getName(), cause);
+  }
+
+  private SoftAssertConstructors() {}
+
+}
@@ -15,9 +15,12 @@
  */
 package org.assertj.core.api;
 
-import java.lang.reflect.Constructor;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
 import java.util.function.Consumer;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.opentest4j.MultipleFailuresError;
 
 /**
@@ -40,8 +43,9 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
    * The assertion class must have a public constructor taking a single parameter of {@code actualClass} type.
    * The returned instance will have its {@code softAssertionCollector} set to this provider.
    * <p>
-   * If you happen to already have an instance of an assert class, prefer using {@link #soft(Object) soft(assertionInstance)},
-   * it does the same thing without needing creating a new instance by reflection (which is costly).
+   * The constructor is looked up by reflection once per assertion class and actual class, the following calls reuse it.
+   * If you happen to already have an instance of an assert class, you can also use {@link #soft(Object) soft(assertionInstance)},
+   * it does the same thing without needing to create a new instance.
    *
    * @param <SELF> The type of the assertion class
    * @param <ACTUAL> The type of the object-under-test
@@ -53,17 +57,11 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
   default <SELF extends Assert<? extends SELF, ? extends ACTUAL>, ACTUAL> SELF proxy(Class<SELF> assertClass,
                                                                                      Class<ACTUAL> actualClass,
                                                                                      ACTUAL actual) {
-    try {
-      Constructor<SELF> constructor = assertClass.getDeclaredConstructor(actualClass);
-      constructor.setAccessible(true);
-      SELF instance = constructor.newInstance(actual);
-      if (instance instanceof AbstractAssert<?, ?> abstractAssert) {
-        abstractAssert.assertionErrorHandler = this;
-      }
-      return instance;
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException("Failed to create soft assertion instance for " + assertClass.getName(), e);
+    SELF instance = SoftAssertConstructors.newInstance(assertClass, actualClass, actual);
+    if (instance instanceof AbstractAssert<?, ?> abstractAssert) {
+      abstractAssert.assertionErrorHandler = this;
     }
+    return instance;
   }
 
   /**
@@ -126,6 +124,26 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
     }
   }
 
+  /**
+   * Runs the given assertions until they pass or the given timeout elapses and collects their last failure if they never
+   * passed, see {@link Assertions#eventually(Duration, ThrowingCallable)}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.eventually(Duration.ofSeconds(5), () -&gt; Assertions.assertThat(inbox.messages()).hasSize(2));
+   * softly.assertAll(); </code></pre>
+   *
+   * @param timeout the duration the assertions have to pass.
+   * @param assertions the assertions to run.
+   * @throws NullPointerException if {@code timeout} or {@code assertions} is {@code null}.
+   * @throws IllegalArgumentException if {@code timeout} is negative.
+   * @since 4.0.0
+   */
+  default void eventually(Duration timeout, ThrowingCallable assertions) {
+    requireNonNull(assertions, "non null assertions expected");
+    check(() -> Assertions.eventually(timeout, assertions));
+  }
+
   /**
   * Use this to avoid having to call assertAll manually.
   *
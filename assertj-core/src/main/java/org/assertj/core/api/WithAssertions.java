@@ -70,6 +70,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
@@ -3076,6 +3077,87 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThatNoException();
   }
 
+  /**
+   * Creates a new instance of <code>{@link PerformanceAssert}</code> to check how long the given code takes to run and how
+   * much memory it allocates.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatPerformanceOf(() -&gt; parser.parse(document)).withWarmUpIterations(1000)
+   *                                                       .completesWithin(Duration.ofMillis(10))
+   *                                                       .allocatesAtMostBytes(64 * 1024);</code></pre>
+   *
+   * @param code the code to measure.
+   * @return the created {@link PerformanceAssert}.
+   * @since 4.0.0
+   */
+  default PerformanceAssert assertThatPerformanceOf(ThrowingCallable code) {
+    return Assertions.assertThatPerformanceOf(code);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link WorkloadAssert}</code> to check how the execution time of the given workload
+   * grows with its size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatWorkload(size -&gt; {
+   *   List&lt;Integer&gt; list = randomIntegers(size);
+   *   return () -&gt; assertThat(list).containsOnly(0, 1);
+   * }).scalesLinearly();</code></pre>
+   *
+   * @param workload creates the code to measure for a given size.
+   * @return the created {@link WorkloadAssert}.
+   * @since 4.0.0
+   */
+  default WorkloadAssert assertThatWorkload(IntFunction<Runnable> workload) {
+    return Assertions.assertThatWorkload(workload);
+  }
+
+  /**
+   * Runs the given assertions until they pass or the given timeout elapses, this is useful to check asynchronous code whose
+   * outcome is not immediately visible.
+   * <p>
+   * The delay between two runs starts at a millisecond and doubles after each failed run, up to 100 milliseconds. Once
+   * the timeout has elapsed, the failure of the last run is reported along with the number of runs.
+   * <p>
+   * Exceptions thrown by the assertions are considered as failures, the assertions are run in the calling thread.
+   * <p>
+   * Example:
+   * <pre><code class='java'> orderService.submit(order);
+   *
+   * eventually(Duration.ofSeconds(5), () -&gt; assertThat(orderRepository.findById(order.id())).hasValueSatisfying(
+   *     savedOrder -&gt; assertThat(savedOrder.status()).isEqualTo(SHIPPED)));</code></pre>
+   *
+   * @param timeout the duration the assertions have to pass.
+   * @param assertions the assertions to run.
+   * @throws NullPointerException if {@code timeout} or {@code assertions} is {@code null}.
+   * @throws IllegalArgumentException if {@code timeout} is negative.
+   * @throws AssertionError if the assertions still fail once the timeout has elapsed.
+   * @since 4.0.0
+   */
+  default void eventually(Duration timeout, ThrowingCallable assertions) {
+    Assertions.eventually(timeout, assertions);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link CompletableFuturesAssert}</code> to check a group of futures, waiting for all of
+   * them together under a single deadline instead of one after the other.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;CompletableFuture&lt;Order&gt;&gt; orders = orderService.loadAllAsync(ids);
+   *
+   * assertThatFutures(orders).allSucceedWithin(Duration.ofSeconds(5))
+   *                          .extracting(Order::status)
+   *                          .containsOnly(SHIPPED);</code></pre>
+   *
+   * @param <RESULT> the type of the futures results.
+   * @param futures the futures to check.
+   * @return the created {@link CompletableFuturesAssert}.
+   * @since 4.0.0
+   */
+  default <RESULT> CompletableFuturesAssert<RESULT> assertThatFutures(Iterable<? extends CompletableFuture<? extends RESULT>> futures) {
+    return Assertions.assertThatFutures(futures);
+  }
+
   /**
    * Alias for {@link #assertThatExceptionOfType(Class)} for {@link NullPointerException}.
    *
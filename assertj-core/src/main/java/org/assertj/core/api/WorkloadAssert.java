@@ -0,0 +1,225 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.assertj.core.annotation.CheckReturnValue;
+import org.assertj.core.internal.Complexity;
+import org.assertj.core.internal.Workloads;
+
+/**
+ * Assertions on how the execution time of a workload grows with its size.
+ * <p>
+ * The workload is a function creating the code to measure for a given size, it is run over a geometric series of sizes
+ * (1 000 to 64 000 by default, see {@link #withSizes(int...)}) and the measured exponent (the slope of the log-log
+ * regression line of the execution times over the sizes) is compared to the one of the expected complexity.
+ * <p>
+ * The code created for a size is run several times (warm-up and measured iterations), it must thus give the same result
+ * each time it is run, preparing data should be done when creating the code as it is not measured.
+ * <p>
+ * Example:
+ * <pre><code class='java'> assertThatWorkload(size -&gt; {
+ *   List&lt;Integer&gt; list = randomIntegers(size);
+ *   return () -&gt; assertThat(list).containsOnly(0, 1);
+ * }).scalesLinearly();</code></pre>
+ * <p>
+ * Measurements depend on the machine and its load, assertions check an upper bound of the growth rate with a tolerance (see
+ * {@link #withTolerance(double)}) to tell complexities apart without being flaky.
+ *
+ * @since 4.0.0
+ */
+public class WorkloadAssert extends AbstractAssert<WorkloadAssert, IntFunction<Runnable>> {
+
+  private static final int[] DEFAULT_SIZES = geometricSizes(1_000, 64_000);
+  private static final double DEFAULT_TOLERANCE = 0.25;
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  Workloads workloads = Workloads.instance();
+
+  private int[] sizes = DEFAULT_SIZES;
+  private int warmUpIterations = 3;
+  private int iterations = 5;
+  private double tolerance = DEFAULT_TOLERANCE;
+
+  public WorkloadAssert(IntFunction<Runnable> workload) {
+    super(workload, WorkloadAssert.class);
+  }
+
+  /**
+   * Sets the sizes to run the workload at, the default sizes are 1 000, 2 000, 4 000 ... up to 64 000.
+   * <p>
+   * Sizes should be large enough for the workload execution time to be well above the timer resolution and spread over
+   * at least one order of magnitude.
+   *
+   * @param sizes the sizes to run the workload at.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if there are less than two distinct sizes or if a size is less than 2.
+   */
+  @CheckReturnValue
+  public WorkloadAssert withSizes(int... sizes) {
+    checkArgument(sizes != null && IntStream.of(sizes).distinct().count() >= 2,
+                  "At least two distinct sizes are expected to measure a growth rate");
+    // n log n is 0 for a size of 1 which makes its exponent undefined
+    checkArgument(IntStream.of(sizes).allMatch(size -> size >= 2), "The sizes must be greater than or equal to 2");
+    this.sizes = IntStream.of(sizes).sorted().toArray();
+    return myself;
+  }
+
+  /**
+   * Sets the sizes to run the workload at to the geometric series starting at {@code minSize} and doubling up to
+   * {@code maxSize}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // runs the workload at the 10 000, 20 000, 40 000 and 80 000 sizes
+   * assertThatWorkload(workload).withSizesDoublingFrom(10_000, 80_000)
+   *                             .scalesLinearly();</code></pre>
+   *
+   * @param minSize the smallest size.
+   * @param maxSize the largest size.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code minSize} is less than 2 or if {@code maxSize} is less than twice
+   *           {@code minSize}.
+   */
+  @CheckReturnValue
+  public WorkloadAssert withSizesDoublingFrom(int minSize, int maxSize) {
+    checkArgument(minSize >= 2, "The minimum size must be greater than or equal to 2 but was %s", minSize);
+    checkArgument(maxSize / 2 >= minSize, "The maximum size must be at least twice the minimum size");
+    sizes = geometricSizes(minSize, maxSize);
+    return myself;
+  }
+
+  /**
+   * Sets the number of times the workload of each size is run before being measured, the default is 3.
+   *
+   * @param warmUpIterations the number of runs before measuring the workload of each size.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code warmUpIterations} is negative.
+   */
+  @CheckReturnValue
+  public WorkloadAssert withWarmUpIterations(int warmUpIterations) {
+    checkArgument(warmUpIterations >= 0, "The number of warm-up iterations must not be negative but was %s", warmUpIterations);
+    this.warmUpIterations = warmUpIterations;
+    return myself;
+  }
+
+  /**
+   * Sets the number of times the workload of each size is measured, the fastest run is kept, the default is 5.
+   *
+   * @param iterations the number of measured runs for each size.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code iterations} is not strictly positive.
+   */
+  @CheckReturnValue
+  public WorkloadAssert withIterations(int iterations) {
+    checkArgument(iterations > 0, "The number of iterations must be strictly positive but was %s", iterations);
+    this.iterations = iterations;
+    return myself;
+  }
+
+  /**
+   * Sets how much the measured exponent can exceed the exponent of the expected complexity, the default is 0.25.
+   * <p>
+   * For reference, the exponent of a linear complexity is 1, the one of a quadratic complexity is 2 and the one of a
+   * n log n complexity is slightly above 1 (about 1.1 over the default sizes).
+   *
+   * @param tolerance the accepted excess of the measured exponent.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code tolerance} is negative.
+   */
+  @CheckReturnValue
+  public WorkloadAssert withTolerance(double tolerance) {
+    checkArgument(tolerance >= 0, "The tolerance must not be negative but was %s", tolerance);
+    this.tolerance = tolerance;
+    return myself;
+  }
+
+  /**
+   * Verifies that the execution time of the workload grows at most linearly with its size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatWorkload(size -&gt; {
+   *   List&lt;Integer&gt; list = randomIntegers(size);
+   *   return () -&gt; list.stream().mapToInt(Integer::intValue).sum();
+   * }).scalesLinearly();
+   *
+   * // assertion will fail
+   * assertThatWorkload(size -&gt; {
+   *   List&lt;Integer&gt; list = randomIntegers(size);
+   *   return () -&gt; list.forEach(i -&gt; list.indexOf(i));
+   * }).scalesLinearly();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the workload is {@code null}.
+   * @throws AssertionError if the workload throws an exception.
+   * @throws AssertionError if the measured exponent exceeds 1 plus the tolerance.
+   */
+  public WorkloadAssert scalesLinearly() {
+    return scalesAtMost(Complexity.LINEAR);
+  }
+
+  /**
+   * Verifies that the execution time of the workload grows at most as {@code n log n} with its size {@code n}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatWorkload(size -&gt; {
+   *   int[] array = randomInts(size);
+   *   return () -&gt; Arrays.sort(array.clone());
+   * }).scalesAtMostNLogN();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the workload is {@code null}.
+   * @throws AssertionError if the workload throws an exception.
+   * @throws AssertionError if the measured exponent exceeds the exponent of {@code n log n} over the sizes plus the tolerance.
+   */
+  public WorkloadAssert scalesAtMostNLogN() {
+    return scalesAtMost(Complexity.N_LOG_N);
+  }
+
+  /**
+   * Verifies that the execution time of the workload grows at most quadratically with its size.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatWorkload(size -&gt; {
+   *   List&lt;Integer&gt; list = randomIntegers(size);
+   *   return () -&gt; list.forEach(i -&gt; list.indexOf(i));
+   * }).scalesAtMostQuadratically();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the workload is {@code null}.
+   * @throws AssertionError if the workload throws an exception.
+   * @throws AssertionError if the measured exponent exceeds 2 plus the tolerance.
+   */
+  public WorkloadAssert scalesAtMostQuadratically() {
+    return scalesAtMost(Complexity.QUADRATIC);
+  }
+
+  private WorkloadAssert scalesAtMost(Complexity complexity) {
+    return executeAssertion(() -> workloads.assertScalesAtMost(info, actual, sizes, warmUpIterations, iterations, complexity,
+                                                               tolerance));
+  }
+
+  private static int[] geometricSizes(int minSize, int maxSize) {
+    return IntStream.iterate(minSize, size -> size > 0 && size <= maxSize, size -> size * 2).toArray();
+  }
+
+}
@@ -22,7 +22,6 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Arrays.isArray;
 
-import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +38,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
-import java.util.stream.Stream;
 
 // logically immutable
 public final class DualValue {
@@ -68,6 +66,15 @@ public final class DualValue {
     return identityHashCode(actual) + identityHashCode(expected) + fieldLocation.hashCode();
   }
 
+  // node types are cached per class, looking them up is cheaper than storing them in each dual value
+  NodeType actualType() {
+    return NodeType.of(actual);
+  }
+
+  NodeType expectedType() {
+    return NodeType.of(expected);
+  }
+
   @Override
   public boolean equals(Object other) {
     if (!(other instanceof DualValue that)) return false;
@@ -120,26 +127,17 @@ public final class DualValue {
   }
 
   public boolean isActualJavaType() {
-    return isJavaType(actual);
+    return actualType().javaType;
   }
 
   public boolean isExpectedJavaType() {
-    return isJavaType(expected);
+    return expectedType().javaType;
   }
 
   public boolean hasSomeJavaTypeValue() {
     return isActualJavaType() || isExpectedJavaType();
   }
 
-  private static boolean isJavaType(Object o) {
-    if (o == null) return false;
-    String className = o.getClass().getName();
-    return className.startsWith("java.")
-           || className.startsWith("javax.")
-           || className.startsWith("sun.")
-           || className.startsWith("com.sun.");
-  }
-
   public boolean isExpectedAnArray() {
     return isArray(expected);
   }
@@ -264,29 +262,19 @@ public final class DualValue {
   }
 
   public boolean isActualAnOrderedCollection() {
-    return isAnOrderedCollection(actual);
+    return actualType().orderedCollection;
   }
 
   public boolean isExpectedAnOrderedCollection() {
-    return isAnOrderedCollection(expected);
+    return expectedType().orderedCollection;
   }
 
   public boolean isActualAnIterable() {
-    return isAnIterable(actual);
+    return actualType().iterable;
   }
 
   public boolean isExpectedAnIterable() {
-    return isAnIterable(expected);
-  }
-
-  private static boolean isAnIterable(Object value) {
-    // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
-    // Iterable are compared element by element recursively
-    // Ex: /tmp/foo.txt path has /tmp as its first element
-    // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
-    // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
-    // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
-    return value instanceof Iterable && !(value instanceof Path || isAJsonValueNode(value) || isAnObjectNode(value));
+    return expectedType().iterable;
   }
 
   public boolean isActualAThrowable() {
@@ -298,11 +286,11 @@ public final class DualValue {
   }
 
   public boolean isExpectedAnEnum() {
-    return expected != null && expected.getClass().isEnum();
+    return expectedType().kind == NodeKind.ENUM;
   }
 
   public boolean isActualAnEnum() {
-    return actual != null && actual.getClass().isEnum();
+    return actualType().kind == NodeKind.ENUM;
   }
 
   public boolean hasNoContainerValues() {
@@ -318,43 +306,7 @@ public final class DualValue {
   }
 
   public boolean hasPotentialCyclingValues() {
-    return isPotentialCyclingValue(actual) && isPotentialCyclingValue(expected);
-  }
-
-  private static boolean isAJsonValueNode(Object value) {
-    try {
-      Class<?> valueNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ValueNode");
-      return valueNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be a ValueNode because the class couldn't be located
-      return false;
-    }
-  }
-
-  private static boolean isAnObjectNode(Object value) {
-    try {
-      Class<?> objectNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ObjectNode");
-      return objectNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be an ObjectNode because the class couldn't be located
-      return false;
-    }
-  }
-
-  private static boolean isAnOrderedCollection(Object value) {
-    return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(type -> type.isInstance(value));
-  }
-
-  private static boolean isPotentialCyclingValue(Object object) {
-    if (object == null) return false;
-    // java.lang are base types that can't cycle to themselves or other types
-    // we could check more types, but that's a good start
-    String canonicalName = object.getClass().getCanonicalName();
-    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
-    if (canonicalName == null) return true;
-    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
-    if (object.getClass().isEnum()) return false;
-    return !canonicalName.startsWith("java.lang");
+    return actualType().potentialCyclingValue && expectedType().potentialCyclingValue;
   }
 
   boolean hasAncestor(DualValue dualValue) {
@@ -21,9 +21,15 @@ import java.util.LinkedList;
 // special deque that can ignore DualValue according to RecursiveComparisonConfiguration.
 class DualValueDeque extends LinkedList<DualValue> {
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private final FieldRules fieldRules;
 
   public DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this(recursiveComparisonConfiguration, null);
+  }
+
+  DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration, FieldRules fieldRules) {
     this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    this.fieldRules = fieldRules;
   }
 
   @Override
@@ -65,7 +71,7 @@ class DualValueDeque extends LinkedList<DualValue> {
    * @return true if we want to register the value for evaluation, false otherwise
    */
   private boolean shouldNotEvaluate(DualValue dualValue) {
-    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue);
+    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldRules);
   }
 
   private boolean shouldAddDualValue(DualValue dualValue) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The field rules of a {@link RecursiveComparisonConfiguration} compiled for the duration of a comparison.
+ * <p>
+ * The ignored and compared fields are stored in path tries, the rules decisions are memoized by
+ * {@link FieldLocation#getPathToUseInRules() path to use in rules} so that the regexes and field lists are only evaluated once
+ * per distinct path, whatever the number of elements sharing that path (ex: {@code orders.lines.sku}).
+ * <p>
+ * The rules are compiled by each comparison and passed to the {@link RecursiveComparisonConfiguration} methods evaluating them,
+ * these methods evaluate the configuration rules directly when given {@code null} field rules.
+ * <p>
+ * The rules are captured when compiling, the configuration must not be changed while comparing.
+ */
+final class FieldRules {
+
+  private final FieldPathTrie ignoredFields;
+  private final List<Pattern> ignoredFieldsRegexes;
+  private final FieldPathTrie comparedFields;
+  private final Set<String> exactlyComparedFields;
+  private final Set<String> ignoredOverriddenEqualsForFields;
+  private final List<Pattern> ignoredOverriddenEqualsForFieldsMatchingRegexes;
+  private final Set<String> ignoredCollectionOrderInFields;
+  private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes;
+  private final FieldComparators fieldComparators;
+  // comparisons can share a configuration across threads
+  private final Map<String, PathRules> rulesByPath = new ConcurrentHashMap<>();
+
+  FieldRules(RecursiveComparisonConfiguration configuration) {
+    ignoredFields = new FieldPathTrie();
+    // the root path is never ignored, see FieldLocation.hierarchyMatches
+    configuration.getIgnoredFields().stream()
+                 .filter(ignoredField -> ignoredField != null && !ignoredField.isEmpty())
+                 .forEach(ignoredFields::add);
+    ignoredFieldsRegexes = new ArrayList<>(configuration.getIgnoredFieldsRegexes());
+    comparedFields = new FieldPathTrie();
+    exactlyComparedFields = new HashSet<>();
+    for (FieldLocation comparedField : configuration.getComparedFields()) {
+      comparedFields.add(comparedField.getPathToUseInRules());
+      exactlyComparedFields.add(comparedField.getPathToUseInRules());
+    }
+    ignoredOverriddenEqualsForFields = new HashSet<>(configuration.getIgnoredOverriddenEqualsForFields());
+    ignoredOverriddenEqualsForFieldsMatchingRegexes = new ArrayList<>(configuration.getIgnoredOverriddenEqualsForFieldsMatchingRegexes());
+    ignoredCollectionOrderInFields = new HashSet<>(configuration.getIgnoredCollectionOrderInFields());
+    ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>(configuration.getIgnoredCollectionOrderInFieldsMatchingRegexes());
+    fieldComparators = configuration.getFieldComparators();
+  }
+
+  /**
+   * Returns whether the field or one of its parents is an ignored field or matches an ignored field regex.
+   */
+  boolean isIgnored(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).ignored;
+  }
+
+  /**
+   * Returns whether the field is the root, a compared field, a parent or a child of one.
+   */
+  boolean isCompared(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).compared;
+  }
+
+  boolean isExactlyCompared(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).exactlyCompared;
+  }
+
+  boolean isOverriddenEqualsIgnored(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).overriddenEqualsIgnored;
+  }
+
+  boolean isCollectionOrderIgnored(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).collectionOrderIgnored;
+  }
+
+  Comparator<?> comparatorFor(String pathToUseInRules) {
+    return rulesFor(pathToUseInRules).comparator;
+  }
+
+  private PathRules rulesFor(String pathToUseInRules) {
+    PathRules rules = rulesByPath.get(pathToUseInRules);
+    if (rules != null) return rules;
+    // not computeIfAbsent as computing the rules of a path looks up the rules of its parent
+    rules = new PathRules(pathToUseInRules);
+    PathRules concurrentlyComputedRules = rulesByPath.putIfAbsent(pathToUseInRules, rules);
+    return concurrentlyComputedRules != null ? concurrentlyComputedRules : rules;
+  }
+
+  private final class PathRules {
+
+    private final boolean ignoredByRegex;
+    private final boolean ignored;
+    private final boolean compared;
+    private final boolean exactlyCompared;
+    private final boolean overriddenEqualsIgnored;
+    private final boolean collectionOrderIgnored;
+    private final Comparator<?> comparator;
+
+    private PathRules(String path) {
+      // a field is ignored if itself or one of its parents is, regexes are matched against the path and its parents paths
+      // and the parents rules are reused as they are likely already computed
+      ignoredByRegex = !path.isEmpty() && (anyMatch(ignoredFieldsRegexes, path) || parentIgnoredByRegex(path));
+      ignored = ignoredByRegex || ignoredFields.containsPrefixOf(path);
+      compared = path.isEmpty() || comparedFields.containsPrefixOrExtensionOf(path);
+      exactlyCompared = exactlyComparedFields.contains(path);
+      overriddenEqualsIgnored = ignoredOverriddenEqualsForFields.contains(path)
+                                || anyMatch(ignoredOverriddenEqualsForFieldsMatchingRegexes, path);
+      collectionOrderIgnored = ignoredCollectionOrderInFields.contains(path)
+                               || anyMatch(ignoredCollectionOrderInFieldsMatchingRegexes, path);
+      comparator = fieldComparators.getComparatorForField(path);
+    }
+
+    private boolean parentIgnoredByRegex(String path) {
+      int lastSeparator = path.lastIndexOf(FIELD_SEPARATOR);
+      return lastSeparator > 0 && rulesFor(path.substring(0, lastSeparator)).ignoredByRegex;
+    }
+  }
+
+  private static boolean anyMatch(List<Pattern> regexes, String path) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(path).matches()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Trie of field paths split on {@link FieldLocation#FIELD_SEPARATOR}.
+   */
+  private static final class FieldPathTrie {
+
+    private final Node root = new Node();
+
+    void add(String path) {
+      Node node = root;
+      for (String subPath : split(path)) {
+        node = node.children.computeIfAbsent(subPath, key -> new Node());
+      }
+      node.isPath = true;
+    }
+
+    /**
+     * Returns whether one of the paths is the given path or one of its parents.
+     */
+    boolean containsPrefixOf(String path) {
+      Node node = root;
+      for (String subPath : split(path)) {
+        node = node.children.get(subPath);
+        if (node == null) return false;
+        if (node.isPath) return true;
+      }
+      return false;
+    }
+
+    /**
+     * Returns whether one of the paths is the given path, one of its parents or one of its children.
+     */
+    boolean containsPrefixOrExtensionOf(String path) {
+      Node node = root;
+      for (String subPath : split(path)) {
+        node = node.children.get(subPath);
+        if (node == null) return false;
+        if (node.isPath) return true;
+      }
+      return !node.children.isEmpty();
+    }
+
+    private static String[] split(String path) {
+      // keep empty sub paths to match the string prefix semantic of FieldLocation
+      return path.split(Pattern.quote(FIELD_SEPARATOR), -1);
+    }
+
+    private static final class Node {
+      private final Map<String, Node> children = new HashMap<>();
+      private boolean isPath;
+    }
+  }
+
+}
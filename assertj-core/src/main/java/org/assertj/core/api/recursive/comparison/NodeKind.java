@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+/**
+ * The kinds of nodes the recursive comparison compares specifically, a node is compared according to the kind of its
+ * expected value, see {@link NodeType}.
+ * <p>
+ * The constants are declared in the order the kinds are checked, a value whose class matches several kinds (ex: an
+ * {@link Iterable} {@link java.util.Map Map}) is of the first one.
+ */
+enum NodeKind {
+
+  NULL,
+  ENUM,
+  THROWABLE,
+  ARRAY,
+  ORDERED_COLLECTION,
+  ITERABLE,
+  OPTIONAL,
+  SORTED_MAP,
+  MAP,
+  ATOMIC_BOOLEAN,
+  ATOMIC_INTEGER,
+  ATOMIC_INTEGER_ARRAY,
+  ATOMIC_LONG,
+  ATOMIC_LONG_ARRAY,
+  ATOMIC_REFERENCE,
+  ATOMIC_REFERENCE_ARRAY,
+  /**
+   * Any other value, compared with equals if it is a java type or introspected otherwise.
+   */
+  OBJECT
+
+}
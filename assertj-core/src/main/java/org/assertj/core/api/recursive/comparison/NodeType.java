@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+/**
+ * What the recursive comparison needs to know about the class of a value: its {@link NodeKind} and a few properties that
+ * are costly to compute (class name checks, Jackson node lookups).
+ * <p>
+ * Node types only depend on the class of the value, they are computed once per class and cached.
+ */
+final class NodeType {
+
+  private static final ClassValue<NodeType> NODE_TYPES = new ClassValue<>() {
+    @Override
+    protected NodeType computeValue(Class<?> type) {
+      return new NodeType(type);
+    }
+  };
+
+  static final NodeType NULL_TYPE = new NodeType();
+
+  final NodeKind kind;
+  final boolean javaType;
+  final boolean iterable;
+  final boolean orderedCollection;
+  final boolean potentialCyclingValue;
+
+  static NodeType of(Object value) {
+    return value == null ? NULL_TYPE : NODE_TYPES.get(value.getClass());
+  }
+
+  private NodeType() {
+    kind = NodeKind.NULL;
+    javaType = false;
+    iterable = false;
+    orderedCollection = false;
+    potentialCyclingValue = false;
+  }
+
+  private NodeType(Class<?> type) {
+    javaType = isJavaType(type);
+    iterable = isAnIterable(type);
+    orderedCollection = isAnOrderedCollection(type);
+    potentialCyclingValue = isPotentialCyclingValue(type);
+    kind = kindOf(type);
+  }
+
+  private NodeKind kindOf(Class<?> type) {
+    if (type.isEnum()) return NodeKind.ENUM;
+    if (Throwable.class.isAssignableFrom(type)) return NodeKind.THROWABLE;
+    if (type.isArray()) return NodeKind.ARRAY;
+    if (orderedCollection) return NodeKind.ORDERED_COLLECTION;
+    if (iterable) return NodeKind.ITERABLE;
+    if (Optional.class.isAssignableFrom(type)) return NodeKind.OPTIONAL;
+    if (SortedMap.class.isAssignableFrom(type)) return NodeKind.SORTED_MAP;
+    if (Map.class.isAssignableFrom(type)) return NodeKind.MAP;
+    if (AtomicBoolean.class.isAssignableFrom(type)) return NodeKind.ATOMIC_BOOLEAN;
+    if (AtomicInteger.class.isAssignableFrom(type)) return NodeKind.ATOMIC_INTEGER;
+    if (AtomicIntegerArray.class.isAssignableFrom(type)) return NodeKind.ATOMIC_INTEGER_ARRAY;
+    if (AtomicLong.class.isAssignableFrom(type)) return NodeKind.ATOMIC_LONG;
+    if (AtomicLongArray.class.isAssignableFrom(type)) return NodeKind.ATOMIC_LONG_ARRAY;
+    if (AtomicReference.class.isAssignableFrom(type)) return NodeKind.ATOMIC_REFERENCE;
+    if (AtomicReferenceArray.class.isAssignableFrom(type)) return NodeKind.ATOMIC_REFERENCE_ARRAY;
+    return NodeKind.OBJECT;
+  }
+
+  private static boolean isJavaType(Class<?> type) {
+    String className = type.getName();
+    return className.startsWith("java.")
+           || className.startsWith("javax.")
+           || className.startsWith("sun.")
+           || className.startsWith("com.sun.");
+  }
+
+  private static boolean isAnIterable(Class<?> type) {
+    // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
+    // Iterable are compared element by element recursively
+    // Ex: /tmp/foo.txt path has /tmp as its first element
+    // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
+    // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
+    // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
+    return Iterable.class.isAssignableFrom(type)
+           && !(Path.class.isAssignableFrom(type)
+                || isA(type, "com.fasterxml.jackson.databind.node.ValueNode")
+                || isA(type, "com.fasterxml.jackson.databind.node.ObjectNode"));
+  }
+
+  private static boolean isA(Class<?> type, String className) {
+    try {
+      return Class.forName(className).isAssignableFrom(type);
+    } catch (ClassNotFoundException e) {
+      // type cannot be a subtype of className because the class couldn't be located
+      return false;
+    }
+  }
+
+  private static boolean isAnOrderedCollection(Class<?> type) {
+    return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(orderedType -> orderedType.isAssignableFrom(type));
+  }
+
+  private static boolean isPotentialCyclingValue(Class<?> type) {
+    // java.lang are base types that can't cycle to themselves or other types
+    // we could check more types, but that's a good start
+    String canonicalName = type.getCanonicalName();
+    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
+    if (canonicalName == null) return true;
+    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
+    if (type.isEnum()) return false;
+    return !canonicalName.startsWith("java.lang");
+  }
+
+}
@@ -27,6 +27,7 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Array;
@@ -107,6 +108,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int maxDifferences = Integer.MAX_VALUE;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -129,6 +132,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.maxDifferences = builder.maxDifferences;
     if (builder.ignoreTransientFields) {
       this.introspectionStrategy.ignoreTransientFields();
     }
@@ -150,10 +154,19 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean hasComparatorForField(String fieldName) {
-    return fieldComparators.hasComparatorForField(fieldName);
+    return hasComparatorForField(fieldName, null);
+  }
+
+  boolean hasComparatorForField(String fieldName, FieldRules fieldRules) {
+    return getComparatorForField(fieldName, fieldRules) != null;
   }
 
   public Comparator<?> getComparatorForField(String fieldName) {
+    return getComparatorForField(fieldName, null);
+  }
+
+  Comparator<?> getComparatorForField(String fieldName, FieldRules fieldRules) {
+    if (fieldRules != null) return fieldRules.comparatorFor(fieldName);
     return fieldComparators.getComparatorForField(fieldName);
   }
 
@@ -735,6 +748,46 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Makes the recursive comparison stop as soon as it has found the given number of differences, the other differences
+   * are not looked for and thus not reported.
+   * <p>
+   * This speeds up comparing large object graphs when only a few differences are needed to figure out what went wrong.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for code examples.
+   *
+   * @param maxDifferences the maximum number of differences to look for.
+   * @throws IllegalArgumentException if {@code maxDifferences} is not strictly positive.
+   * @since 4.0.0
+   */
+  public void setMaxDifferences(int maxDifferences) {
+    checkArgument(maxDifferences > 0, "The maximum number of differences must be strictly positive but was %s", maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  /**
+   * Makes the recursive comparison stop at the first difference found, the other differences are not looked for and thus
+   * not reported.
+   * <p>
+   * See {@link RecursiveComparisonAssert#stoppingAtFirstDifference()} for code examples.
+   *
+   * @since 4.0.0
+   */
+  public void stopAtFirstDifference() {
+    setMaxDifferences(1);
+  }
+
+  /**
+   * Returns the number of differences after which the recursive comparison stops, {@link Integer#MAX_VALUE} by default
+   * meaning that all differences are reported.
+   *
+   * @return the maximum number of differences the recursive comparison looks for.
+   * @since 4.0.0
+   */
+  public int getMaxDifferences() {
+    return maxDifferences;
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -748,7 +801,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder, maxDifferences);
   }
 
   @Override
@@ -780,7 +833,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && maxDifferences == other.maxDifferences;
   }
 
   public String multiLineDescription(Representation representation) {
@@ -809,25 +863,35 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeMaxDifferences(description);
     return description.toString();
   }
 
   public boolean shouldNotEvaluate(DualValue dualValue) {
+    return shouldNotEvaluate(dualValue, null);
+  }
+
+  boolean shouldNotEvaluate(DualValue dualValue, FieldRules fieldRules) {
     // if we have some compared types, we can't discard any values since they could have fields we need to compare.
     if (hasComparedTypes()) return false;
-    return shouldIgnore(dualValue);
+    return shouldIgnore(dualValue, fieldRules);
   }
 
   public boolean shouldIgnore(DualValue dualValue) {
-    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation)
+    return shouldIgnore(dualValue, null);
+  }
+
+  boolean shouldIgnore(DualValue dualValue, FieldRules fieldRules) {
+    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation, fieldRules)
            || shouldIgnoreFieldBasedOnFieldValue(dualValue);
   }
 
-  private boolean shouldBeCompared(DualValue dualValue) {
+  private boolean shouldBeCompared(DualValue dualValue, FieldRules fieldRules) {
     // no comparedFields nor comparedTypes <=> no restriction on compared fields => everything must be compared
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (hasComparedTypes()) return true;
+    if (fieldRules != null) return fieldRules.isCompared(dualValue.getConcatenatedPath());
     return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
   }
 
@@ -842,6 +906,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodeNamesToCompare(dualValue, null);
+  }
+
+  Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue, FieldRules fieldRules) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
     // if we have some compared types, we can't discard any fields since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
@@ -856,11 +924,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // DualValues are built by introspecting node values which is expensive.
     return actualChildrenNodeNames.stream()
                                   // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
+                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName),
+                                                                                                fieldRules))
                                   .map(fieldName -> dualValueForField(dualValue, fieldName))
                                   // evaluate field value ignoring criteria
                                   .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
+                                  .filter(fieldDualValue -> shouldBeCompared(fieldDualValue, fieldRules))
                                   // back to field name
                                   .map(DualValue::getFieldName)
                                   .filter(fieldName -> !fieldName.isEmpty())
@@ -868,6 +937,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public Set<String> getExpectedChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getExpectedChildrenNodeNamesToCompare(dualValue, null);
+  }
+
+  Set<String> getExpectedChildrenNodeNamesToCompare(DualValue dualValue, FieldRules fieldRules) {
     Set<String> expectedChildrenNodeNames = getChildrenNodeNamesOf(dualValue.expected);
     // if we have some compared types, we can't discard any fields since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
@@ -882,11 +955,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // DualValues are built by introspecting node values which is expensive.
     return expectedChildrenNodeNames.stream()
                                     // evaluate field name ignoring criteria on dualValue field location + field name
-                                    .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
+                                    .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName),
+                                                                                                fieldRules))
                                     .map(fieldName -> dualValueForField(dualValue, fieldName))
                                     // evaluate field value ignoring criteria
                                     .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                    .filter(this::shouldBeCompared)
+                                    .filter(fieldDualValue -> shouldBeCompared(fieldDualValue, fieldRules))
                                     // back to field name
                                     .map(DualValue::getFieldName)
                                     .filter(fieldName -> !fieldName.isEmpty())
@@ -909,7 +983,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
+  boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation, FieldRules fieldRules) {
+    if (fieldRules != null) return fieldRules.isIgnored(fieldLocation.getPathToUseInRules());
     return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
   }
 
@@ -929,8 +1004,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   boolean hasCustomComparator(DualValue dualValue) {
+    return hasCustomComparator(dualValue, null);
+  }
+
+  boolean hasCustomComparator(DualValue dualValue, FieldRules fieldRules) {
     String fieldName = dualValue.getConcatenatedPath();
-    if (hasComparatorForField(fieldName)) return true;
+    if (hasComparatorForField(fieldName, fieldRules)) return true;
     if (dualValue.actual == null && dualValue.expected == null) return false;
     Class<?> expectedType = dualValue.expected != null ? dualValue.expected.getClass() : null;
     // use expected type when actual is null, we assume here as best effort that actual and expected have the same type
@@ -950,15 +1029,19 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean shouldHonorOverriddenEquals(DualValue dualValue) {
+    return shouldHonorOverriddenEquals(dualValue, null);
+  }
+
+  boolean shouldHonorOverriddenEquals(DualValue dualValue, FieldRules fieldRules) {
     // root objects are not compared with equals as it makes the recursive comparison pointless (use isEqualsTo instead)
     if (dualValue.fieldLocation.isRoot()) return false;
     // we must only honor overridden equals on compared fields if any, we need to introspect recursively non compared
     // fields in case a direct or indirect child is a compared field
-    if (someComparedFieldsWereSpecified() && isNotAComparedField(dualValue)) {
+    if (someComparedFieldsWereSpecified() && isNotAComparedField(dualValue, fieldRules)) {
       return false;
     }
     return !ignoreAllOverriddenEquals
-           && !matchesAnIgnoredOverriddenEqualsField(dualValue)
+           && !matchesAnIgnoredOverriddenEqualsField(dualValue, fieldRules)
            && !shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass());
   }
 
@@ -967,8 +1050,13 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
+    return shouldIgnoreCollectionOrder(fieldLocation, null);
+  }
+
+  boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation, FieldRules fieldRules) {
+    if (ignoreCollectionOrder) return true;
+    if (fieldRules != null) return fieldRules.isCollectionOrderIgnored(fieldLocation.getPathToUseInRules());
+    return matchesAnIgnoredCollectionOrderInField(fieldLocation)
            || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
   }
 
@@ -1093,6 +1181,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
+  private void describeMaxDifferences(StringBuilder description) {
+    if (maxDifferences == 1) description.append("- the comparison was set to stop at the first difference found%n".formatted());
+    else if (maxDifferences != Integer.MAX_VALUE)
+      description.append("- the comparison was set to stop after finding %s differences%n".formatted(maxDifferences));
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -1103,8 +1197,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
+  boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue, FieldRules fieldRules) {
     FieldLocation fieldLocation = dualValue.fieldLocation;
+    if (fieldRules != null) return fieldRules.isOverriddenEqualsIgnored(fieldLocation.getPathToUseInRules());
     return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
            || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
   }
@@ -1368,7 +1463,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return valueToCheck != null && comparedTypes.contains(valueToCheck.getClass());
   }
 
-  boolean isNotAComparedField(DualValue dualValue) {
+  boolean isNotAComparedField(DualValue dualValue, FieldRules fieldRules) {
+    if (fieldRules != null) return !fieldRules.isExactlyCompared(dualValue.getConcatenatedPath());
     return comparedFields.stream().noneMatch(comparedField -> comparedField.exactlyMatches(dualValue.fieldLocation));
   }
 
@@ -1404,6 +1500,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private boolean treatNullAndEmptyIterablesAsEqual = DEFAULT_TREAT_NULL_AND_EMPTY_COLLECTIONS_AS_EQUAL;
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
+    private int maxDifferences = Integer.MAX_VALUE;
 
     private Builder() {
       super(Builder.class);
@@ -1591,6 +1688,22 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of differences after which the recursive comparison stops.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for code examples.
+     *
+     * @param maxDifferences the maximum number of differences to look for.
+     * @return this builder.
+     * @throws IllegalArgumentException if {@code maxDifferences} is not strictly positive.
+     * @since 4.0.0
+     */
+    public Builder withMaxDifferences(int maxDifferences) {
+      checkArgument(maxDifferences > 0, "The maximum number of differences must be strictly positive but was %s", maxDifferences);
+      this.maxDifferences = maxDifferences;
+      return this;
+    }
+
     /**
      * Adds the given fields to the list fields from the object under test to ignore collection order in the recursive comparison.
      * <p>
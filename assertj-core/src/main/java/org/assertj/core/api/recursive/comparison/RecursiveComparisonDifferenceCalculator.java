@@ -30,7 +30,10 @@ import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.Sets.removeAll;
 
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -55,6 +58,8 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.assertj.core.internal.FlightRecorderEvents;
+
 /**
  * Based on {@link org.assertj.core.internal.DeepDifference}
  * but takes a {@link RecursiveComparisonConfiguration},
@@ -84,6 +89,10 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                 +
                                                                 "- actual value had more fields to compare than expected value, these actual fields could not be found in expected: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // java types compared with equals whose equal instances can't have differences
+  private static final Set<Class<?>> JAVA_VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+                                                               Short.class, Integer.class, Long.class, Float.class,
+                                                               Double.class, BigInteger.class, BigDecimal.class);
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -91,12 +100,19 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // the configuration field rules compiled for this comparison
+    FieldRules fieldRules;
+    // the comparison stops once that many differences have been found
+    int maxDifferences;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
-                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration, FieldRules fieldRules,
+                           int maxDifferences) {
       this.visitedDualValues = visitedDualValues;
-      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
+      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration, fieldRules);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.fieldRules = fieldRules;
+      this.maxDifferences = maxDifferences;
     }
 
     void addDifference(ComparisonDifference comparisonDifference) {
@@ -116,12 +132,12 @@ public class RecursiveComparisonDifferenceCalculator {
         // the comparison includes the union of fields of compared types and compared fields, if the difference is
         // reported on a field whose type is not in the compared types, we should ignore the difference unless it was
         // on a field from the set of compared fields.
-        if (recursiveComparisonConfiguration.isNotAComparedField(dualValue) // TODO check if there compared fields ?
+        if (recursiveComparisonConfiguration.isNotAComparedField(dualValue, fieldRules) // TODO check if there compared fields ?
             && !recursiveComparisonConfiguration.matchesOrIsChildOfFieldMatchingAnyComparedTypes(dualValue))
           // was not a field we had to compared
           return;
         // check if the value was meant to be ignored, if it is the case simply skip the difference
-        if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
+        if (recursiveComparisonConfiguration.shouldIgnore(dualValue, fieldRules)) return;
       }
 
       String customErrorMessage = getCustomErrorMessage(dualValue);
@@ -137,7 +153,12 @@ public class RecursiveComparisonDifferenceCalculator {
 
     public List<ComparisonDifference> getDifferences() {
       Collections.sort(differences);
-      return differences;
+      // a comparison step can report several differences at once
+      return differences.size() > maxDifferences ? new ArrayList<>(differences.subList(0, maxDifferences)) : differences;
+    }
+
+    boolean hasFoundMaxDifferences() {
+      return differences.size() >= maxDifferences;
     }
 
     public boolean hasDualValuesToCompare() {
@@ -158,7 +179,7 @@ public class RecursiveComparisonDifferenceCalculator {
       if (dualValue.fieldLocation.isRoot() && recursiveComparisonConfiguration.someComparedFieldsWereSpecified()) {
         recursiveComparisonConfiguration.checkComparedFieldsExist(dualValue.actual);
       }
-      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue)) return;
+      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldRules)) return;
       registerForComparison(dualValue);
     }
 
@@ -210,11 +231,45 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration,
+                                recursiveComparisonConfiguration.getMaxDifferences());
+  }
+
+  /**
+   * Returns whether the given objects have any differences when compared recursively with the given configuration.
+   * <p>
+   * The comparison stops at the first difference found whatever the configuration {@link
+   * RecursiveComparisonConfiguration#getMaxDifferences() maximum number of differences} is.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return {@code true} if the objects are not equivalent, {@code false} otherwise.
+   * @since 4.0.0
+   */
+  public boolean hasDifferences(Object actual, Object expected,
+                                RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return !determineDifferences(actual, expected, recursiveComparisonConfiguration, 1).isEmpty();
+  }
+
+  private List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                          int maxDifferences) {
     DualValue rootDualValue = rootDualValue(actual, expected);
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && typesDiffer(rootDualValue)) {
       return list(typeDifference(rootDualValue));
     }
-    return determineDifferences(rootDualValue, new VisitedDualValues(), recursiveComparisonConfiguration);
+    // the path based rules are compiled for this comparison only, the configuration can be shared by concurrent comparisons
+    FieldRules fieldRules = new FieldRules(recursiveComparisonConfiguration);
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    if (!FlightRecorderEvents.isRecursiveComparisonRecorded())
+      return determineDifferences(rootDualValue, visitedDualValues, recursiveComparisonConfiguration, fieldRules, maxDifferences);
+    return FlightRecorderEvents.recordRecursiveComparison(actual, expected,
+                                                          () -> determineDifferences(rootDualValue, visitedDualValues,
+                                                                                     recursiveComparisonConfiguration,
+                                                                                     fieldRules, maxDifferences),
+                                                          visitedDualValues::getComparedDualValuesCount,
+                                                          visitedDualValues::getMaxComparedDepth);
   }
 
   private static ComparisonDifference typeDifference(DualValue dualValue) {
@@ -226,13 +281,16 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static List<ComparisonDifference> determineDifferences(DualValue dualValue,
                                                                  VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 FieldRules fieldRules, int maxDifferences) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration, fieldRules,
+                                                          maxDifferences);
     comparisonState.initDualValuesToCompare(dualValue);
 
-    while (comparisonState.hasDualValuesToCompare()) {
+    while (comparisonState.hasDualValuesToCompare() && !comparisonState.hasFoundMaxDifferences()) {
 
       dualValue = comparisonState.pickDualValueToCompare();
+      comparisonState.visitedDualValues.registerComparedDualValue(dualValue);
       if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
         // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
         // only compare the Person type, we must compare the Person fields too even though they are not of type Person
@@ -265,8 +323,8 @@ public class RecursiveComparisonDifferenceCalculator {
       }
 
       // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue, fieldRules)) {
+        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration, fieldRules)) comparisonState.addDifference(dualValue);
         // since we used a custom comparator we don't need to inspect the nested fields any further
         continue;
       }
@@ -292,91 +350,91 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      if (dualValue.isActualAnEnum() || dualValue.isExpectedAnEnum()) {
+      if (dualValue.actualType().kind == NodeKind.ENUM || dualValue.expectedType().kind == NodeKind.ENUM) {
         compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
         continue;
       }
 
-      if (dualValue.isExpectedAThrowable()) {
-        compareAsThrowables(dualValue, comparisonState);
-        continue;
-      }
       // TODO move hasFieldTypesDifference check into each compareXXX
-
-      if (dualValue.isExpectedAnArray()) {
-        if (!dualValue.isActualAnArray()) {
-          // at the moment we only allow comparing arrays with arrays, but we might allow comparing to collections later on
-          // but only if we are not in strict type mode.
-          comparisonState.addDifference(dualValue, differentTypeErrorMessage(dualValue, "an array"));
+      switch (dualValue.expectedType().kind) {
+        case THROWABLE -> {
+          compareAsThrowables(dualValue, comparisonState);
           continue;
         }
-        if (recursiveComparisonConfiguration.shouldIgnoreArrayOrder()) {
-          compareUnorderedArrays(dualValue, comparisonState);
-        } else {
-          compareArrays(dualValue, comparisonState);
+        case ARRAY -> {
+          if (!dualValue.isActualAnArray()) {
+            // at the moment we only allow comparing arrays with arrays, but we might allow comparing to collections later on
+            // but only if we are not in strict type mode.
+            comparisonState.addDifference(dualValue, differentTypeErrorMessage(dualValue, "an array"));
+          } else if (recursiveComparisonConfiguration.shouldIgnoreArrayOrder()) {
+            compareUnorderedArrays(dualValue, comparisonState);
+          } else {
+            compareArrays(dualValue, comparisonState);
+          }
+          continue;
+        }
+        case ORDERED_COLLECTION -> {
+          // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+          // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+          if (recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation, fieldRules)) {
+            compareUnorderedIterables(dualValue, comparisonState);
+          } else {
+            compareOrderedCollections(dualValue, comparisonState);
+          }
+          continue;
+        }
+        case ITERABLE -> {
+          compareUnorderedIterables(dualValue, comparisonState);
+          continue;
+        }
+        case OPTIONAL -> {
+          compareOptional(dualValue, comparisonState);
+          continue;
+        }
+        case SORTED_MAP -> {
+          // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their
+          // ordering
+          compareSortedMap(dualValue, comparisonState);
+          continue;
+        }
+        case MAP -> {
+          // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed,
+          // therefore a temporary Map must be created, however the comparison still runs in O(N) time.
+          compareUnorderedMap(dualValue, comparisonState);
+          continue;
+        }
+        // compare Atomic types by value manually as they are container type, and we can't use introspection in java 17+
+        case ATOMIC_BOOLEAN -> {
+          compareAtomicBoolean(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_INTEGER -> {
+          compareAtomicInteger(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_INTEGER_ARRAY -> {
+          compareAtomicIntegerArray(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_LONG -> {
+          compareAtomicLong(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_LONG_ARRAY -> {
+          compareAtomicLongArray(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_REFERENCE -> {
+          compareAtomicReference(dualValue, comparisonState);
+          continue;
+        }
+        case ATOMIC_REFERENCE_ARRAY -> {
+          compareAtomicReferenceArray(dualValue, comparisonState);
+          continue;
+        }
+        default -> {
+          // other values are compared below
         }
-        continue;
-      }
-
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
-
-      if (dualValue.isExpectedAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
-
-      if (dualValue.isExpectedAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
-
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
-
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
-
-      // compare Atomic types by value manually as they are container type, and we can't use introspection in java 17+
-      if (dualValue.isExpectedAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
       }
 
       // Taking expected as the reference, we have checked all java special cases (containers, enum, ...)
@@ -406,7 +464,7 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
       // both actual and expected are not java types, we compare them recursively unless we were told to use equals
-      boolean shouldHonorOverriddenEquals = recursiveComparisonConfiguration.shouldHonorOverriddenEquals(dualValue);
+      boolean shouldHonorOverriddenEquals = recursiveComparisonConfiguration.shouldHonorOverriddenEquals(dualValue, fieldRules);
       if (shouldHonorOverriddenEquals && hasOverriddenEquals(dualValue.actual.getClass())) {
         if (!dualValue.actual.equals(dualValue.expected)) {
           comparisonState.addDifference(dualValue,
@@ -420,7 +478,8 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
+      Set<String> actualChildrenNodeNamesToCompare =
+          recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue, fieldRules);
       if (reportActualHasMissingOrExtraFields(dualValue, actualChildrenNodeNamesToCompare, comparisonState)) {
         continue;
       }
@@ -562,16 +621,105 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, arrays are not equal as they don't have the same size
       return;
     }
+    Object actualArray = dualValue.actual;
+    Object expectedArray = dualValue.expected;
+    if (actualArray instanceof Object[] actualElements && expectedArray instanceof Object[] expectedElements) {
+      compareElementsInOrder(dualValue, Arrays.asList(actualElements), Arrays.asList(expectedElements), comparisonState);
+      return;
+    }
+    if (actualArray.getClass() == expectedArray.getClass() && canComparePrimitiveElementsWithEquals(dualValue, comparisonState)) {
+      // only the mismatching elements are registered for recursive comparison to report them
+      for (int i = mismatch(actualArray, expectedArray, 0); i >= 0; i = mismatch(actualArray, expectedArray, i + 1)) {
+        comparisonState.registerForComparison(elementDualValue(dualValue, i, Array.get(actualArray, i),
+                                                               Array.get(expectedArray, i)));
+      }
+      return;
+    }
     // register each pair of actual/expected elements for recursive comparison
-    FieldLocation arrayFieldLocation = dualValue.fieldLocation;
     for (int i = 0; i < actualArrayLength; i++) {
-      Object actualElement = Array.get(dualValue.actual, i);
-      Object expectedElement = Array.get(dualValue.expected, i);
-      FieldLocation elementFieldLocation = arrayFieldLocation.field("[%d]".formatted(i));
-      comparisonState.registerForComparison(new DualValue(elementFieldLocation, actualElement, expectedElement, dualValue));
+      Object actualElement = Array.get(actualArray, i);
+      Object expectedElement = Array.get(expectedArray, i);
+      comparisonState.registerForComparison(elementDualValue(dualValue, i, actualElement, expectedElement));
     }
   }
 
+  /*
+   * The elements of primitive arrays can be compared with equals if every pair of elements can be, all the elements share
+   * the array boxed component type and the array path used in rules, so they are all checked at once with the first pair.
+   */
+  private static boolean canComparePrimitiveElementsWithEquals(DualValue dualValue, ComparisonState comparisonState) {
+    if (Array.getLength(dualValue.actual) == 0) return false;
+    DualValue firstElementDualValue = elementDualValue(dualValue, 0, Array.get(dualValue.actual, 0),
+                                                       Array.get(dualValue.expected, 0));
+    return canCompareElementsWithEquals(firstElementDualValue, comparisonState);
+  }
+
+  // returns the index of the first mismatch between two primitive arrays of the same type and length from the given index
+  private static int mismatch(Object actualArray, Object expectedArray, int fromIndex) {
+    int length = Array.getLength(actualArray);
+    int mismatch;
+    if (actualArray instanceof int[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (int[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof long[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (long[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof byte[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (byte[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof char[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (char[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof short[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (short[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof boolean[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (boolean[]) expectedArray, fromIndex, length);
+    } else if (actualArray instanceof double[] actual) {
+      mismatch = Arrays.mismatch(actual, fromIndex, length, (double[]) expectedArray, fromIndex, length);
+    } else {
+      mismatch = Arrays.mismatch((float[]) actualArray, fromIndex, length, (float[]) expectedArray, fromIndex, length);
+    }
+    return mismatch < 0 ? -1 : fromIndex + mismatch;
+  }
+
+  private static DualValue elementDualValue(DualValue containerDualValue, int index, Object actualElement,
+                                            Object expectedElement) {
+    FieldLocation elementFieldLocation = containerDualValue.fieldLocation.field("[%d]".formatted(index));
+    return new DualValue(elementFieldLocation, actualElement, expectedElement, containerDualValue);
+  }
+
+  /*
+   * Registers the pairs of elements with the same index for recursive comparison, elements of java value types that are
+   * equal are skipped as comparing them recursively would not report any differences.
+   */
+  private static void compareElementsInOrder(DualValue dualValue, Iterable<?> actualElements, Iterable<?> expectedElements,
+                                             ComparisonState comparisonState) {
+    Iterator<?> expectedIterator = expectedElements.iterator();
+    int i = 0;
+    for (Object actualElement : actualElements) {
+      Object expectedElement = expectedIterator.next();
+      DualValue elementDualValue = elementDualValue(dualValue, i, actualElement, expectedElement);
+      if (!isEqualJavaValue(actualElement, expectedElement) || !canCompareElementsWithEquals(elementDualValue, comparisonState)) {
+        comparisonState.registerForComparison(elementDualValue);
+      }
+      i++;
+    }
+  }
+
+  private static boolean isEqualJavaValue(Object actualElement, Object expectedElement) {
+    return actualElement != null && expectedElement != null
+           && actualElement.getClass() == expectedElement.getClass()
+           && JAVA_VALUE_TYPES.contains(actualElement.getClass())
+           && actualElement.equals(expectedElement);
+  }
+
+  /*
+   * Elements can be compared with equals when they would end up being compared with equals as java types, that is when no
+   * custom comparator nor ignoring rule applies to them and types to compare don't require to visit them.
+   */
+  private static boolean canCompareElementsWithEquals(DualValue elementDualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    return !recursiveComparisonConfiguration.hasComparedTypes()
+           && !recursiveComparisonConfiguration.hasCustomComparator(elementDualValue, comparisonState.fieldRules)
+           && !recursiveComparisonConfiguration.shouldIgnore(elementDualValue, comparisonState.fieldRules);
+  }
+
   private static void compareUnorderedArrays(DualValue dualValue, ComparisonState comparisonState) {
     int actualArrayLength = Array.getLength(dualValue.actual);
     int expectedArrayLength = Array.getLength(dualValue.expected);
@@ -612,15 +760,8 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, arrays are not equal as they don't have the same size
       return;
     }
-    // register a pair of elements with same index for later comparison as we compare elements in order
-    Iterator<?> expectedIterator = expectedCollection.iterator();
-    int i = 0;
-    for (Object element : actualCollection) {
-      FieldLocation elementFieldLocation = dualValue.fieldLocation.field("[%d]".formatted(i));
-      DualValue elementDualValue = new DualValue(elementFieldLocation, element, expectedIterator.next(), dualValue);
-      comparisonState.registerForComparison(elementDualValue);
-      i++;
-    }
+    // register pairs of elements with same index for later comparison as we compare elements in order
+    compareElementsInOrder(dualValue, actualCollection, expectedCollection, comparisonState);
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String expectedTypeDescription) {
@@ -706,9 +847,12 @@ public class RecursiveComparisonDifferenceCalculator {
       Object actualElement = actualIterator.next();
       // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
       DualValue elementDualValue = new DualValue(dualValue.fieldLocation, actualElement, expectedElement, dualValue);
+      // the elements comparison can't stop at the first difference as the visited dual values it registers would miss the
+      // differences of the values not compared yet, and we could later wrongly consider these values equal
       List<ComparisonDifference> differences = determineDifferences(elementDualValue,
                                                                     comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
+                                                                    comparisonState.recursiveComparisonConfiguration,
+                                                                    comparisonState.fieldRules, Integer.MAX_VALUE);
       if (differences.isEmpty()) return true;
     }
     return false;
@@ -722,13 +866,11 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
 
-    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                              comparisonState.recursiveComparisonConfiguration);
+    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation, comparisonState);
 
     @SuppressWarnings("unchecked")
-    Map<K, V> expectedMap = (Map<K, V>) filterIgnoredFields((Map<?, ?>) dualValue.expected,
-                                                            dualValue.fieldLocation,
-                                                            comparisonState.recursiveComparisonConfiguration);
+    Map<K, V> expectedMap = (Map<K, V>) filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
+                                                            comparisonState);
 
     if (actualMap.size() != expectedMap.size()) {
       comparisonState.addDifference(dualValue,
@@ -759,10 +901,8 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
 
-    Map actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                        comparisonState.recursiveComparisonConfiguration);
-    Map expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
-                                          comparisonState.recursiveComparisonConfiguration);
+    Map actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation, comparisonState);
+    Map expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation, comparisonState);
 
     StringBuilder diffMessage = new StringBuilder();
     if (actualMap.size() != expectedMap.size()) {
@@ -791,8 +931,8 @@ public class RecursiveComparisonDifferenceCalculator {
     }
   }
 
-  private static Map<?, ?> filterIgnoredFields(Map<?, ?> map, FieldLocation fieldLocation,
-                                               RecursiveComparisonConfiguration configuration) {
+  private static Map<?, ?> filterIgnoredFields(Map<?, ?> map, FieldLocation fieldLocation, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
     Set<String> ignoredFields = configuration.getIgnoredFields();
     List<Pattern> ignoredFieldsRegexes = configuration.getIgnoredFieldsRegexes();
     if (ignoredFields.isEmpty() && ignoredFieldsRegexes.isEmpty()) {
@@ -800,9 +940,8 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     return map.entrySet().stream()
               .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredField(fieldLocation.field(e.getKey().toString())))
-              .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredFieldRegex(fieldLocation.field(e.getKey().toString())))
+                           || !configuration.shouldIgnoreFieldBasedOnFieldLocation(fieldLocation.field(e.getKey().toString()),
+                                                                                comparisonState.fieldRules))
               .collect(toMap(Entry::getKey, Entry::getValue));
   }
 
@@ -1015,13 +1154,13 @@ public class RecursiveComparisonDifferenceCalculator {
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
-  private static boolean areDualValueEqual(DualValue dualValue,
-                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+  private static boolean areDualValueEqual(DualValue dualValue, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                           FieldRules fieldRules) {
     final String fieldName = dualValue.getConcatenatedPath();
     final Object actualFieldValue = dualValue.actual;
     final Object expectedFieldValue = dualValue.expected;
     // check field comparators as they take precedence over type comparators
-    Comparator fieldComparator = recursiveComparisonConfiguration.getComparatorForField(fieldName);
+    Comparator fieldComparator = recursiveComparisonConfiguration.getComparatorForField(fieldName, fieldRules);
     if (fieldComparator != null)
       return areEqualUsingComparator(actualFieldValue, expectedFieldValue, fieldComparator, fieldName);
     // check if a type comparators exist for the field type
@@ -26,11 +26,27 @@ import java.util.Set;
 class VisitedDualValues {
 
   private final List<VisitedDualValue> visitedDualValues;
+  // statistics of the comparison (including the nested ones sharing these visited dual values)
+  private int comparedDualValuesCount;
+  private int maxComparedDepth;
 
   VisitedDualValues() {
     visitedDualValues = new ArrayList<>();
   }
 
+  void registerComparedDualValue(DualValue dualValue) {
+    comparedDualValuesCount++;
+    maxComparedDepth = Math.max(maxComparedDepth, dualValue.fieldLocation.getDecomposedPath().size());
+  }
+
+  int getComparedDualValuesCount() {
+    return comparedDualValuesCount;
+  }
+
+  int getMaxComparedDepth() {
+    return maxComparedDepth;
+  }
+
   void registerVisitedDualValue(DualValue dualValue) {
     visitedDualValues.add(new VisitedDualValue(dualValue));
   }
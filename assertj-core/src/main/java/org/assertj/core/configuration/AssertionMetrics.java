@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.configuration;
+
+/**
+ * Listener notified of each assertion executed, to find out which assertions take the most time in a test suite.
+ * <p>
+ * Assertion metrics are registered as services discovered at program startup:
+ * <ul>
+ * <li>create a file named {@code org.assertj.core.configuration.AssertionMetrics} in the META-INF/services directory</li>
+ * <li>put the fully qualified class name of your {@link AssertionMetrics} in it, for example
+ * {@code org.assertj.core.configuration.HistogramAssertionMetrics} to report the slowest assertions at JVM shutdown</li>
+ * <li>make sure {@code META-INF/services/org.assertj.core.configuration.AssertionMetrics} is in the runtime classpath, usually
+ * putting it in {@code src/test/resources} is enough</li>
+ * </ul>
+ * All the registered assertion metrics are notified, from any thread running assertions, implementations must be thread
+ * safe. Nested assertions (for example {@code isTrue()} calling {@code isEqualTo(true)}) are notified too, and assertions
+ * skipped in a soft assertions dead chain are not.
+ * <p>
+ * Assertions are not measured when no assertion metrics are registered.
+ *
+ * @since 4.0.0
+ */
+@FunctionalInterface
+public interface AssertionMetrics {
+
+  /**
+   * The outcome of an executed assertion.
+   */
+  enum Outcome {
+    /** the assertion succeeded. */
+    SUCCEEDED,
+    /** the assertion failed with an {@link AssertionError}. */
+    FAILED,
+    /** the assertion could not be performed as it threw an exception other than an {@link AssertionError}. */
+    ERRORED
+  }
+
+  /**
+   * Called after each assertion executed.
+   *
+   * @param assertType the type of the assert performing the assertion.
+   * @param assertionMethod the name of the assertion method, for example {@code isEqualTo}.
+   * @param outcome the outcome of the assertion.
+   * @param elapsedNanos the time taken by the assertion in nanoseconds.
+   */
+  void assertionExecuted(Class<?> assertType, String assertionMethod, Outcome outcome, long elapsedNanos);
+
+}
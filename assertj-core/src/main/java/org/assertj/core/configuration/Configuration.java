@@ -49,6 +49,7 @@ public class Configuration {
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
+  public static final boolean PARALLEL_RECURSIVE_DIRECTORY_SCAN_ENABLED = false;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
   public static final Configuration DEFAULT_CONFIGURATION = new Configuration();
@@ -64,6 +65,7 @@ public class Configuration {
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
+  private boolean parallelRecursiveDirectoryScan;
 
   public Configuration() {
     setDefaults();
@@ -84,6 +86,7 @@ public class Configuration {
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
+    parallelRecursiveDirectoryScan = PARALLEL_RECURSIVE_DIRECTORY_SCAN_ENABLED;
   }
 
   /**
@@ -349,6 +352,36 @@ public class Configuration {
     this.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns whether the recursive directory assertions ({@code isDirectoryRecursivelyContaining} for {@link java.io.File File}
+   * and {@link java.nio.file.Path Path}) walk the subdirectories in parallel on the common fork-join pool.
+   * Default is {@value #PARALLEL_RECURSIVE_DIRECTORY_SCAN_ENABLED}.
+   * <p>
+   * The directory scan always stops at the first matching entry, walking in parallel speeds it up on large directory trees,
+   * note that the given filters must then be thread-safe as they can be called concurrently.
+   * <p>
+   * This setting is only read from the {@link Configuration} registered with the {@link java.util.ServiceLoader ServiceLoader},
+   * see {@link ConfigurationProvider#configuration()}.
+   *
+   * @return whether recursive directory scans walk the subdirectories in parallel.
+   * @since 4.0.0
+   */
+  public boolean parallelRecursiveDirectoryScanEnabled() {
+    return parallelRecursiveDirectoryScan;
+  }
+
+  /**
+   * Sets whether recursive directory scans walk the subdirectories in parallel.
+   * <p>
+   * See {@link #parallelRecursiveDirectoryScanEnabled()} for a detailed description.
+   *
+   * @param parallelRecursiveDirectoryScan whether recursive directory scans walk the subdirectories in parallel.
+   * @since 4.0.0
+   */
+  public void setParallelRecursiveDirectoryScan(boolean parallelRecursiveDirectoryScan) {
+    this.parallelRecursiveDirectoryScan = parallelRecursiveDirectoryScan;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -391,7 +424,8 @@ public class Configuration {
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
-                  "- preferredAssumptionException .................... = %s%n",
+                  "- preferredAssumptionException .................... = %s%n" +
+                  "- parallelRecursiveDirectoryScanEnabled ........... = %s%n",
                   getClass().getName(),
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -404,7 +438,8 @@ public class Configuration {
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
-                  preferredAssumptionException());
+                  preferredAssumptionException(),
+                  parallelRecursiveDirectoryScanEnabled());
   }
 
   private String describeAdditionalDateFormats() {
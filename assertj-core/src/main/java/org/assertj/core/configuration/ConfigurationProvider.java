@@ -37,6 +37,7 @@ public final class ConfigurationProvider {
   public static final ConfigurationProvider CONFIGURATION_PROVIDER = new ConfigurationProvider();
   private final Configuration configuration;
   private final CompositeRepresentation compositeRepresentation;
+  private final AssertionMetrics assertionMetrics;
 
   private ConfigurationProvider() {
     configuration = Services.get(Configuration.class, DEFAULT_CONFIGURATION);
@@ -60,6 +61,11 @@ public final class ConfigurationProvider {
                                                                                                                                                                                                                                                                              representations,
                                                                                                                                                                                                                                                                              representation()));
     }
+    assertionMetrics = compositeAssertionMetrics(Services.getAll(AssertionMetrics.class));
+    if (assertionMetrics != null) {
+      System.out.println("AssertJ has found registered assertion metrics, AssertJ will notify them of each executed assertion: %s".formatted(
+                                                                                                                                          assertionMetrics));
+    }
   }
 
   /**
@@ -78,6 +84,35 @@ public final class ConfigurationProvider {
     return configuration.hasCustomRepresentation() ? configuration.representation() : compositeRepresentation;
   }
 
+  /**
+   * Returns the {@link AssertionMetrics} loaded from the classpath by the {@link ServiceLoader}, if several were registered
+   * they are all notified.
+   *
+   * @return the registered {@link AssertionMetrics} or {@code null} if there are none.
+   * @since 4.0.0
+   */
+  public AssertionMetrics assertionMetrics() {
+    return assertionMetrics;
+  }
+
+  private static AssertionMetrics compositeAssertionMetrics(List<AssertionMetrics> registeredAssertionMetrics) {
+    if (registeredAssertionMetrics.isEmpty()) return null;
+    if (registeredAssertionMetrics.size() == 1) return registeredAssertionMetrics.get(0);
+    return new AssertionMetrics() {
+      @Override
+      public void assertionExecuted(Class<?> assertType, String assertionMethod, Outcome outcome, long elapsedNanos) {
+        for (AssertionMetrics assertionMetrics : registeredAssertionMetrics) {
+          assertionMetrics.assertionExecuted(assertType, assertionMethod, outcome, elapsedNanos);
+        }
+      }
+
+      @Override
+      public String toString() {
+        return registeredAssertionMetrics.toString();
+      }
+    };
+  }
+
   /**
    * Returns the configuration used in for all tests.
    *
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.configuration;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.concurrent.Callable;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Applies a {@link Configuration} to the assertions of the current thread only, until the scope is closed, so that tests
+ * running in parallel can use different representations and limits.
+ * <p>
+ * Example:
+ * <pre><code class='java'> Configuration configuration = new Configuration() {
+ *   &#64;Override
+ *   public Representation representation() {
+ *     return new HexadecimalRepresentation();
+ *   }
+ * };
+ * configuration.setMaxElementsForPrinting(10);
+ *
+ * try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+ *   // assertion errors only display 10 elements and use the hexadecimal representation
+ *   assertThat(bytes).containsExactly(expectedBytes);
+ * }</code></pre>
+ * <p>
+ * The scoped settings are:
+ * <ul>
+ * <li>{@link Configuration#representation()}, captured when the assertion is created</li>
+ * <li>{@link Configuration#maxElementsForPrinting()}</li>
+ * <li>{@link Configuration#maxLengthForSingleLineDescription()}</li>
+ * <li>{@link Configuration#maxStackTraceElementsDisplayed()}</li>
+ * <li>{@link Configuration#removeAssertJRelatedElementsFromStackTraceEnabled()}</li>
+ * <li>{@link Configuration#bareNamePropertyExtractionEnabled()}</li>
+ * </ul>
+ * The other settings are global, they are changed by {@link Configuration#apply()}, and the date formats registered with
+ * {@code registerCustomDateFormat} are already per thread.
+ * <p>
+ * The settings are copied when the scope is opened, changing the configuration afterwards has no effect on the scope. Scopes
+ * can be nested and must be closed in the reverse order they were opened, on the thread that opened them.
+ * <p>
+ * The threads started in a scope do not inherit it, test executors start their worker threads lazily from whichever thread
+ * needs one, inheriting the scope would apply it to the tests later run by these workers. Use {@link #wrap(Runnable)} or
+ * {@link #wrap(Callable)} to run tasks in a scope on other threads:
+ * <pre><code class='java'> try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+ *   executor.submit(scope.wrap(() -&gt; assertThat(bytes).containsExactly(expectedBytes))).get();
+ * }</code></pre>
+ *
+ * @since 4.0.0
+ */
+public final class ConfigurationScope implements AutoCloseable {
+
+  private static final ThreadLocal<ConfigurationScope> CURRENT_SCOPE = new ThreadLocal<>();
+
+  private final ConfigurationScope enclosingScope;
+  private final Thread owner;
+  private volatile boolean closed;
+
+  private final Representation representation;
+  private final int maxElementsForPrinting;
+  private final int maxLengthForSingleLineDescription;
+  private final int maxStackTraceElementsDisplayed;
+  private final boolean removeAssertJRelatedElementsFromStackTrace;
+  private final boolean bareNamePropertyExtraction;
+
+  private ConfigurationScope(Configuration configuration, ConfigurationScope enclosingScope) {
+    this.enclosingScope = enclosingScope;
+    this.owner = Thread.currentThread();
+    this.representation = configuration.hasCustomRepresentation() ? configuration.representation()
+        : CONFIGURATION_PROVIDER.representation();
+    this.maxElementsForPrinting = configuration.maxElementsForPrinting();
+    checkArgument(maxElementsForPrinting >= 1, "maxElementsForPrinting must be >= 1, but was %s", maxElementsForPrinting);
+    this.maxLengthForSingleLineDescription = configuration.maxLengthForSingleLineDescription();
+    checkArgument(maxLengthForSingleLineDescription > 0, "maxLengthForSingleLineDescription must be > 0 but was %s",
+                  maxLengthForSingleLineDescription);
+    this.maxStackTraceElementsDisplayed = configuration.maxStackTraceElementsDisplayed();
+    checkArgument(maxStackTraceElementsDisplayed >= 0, "maxStackTraceElementsDisplayed  must be >= 0, but was %s",
+                  maxStackTraceElementsDisplayed);
+    this.removeAssertJRelatedElementsFromStackTrace = configuration.removeAssertJRelatedElementsFromStackTraceEnabled();
+    this.bareNamePropertyExtraction = configuration.bareNamePropertyExtractionEnabled();
+  }
+
+  /**
+   * Applies the given configuration to the assertions of the current thread until the returned scope is closed.
+   *
+   * @param configuration the configuration to apply.
+   * @return the opened scope, to close once done.
+   * @throws NullPointerException if the given configuration is {@code null}.
+   * @throws IllegalArgumentException if one of the scoped settings is invalid.
+   */
+  public static ConfigurationScope open(Configuration configuration) {
+    requireNonNull(configuration, "The configuration to apply must not be null");
+    ConfigurationScope scope = new ConfigurationScope(configuration, current());
+    CURRENT_SCOPE.set(scope);
+    return scope;
+  }
+
+  /**
+   * Returns the scope applied to the assertions of the current thread.
+   *
+   * @return the current scope or {@code null} if there is none, in which case the global settings apply.
+   */
+  public static ConfigurationScope current() {
+    ConfigurationScope scope = CURRENT_SCOPE.get();
+    // tasks wrapped in a scope still reference it once closed
+    while (scope != null && scope.closed) {
+      scope = scope.enclosingScope;
+    }
+    return scope;
+  }
+
+  /**
+   * Restores the enclosing scope, or the global settings if there is none.
+   *
+   * @throws IllegalStateException if the scope is closed from another thread than the one that opened it, or before a scope
+   *           nested in it.
+   */
+  @Override
+  public void close() {
+    if (closed) return;
+    if (Thread.currentThread() != owner)
+      throw new IllegalStateException("A configuration scope must be closed by the thread that opened it: " + owner);
+    if (current() != this) throw new IllegalStateException("The configuration scopes nested in this one must be closed first");
+    closed = true;
+    restore(enclosingScope);
+  }
+
+  /**
+   * Returns a task running the given one with this scope applied to the assertions of the thread running it, the scope of
+   * that thread is restored once the task is done.
+   * <p>
+   * If this scope is closed when the task runs, its enclosing scope applies, or the global settings if there is none.
+   *
+   * @param task the task to run in this scope.
+   * @return the task running the given one in this scope.
+   * @throws NullPointerException if the given task is {@code null}.
+   */
+  public Runnable wrap(Runnable task) {
+    requireNonNull(task, "The task to wrap must not be null");
+    return () -> {
+      ConfigurationScope runningThreadScope = CURRENT_SCOPE.get();
+      CURRENT_SCOPE.set(this);
+      try {
+        task.run();
+      } finally {
+        restore(runningThreadScope);
+      }
+    };
+  }
+
+  /**
+   * Returns a task calling the given one with this scope applied to the assertions of the thread running it, the scope of
+   * that thread is restored once the task is done.
+   * <p>
+   * If this scope is closed when the task runs, its enclosing scope applies, or the global settings if there is none.
+   *
+   * @param <V> the type of the task result.
+   * @param task the task to run in this scope.
+   * @return the task calling the given one in this scope.
+   * @throws NullPointerException if the given task is {@code null}.
+   */
+  public <V> Callable<V> wrap(Callable<V> task) {
+    requireNonNull(task, "The task to wrap must not be null");
+    return () -> {
+      ConfigurationScope runningThreadScope = CURRENT_SCOPE.get();
+      CURRENT_SCOPE.set(this);
+      try {
+        return task.call();
+      } finally {
+        restore(runningThreadScope);
+      }
+    };
+  }
+
+  private static void restore(ConfigurationScope scope) {
+    if (scope == null) CURRENT_SCOPE.remove();
+    else CURRENT_SCOPE.set(scope);
+  }
+
+  public Representation representation() {
+    return representation;
+  }
+
+  public int maxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  public int maxLengthForSingleLineDescription() {
+    return maxLengthForSingleLineDescription;
+  }
+
+  public int maxStackTraceElementsDisplayed() {
+    return maxStackTraceElementsDisplayed;
+  }
+
+  public boolean removeAssertJRelatedElementsFromStackTraceEnabled() {
+    return removeAssertJRelatedElementsFromStackTrace;
+  }
+
+  public boolean bareNamePropertyExtractionEnabled() {
+    return bareNamePropertyExtraction;
+  }
+
+}
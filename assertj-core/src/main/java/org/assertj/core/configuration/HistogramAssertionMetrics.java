@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.configuration;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AssertionMetrics} counting the executions of each assertion method and recording their latencies in histograms, to
+ * report the assertions taking the most time in total.
+ * <p>
+ * The latencies are recorded in logarithmic buckets (four buckets per power of two) like HdrHistogram does, so that the
+ * percentiles are known within 25% whatever the number of recorded values without keeping them. Recording does not lock,
+ * the counters are {@link LongAdder}s and the buckets are updated atomically.
+ * <p>
+ * When registered as a service (see {@link AssertionMetrics}), the 20 assertions taking the most time are reported on the
+ * standard output at JVM shutdown.
+ *
+ * @since 4.0.0
+ */
+public class HistogramAssertionMetrics implements AssertionMetrics {
+
+  private static final int DEFAULT_REPORTED_ASSERTIONS = 20;
+  private static final int SUB_BUCKET_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  // values below SUB_BUCKETS have their own bucket, greater ones are split in SUB_BUCKETS buckets per power of two
+  private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS);
+
+  private final Map<Class<?>, Map<String, AssertionStatistics>> statisticsByAssertType = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an {@link HistogramAssertionMetrics} reporting the 20 assertions taking the most time at JVM shutdown.
+   */
+  public HistogramAssertionMetrics() {
+    this(DEFAULT_REPORTED_ASSERTIONS);
+  }
+
+  /**
+   * Creates an {@link HistogramAssertionMetrics} reporting the given number of assertions taking the most time at JVM
+   * shutdown.
+   *
+   * @param reportedAssertions the number of assertions to report at JVM shutdown, nothing is reported if 0.
+   * @throws IllegalArgumentException if {@code reportedAssertions} is negative.
+   */
+  public HistogramAssertionMetrics(int reportedAssertions) {
+    if (reportedAssertions < 0) throw new IllegalArgumentException("The number of reported assertions must not be negative");
+    if (reportedAssertions > 0) {
+      Thread reporter = new Thread(() -> System.out.print(slowestAssertionsReport(reportedAssertions)),
+                                   "assertj-assertion-metrics-report");
+      Runtime.getRuntime().addShutdownHook(reporter);
+    }
+  }
+
+  @Override
+  public void assertionExecuted(Class<?> assertType, String assertionMethod, Outcome outcome, long elapsedNanos) {
+    statisticsOf(assertType, assertionMethod).record(outcome, elapsedNanos);
+  }
+
+  private AssertionStatistics statisticsOf(Class<?> assertType, String assertionMethod) {
+    // get first to not lock on the assertions already recorded
+    Map<String, AssertionStatistics> statisticsByMethod = statisticsByAssertType.get(assertType);
+    if (statisticsByMethod == null)
+      statisticsByMethod = statisticsByAssertType.computeIfAbsent(assertType, type -> new ConcurrentHashMap<>());
+    AssertionStatistics statistics = statisticsByMethod.get(assertionMethod);
+    if (statistics != null) return statistics;
+    return statisticsByMethod.computeIfAbsent(assertionMethod,
+                                              method -> new AssertionStatistics(assertType.getName() + "." + method));
+  }
+
+  /**
+   * Returns a report of the assertions that took the most time in total, with their number of executions, failures, mean,
+   * median, 99th percentile and max latencies.
+   *
+   * @param reportedAssertions the maximum number of assertions to report.
+   * @return the report of the assertions taking the most time.
+   */
+  public String slowestAssertionsReport(int reportedAssertions) {
+    List<AssertionStatistics> allStatistics = new ArrayList<>();
+    statisticsByAssertType.values().forEach(statisticsByMethod -> allStatistics.addAll(statisticsByMethod.values()));
+    allStatistics.sort(comparingLong(AssertionStatistics::totalNanos).reversed());
+    StringBuilder report = new StringBuilder("AssertJ assertions taking the most time:%n".formatted());
+    report.append("%12s %10s %10s %12s %12s %12s %12s  %s%n".formatted("total (ms)", "count", "failures", "mean (ms)",
+                                                                       "p50 (ms)", "p99 (ms)", "max (ms)", "assertion"));
+    allStatistics.stream().limit(reportedAssertions).forEach(statistics -> statistics.appendTo(report));
+    return report.toString();
+  }
+
+  static int bucketIndex(long nanos) {
+    if (nanos < SUB_BUCKETS) return (int) Math.max(nanos, 0);
+    int powerOfTwo = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    int subBucket = (int) (nanos >>> (powerOfTwo - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return SUB_BUCKETS * (powerOfTwo - SUB_BUCKET_BITS + 1) + subBucket;
+  }
+
+  static long bucketHighestValue(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKETS) return bucketIndex;
+    int shift = bucketIndex / SUB_BUCKETS - 1;
+    long lowestValue = (long) (SUB_BUCKETS + bucketIndex % SUB_BUCKETS) << shift;
+    return lowestValue + (1L << shift) - 1;
+  }
+
+  private static final class AssertionStatistics {
+
+    private final String assertion;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private AssertionStatistics(String assertion) {
+      this.assertion = assertion;
+    }
+
+    private void record(Outcome outcome, long elapsedNanos) {
+      executions.increment();
+      if (outcome != Outcome.SUCCEEDED) failures.increment();
+      totalNanos.add(elapsedNanos);
+      maxNanos.accumulate(elapsedNanos);
+      buckets.incrementAndGet(bucketIndex(elapsedNanos));
+    }
+
+    private long totalNanos() {
+      return totalNanos.sum();
+    }
+
+    private long percentileNanos(double percentile) {
+      long[] counts = new long[BUCKETS];
+      long count = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = buckets.get(i);
+        count += counts[i];
+      }
+      long rank = (long) Math.ceil(count * percentile);
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts[i];
+        if (seen >= rank && counts[i] > 0) return Math.min(bucketHighestValue(i), maxNanos.get());
+      }
+      return maxNanos.get();
+    }
+
+    private void appendTo(StringBuilder report) {
+      long count = executions.sum();
+      long total = totalNanos();
+      report.append("%12.3f %10d %10d %12.3f %12.3f %12.3f %12.3f  %s%n".formatted(millis(total), count, failures.sum(),
+                                                                                   millis(count == 0 ? 0 : total / count),
+                                                                                   millis(percentileNanos(0.5)),
+                                                                                   millis(percentileNanos(0.99)),
+                                                                                   millis(maxNanos.get()), assertion));
+    }
+
+    private static double millis(long nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+
+}
@@ -28,7 +28,8 @@ import org.assertj.core.presentation.Representation;
 public class AssertionErrorCreator {
 
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class, Object.class);
-  private Method valueWrapperCreateMethod;
+  // looked up once as creators are instantiated by each assertion, null if opentest4j is not available
+  private static final Method VALUE_WRAPPER_CREATE_METHOD = valueWrapperCreateMethod();
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   ConstructorInvoker constructorInvoker;
@@ -39,11 +40,14 @@ public class AssertionErrorCreator {
 
   public AssertionErrorCreator(ConstructorInvoker constructorInvoker) {
     this.constructorInvoker = constructorInvoker;
+  }
+
+  private static Method valueWrapperCreateMethod() {
     try {
       Class<?> valueWrapperClass = Class.forName("org.opentest4j.ValueWrapper");
-      valueWrapperCreateMethod = valueWrapperClass.getMethod("create", Object.class, String.class);
+      return valueWrapperClass.getMethod("create", Object.class, String.class);
     } catch (Exception e) {
-      valueWrapperCreateMethod = null;
+      return null;
     }
   }
 
@@ -69,9 +73,9 @@ public class AssertionErrorCreator {
   }
 
   private Object valueWrapper(Object value, Representation representation) {
-    if (valueWrapperCreateMethod == null) return value;
+    if (VALUE_WRAPPER_CREATE_METHOD == null) return value;
     try {
-      return valueWrapperCreateMethod.invoke(null, value, representation.toStringOf(value));
+      return VALUE_WRAPPER_CREATE_METHOD.invoke(null, value, representation.toStringOf(value));
     } catch (Exception e) {
       return value; // best effort
     }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that some code allocates at most a given number of
+ * bytes failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldAllocateAtMost extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAllocateAtMost}</code>.
+   *
+   * @param maxBytes the expected maximum number of allocated bytes.
+   * @param allocatedBytes the measured number of allocated bytes.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllocateAtMost(long maxBytes, long allocatedBytes) {
+    return new ShouldAllocateAtMost(maxBytes, allocatedBytes);
+  }
+
+  private ShouldAllocateAtMost(long maxBytes, long allocatedBytes) {
+    // the numbers are part of the message format to be displayed without the long representation suffix
+    super("%nExpecting code to allocate at most%n  " + maxBytes + " bytes%nbut it allocated%n  " + allocatedBytes + " bytes");
+  }
+}
@@ -29,6 +29,7 @@ import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.FlightRecorderEvents;
 import org.assertj.core.presentation.Representation;
 
 /**
@@ -117,15 +118,21 @@ public class ShouldBeEqual {
       // comparison strategy is standard -> try to build an AssertionFailedError used in JUnit 5 that is nicely displayed in IDEs
       AssertionError assertionFailedError = assertionFailedError(message, representation);
       // assertionFailedError != null means that JUnit 5 and opentest4j are in the classpath
-      if (assertionFailedError != null) return assertionFailedError;
+      if (assertionFailedError != null) return recorded(assertionFailedError, description);
     }
     AssertionError assertionFailedError = assertionFailedError(message, representation);
     // assertionFailedError != null means that JUnit 5 and opentest4j are in the classpath
-    if (assertionFailedError != null) return assertionFailedError;
+    if (assertionFailedError != null) return recorded(assertionFailedError, description);
     // No JUnit in the classpath => fall back to the default error message
     return Failures.instance().failure(message);
   }
 
+  // the fallback error is recorded by Failures
+  private AssertionError recorded(AssertionError assertionFailedError, Description description) {
+    FlightRecorderEvents.assertionFailed(this, description, assertionFailedError);
+    return assertionFailedError;
+  }
+
   protected boolean actualAndExpectedHaveSameStringRepresentation() {
     return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
   }
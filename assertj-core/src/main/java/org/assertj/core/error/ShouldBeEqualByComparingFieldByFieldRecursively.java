@@ -55,6 +55,9 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                     .collect(toList())).with("%n%n".formatted());
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
     String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
+    String truncationWarning = differences.size() >= recursiveComparisonConfiguration.getMaxDifferences()
+        ? "%nThe comparison stopped after finding " + differences.size() + " difference(s), there may be other ones.%n"
+        : "";
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
                                                                "Expecting actual:%n" +
@@ -64,6 +67,7 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                "when recursively comparing field by field, but found the following " + differencesCount +
                                                                "%n" +
                                                                escapePercent(differencesDescription) + "%n" +
+                                                               truncationWarning +
                                                                "%n"+
                                                                "The recursive comparison was performed with this configuration:%n" +
                                                                recursiveComparisonConfigurationDescription, // don't use %s to avoid AssertJ formatting String with ""
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import java.time.Duration;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that some code completes within a given duration
+ * failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldCompleteWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldCompleteWithin}</code>.
+   *
+   * @param maxDuration the expected maximum duration.
+   * @param duration the measured duration.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldCompleteWithin(Duration maxDuration, Duration duration) {
+    return new ShouldCompleteWithin(maxDuration, duration);
+  }
+
+  private ShouldCompleteWithin(Duration maxDuration, Duration duration) {
+    super("%nExpecting code to complete within%n  %s%nbut it took%n  %s", maxDuration, duration);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import java.time.Duration;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that some assertions eventually pass within a given
+ * duration failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldEventuallyPass extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldEventuallyPass}</code>.
+   *
+   * @param timeout the duration the assertions were given to pass.
+   * @param attempts the number of times the assertions were run.
+   * @param lastFailure the failure raised by the last run of the assertions.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldEventuallyPass(Duration timeout, int attempts, Throwable lastFailure) {
+    return new ShouldEventuallyPass(timeout, attempts, lastFailure);
+  }
+
+  private ShouldEventuallyPass(Duration timeout, int attempts, Throwable lastFailure) {
+    super("%nExpecting assertions to pass within%n  %s%nbut they still failed after %s attempts, last failure was:%n  %s",
+          timeout, attempts, unquotedString(describe(lastFailure)));
+  }
+
+  private static String describe(Throwable failure) {
+    // the message of assertion errors already describes the failure, other exceptions are described by their type too
+    if (!(failure instanceof AssertionError) || failure.getMessage() == null) return failure.toString();
+    return failure.getMessage().stripLeading();
+  }
+}
@@ -18,6 +18,7 @@ package org.assertj.core.error;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.assertj.core.internal.DigestDiff;
 
@@ -40,6 +41,14 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     return new ShouldHaveDigest(actualSource, diff);
   }
 
+  public static ErrorMessageFactory shouldHaveDigests(Path actualSource, List<DigestDiff> diffs) {
+    return new ShouldHaveDigest(actualSource, diffs);
+  }
+
+  public static ErrorMessageFactory shouldHaveDigests(File actualSource, List<DigestDiff> diffs) {
+    return new ShouldHaveDigest(actualSource, diffs);
+  }
+
   private ShouldHaveDigest(Path actualSource, DigestDiff diff) {
     super(errorMessage("Path", diff), actualSource, diff.getExpected(), diff.getActual());
   }
@@ -52,6 +61,14 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     super(errorMessage("InputStream", diff), actualSource, diff.getExpected(), diff.getActual());
   }
 
+  private ShouldHaveDigest(Path actualSource, List<DigestDiff> diffs) {
+    super(errorMessage("Path", diffs), arguments(actualSource, diffs));
+  }
+
+  private ShouldHaveDigest(File actualSource, List<DigestDiff> diffs) {
+    super(errorMessage("File", diffs), arguments(actualSource, diffs));
+  }
+
   private static String errorMessage(String actualType, DigestDiff diff) {
     return "%nExpecting " + actualType + " %s " + diff.getDigestAlgorithm() + " digest to be:%n" +
            "  %s%n" +
@@ -59,4 +76,22 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
            "  %s";
   }
 
+  private static String errorMessage(String actualType, List<DigestDiff> diffs) {
+    StringBuilder message = new StringBuilder("%nExpecting " + actualType + " %s digests to be:%n");
+    diffs.forEach(diff -> message.append("  ").append(diff.getDigestAlgorithm()).append(": %s%n"));
+    message.append("but were:");
+    diffs.forEach(diff -> message.append("%n  ").append(diff.getDigestAlgorithm()).append(": %s"));
+    return message.toString();
+  }
+
+  private static Object[] arguments(Object actualSource, List<DigestDiff> diffs) {
+    Object[] arguments = new Object[1 + 2 * diffs.size()];
+    arguments[0] = actualSource;
+    for (int i = 0; i < diffs.size(); i++) {
+      arguments[1 + i] = diffs.get(i).getExpected();
+      arguments[1 + diffs.size() + i] = diffs.get(i).getActual();
+    }
+    return arguments;
+  }
+
 }
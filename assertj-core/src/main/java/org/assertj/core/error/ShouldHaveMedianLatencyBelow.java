@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.Math.ceil;
+
+import java.time.Duration;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the median latency of some code is below a given
+ * duration failed, the message reports the percentiles of the measured latencies.
+ *
+ * @since 4.0.0
+ */
+public class ShouldHaveMedianLatencyBelow extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveMedianLatencyBelow}</code>.
+   *
+   * @param maxMedian the duration the median latency was expected to be below.
+   * @param sortedLatencyNanos the measured latencies in nanoseconds, sorted in ascending order.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMedianLatencyBelow(Duration maxMedian, long[] sortedLatencyNanos) {
+    return new ShouldHaveMedianLatencyBelow(maxMedian, sortedLatencyNanos);
+  }
+
+  private ShouldHaveMedianLatencyBelow(Duration maxMedian, long[] sortedLatencyNanos) {
+    super("%nExpecting code median latency over %s iterations to be below%n  %s%nbut was%n  %s%n" +
+          "measured latencies:%n  min=%s, p50=%s, p90=%s, p99=%s, max=%s",
+          sortedLatencyNanos.length, maxMedian, percentile(sortedLatencyNanos, 50),
+          percentile(sortedLatencyNanos, 0), percentile(sortedLatencyNanos, 50), percentile(sortedLatencyNanos, 90),
+          percentile(sortedLatencyNanos, 99), percentile(sortedLatencyNanos, 100));
+  }
+
+  /**
+   * Returns the given percentile of the sorted latencies with the nearest-rank method, 0 is the minimum.
+   *
+   * @param sortedLatencyNanos the latencies in nanoseconds, sorted in ascending order.
+   * @param percentile the percentile to compute, between 0 and 100.
+   * @return the percentile as a {@link Duration}.
+   */
+  public static Duration percentile(long[] sortedLatencyNanos, int percentile) {
+    int rank = (int) ceil(percentile / 100.0 * sortedLatencyNanos.length);
+    return Duration.ofNanos(sortedLatencyNanos[Math.max(rank - 1, 0)]);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static java.util.Locale.ROOT;
+
+import org.assertj.core.internal.Complexity;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the execution time of a workload grows at most as
+ * a given {@link Complexity} failed, the message reports the measured exponent and timings.
+ *
+ * @since 4.0.0
+ */
+public class ShouldScaleAtMost extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldScaleAtMost}</code>.
+   *
+   * @param complexity the expected complexity.
+   * @param maxExponent the maximum exponent accepted for the expected complexity.
+   * @param exponent the measured exponent.
+   * @param sizes the sizes of the workload.
+   * @param nanos the measured execution time in nanoseconds for each size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldScaleAtMost(Complexity complexity, double maxExponent, double exponent, int[] sizes,
+                                                      long[] nanos) {
+    return new ShouldScaleAtMost(complexity, maxExponent, exponent, sizes, nanos);
+  }
+
+  private ShouldScaleAtMost(Complexity complexity, double maxExponent, double exponent, int[] sizes, long[] nanos) {
+    // the numbers are part of the message format to be displayed with two decimals
+    super(format(ROOT, "%%nExpecting workload execution time to grow at most %s (exponent <= %.2f)%%n" +
+                       "but the measured exponent was%%n  %.2f%%n" +
+                       "measured timings:%s", complexity, maxExponent, exponent, timings(sizes, nanos)));
+  }
+
+  private static String timings(int[] sizes, long[] nanos) {
+    StringBuilder timings = new StringBuilder();
+    for (int i = 0; i < sizes.length; i++) {
+      timings.append(format(ROOT, "%%n  size=%d: %.3f ms", sizes[i], nanos[i] / 1_000_000.0));
+    }
+    return timings.toString();
+  }
+}
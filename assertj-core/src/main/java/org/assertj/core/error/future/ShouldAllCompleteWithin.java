@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error.future;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.util.Strings.escapePercent;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the futures of a group complete within a
+ * given duration failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldAllCompleteWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAllCompleteWithin}</code>.
+   *
+   * @param timeout the duration the futures were given to complete.
+   * @param futuresCount the number of futures.
+   * @param notCompletedFutures the descriptions of the futures that did not complete, with their index and elapsed time.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllCompleteWithin(Duration timeout, int futuresCount, List<String> notCompletedFutures) {
+    return new ShouldAllCompleteWithin(timeout, futuresCount, notCompletedFutures);
+  }
+
+  private ShouldAllCompleteWithin(Duration timeout, int futuresCount, List<String> notCompletedFutures) {
+    // don't put the descriptions as parameters to avoid AssertJ default String formatting
+    super("%nExpecting all the %s futures to complete within%n  %s%nbut %s of them did not:%n"
+          + notCompletedFutures.stream().map(description -> "  - " + escapePercent(description)).collect(joining("%n")),
+          futuresCount, timeout, notCompletedFutures.size());
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error.future;
+
+import java.time.Duration;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that at least one future of a group fails within a
+ * given duration failed.
+ *
+ * @since 4.0.0
+ */
+public class ShouldAnyFailWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAnyFailWithin}</code>.
+   *
+   * @param timeout the duration the futures were given to fail.
+   * @param futuresCount the number of futures.
+   * @param succeededCount the number of futures that completed normally.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAnyFailWithin(Duration timeout, int futuresCount, int succeededCount) {
+    return new ShouldAnyFailWithin(timeout, futuresCount, succeededCount);
+  }
+
+  private ShouldAnyFailWithin(Duration timeout, int futuresCount, int succeededCount) {
+    super("%nExpecting at least one of the %s futures to fail within%n  %s%nbut %s of them succeeded and %s were still not completed",
+          futuresCount, timeout, succeededCount, futuresCount - succeededCount);
+  }
+}
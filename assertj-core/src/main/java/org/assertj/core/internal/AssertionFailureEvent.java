@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event recorded for each assertion failure created by {@link Failures}.
+ */
+@Name("org.assertj.AssertionFailure")
+@Label("Assertion Failure")
+@Category("AssertJ")
+@Description("An assertion failed")
+@Enabled(false)
+final class AssertionFailureEvent extends Event {
+
+  @Label("Error Message Factory")
+  @Description("Class name of the factory of the error message, ex: org.assertj.core.error.ShouldBeEqual")
+  String errorMessageFactory;
+
+  @Label("Assertion Description")
+  String assertionDescription;
+
+  @Label("Error Message")
+  String errorMessage;
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.isWhitespace;
+import static java.lang.Character.toLowerCase;
+
+/**
+ * Compares char sequences ignoring case, whitespace, punctuation or newlines without building normalized copies of them.
+ * <p>
+ * Both char sequences are walked at once, skipping or collapsing the ignored chars on the fly, the comparisons give the
+ * same results as comparing the copies built by {@link Strings} (ex: {@code toLowerCase(ROOT)} or whitespace
+ * normalization), copies are thus only needed to report a failure.
+ */
+final class CharSequenceComparisons {
+
+  private static final int END = -1;
+  // the POSIX punctuation chars matched by the \p{Punct} regex
+  private static final String PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+  /**
+   * Returns whether the chars of the given char sequence can be lower cased one by one with
+   * {@link Character#toLowerCase(char)} to get the same result as {@code toString().toLowerCase(Locale.ROOT)}.
+   * <p>
+   * It is not the case for supplementary characters (lower cased by code point), the capital I with dot above (lower cased
+   * to two chars) and the capital sigma (lower cased depending on its position in the word).
+   *
+   * @param chars the char sequence to check.
+   * @return whether the chars can be lower cased one by one.
+   */
+  static boolean isLowerCasedCharByChar(CharSequence chars) {
+    for (int i = 0; i < chars.length(); i++) {
+      char c = chars.charAt(i);
+      if (isSurrogate(c) || c == '\u0130' || c == '\u03A3') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the given text contains the given sequence ignoring case, both must be
+   * {@link #isLowerCasedCharByChar(CharSequence) lower cased char by char}.
+   *
+   * @param text the text to look the sequence in.
+   * @param sequence the sequence to look for.
+   * @return whether the lower cased text contains the lower cased sequence.
+   */
+  static boolean containsIgnoringCase(CharSequence text, CharSequence sequence) {
+    for (int offset = 0; offset <= text.length() - sequence.length(); offset++) {
+      if (regionMatchesIgnoringCase(text, offset, sequence)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether the given text starts with the given prefix ignoring case, both must be
+   * {@link #isLowerCasedCharByChar(CharSequence) lower cased char by char}.
+   *
+   * @param text the text to check.
+   * @param prefix the expected prefix.
+   * @return whether the lower cased text starts with the lower cased prefix.
+   */
+  static boolean startsWithIgnoringCase(CharSequence text, CharSequence prefix) {
+    return prefix.length() <= text.length() && regionMatchesIgnoringCase(text, 0, prefix);
+  }
+
+  /**
+   * Returns whether the given text ends with the given suffix ignoring case, both must be
+   * {@link #isLowerCasedCharByChar(CharSequence) lower cased char by char}.
+   *
+   * @param text the text to check.
+   * @param suffix the expected suffix.
+   * @return whether the lower cased text ends with the lower cased suffix.
+   */
+  static boolean endsWithIgnoringCase(CharSequence text, CharSequence suffix) {
+    return suffix.length() <= text.length() && regionMatchesIgnoringCase(text, text.length() - suffix.length(), suffix);
+  }
+
+  private static boolean regionMatchesIgnoringCase(CharSequence text, int offset, CharSequence region) {
+    for (int i = 0; i < region.length(); i++) {
+      char c = text.charAt(offset + i);
+      char other = region.charAt(i);
+      if (c != other && toLowerCase(c) != toLowerCase(other)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the given char sequences are equal once their {@link Character#isWhitespace(char) whitespaces} are
+   * removed, as {@link Strings#removeAllWhitespaces(CharSequence)} does.
+   *
+   * @param actual the actual char sequence.
+   * @param expected the expected char sequence.
+   * @return whether the char sequences are equal ignoring whitespaces.
+   */
+  static boolean equalsIgnoringWhitespace(CharSequence actual, CharSequence expected) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      while (actualIndex < actual.length() && isWhitespace(actual.charAt(actualIndex))) actualIndex++;
+      while (expectedIndex < expected.length() && isWhitespace(expected.charAt(expectedIndex))) expectedIndex++;
+      boolean actualEnded = actualIndex == actual.length();
+      boolean expectedEnded = expectedIndex == expected.length();
+      if (actualEnded || expectedEnded) return actualEnded && expectedEnded;
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
+    }
+  }
+
+  /**
+   * Returns whether the given char sequences are equal once their newlines are removed, a newline being either
+   * {@code \n} or {@code \r\n}.
+   *
+   * @param actual the actual char sequence.
+   * @param expected the expected char sequence.
+   * @return whether the char sequences are equal ignoring newlines.
+   */
+  static boolean equalsIgnoringNewlines(CharSequence actual, CharSequence expected) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      actualIndex = skipNewlines(actual, actualIndex);
+      expectedIndex = skipNewlines(expected, expectedIndex);
+      boolean actualEnded = actualIndex == actual.length();
+      boolean expectedEnded = expectedIndex == expected.length();
+      if (actualEnded || expectedEnded) return actualEnded && expectedEnded;
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
+    }
+  }
+
+  private static int skipNewlines(CharSequence chars, int index) {
+    while (index < chars.length()) {
+      char c = chars.charAt(index);
+      if (c == '\n') index++;
+      else if (c == '\r' && index + 1 < chars.length() && chars.charAt(index + 1) == '\n') index += 2;
+      else return index;
+    }
+    return index;
+  }
+
+  /**
+   * Returns whether the given char sequences are equal once their whitespaces are normalized: leading and trailing
+   * whitespaces are removed and the other sequences of whitespaces are replaced by a single space, non-breaking spaces are
+   * considered whitespaces.
+   *
+   * @param actual the actual char sequence.
+   * @param expected the expected char sequence.
+   * @return whether the char sequences are equal normalizing whitespaces.
+   */
+  static boolean equalsNormalizingWhitespace(CharSequence actual, CharSequence expected) {
+    return equalsNormalizing(new NormalizedChars(actual, false), new NormalizedChars(expected, false));
+  }
+
+  /**
+   * Returns whether the given char sequences are equal once their punctuation is removed and their whitespaces are
+   * normalized as in {@link #equalsNormalizingWhitespace(CharSequence, CharSequence)}.
+   *
+   * @param actual the actual char sequence.
+   * @param expected the expected char sequence.
+   * @return whether the char sequences are equal normalizing punctuation and whitespaces.
+   */
+  static boolean equalsNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
+    return equalsNormalizing(new NormalizedChars(actual, true), new NormalizedChars(expected, true));
+  }
+
+  private static boolean equalsNormalizing(NormalizedChars actual, NormalizedChars expected) {
+    while (true) {
+      int c = actual.next();
+      if (c != expected.next()) return false;
+      if (c == END) return true;
+    }
+  }
+
+  static boolean isWhitespaceOrNonBreakingSpace(char c) {
+    return isWhitespace(c) || c == '\u00A0' || c == '\u2007' || c == '\u202F';
+  }
+
+  private static boolean isPunctuation(char c) {
+    return c < 128 && PUNCTUATION.indexOf(c) >= 0;
+  }
+
+  /**
+   * Iterates over the chars of a char sequence with its whitespaces normalized and optionally its punctuation removed.
+   */
+  private static final class NormalizedChars {
+
+    private final CharSequence chars;
+    private final boolean removePunctuation;
+    private final int end;
+    private int index;
+
+    private NormalizedChars(CharSequence chars, boolean removePunctuation) {
+      this.chars = chars;
+      this.removePunctuation = removePunctuation;
+      // normalizing trims the collapsed whitespaces, and also the chars below space at both ends as String.trim() does
+      int start = 0;
+      int end = chars.length();
+      while (start < end && isTrimmed(chars.charAt(start))) start++;
+      while (end > start && isTrimmed(chars.charAt(end - 1))) end--;
+      this.index = start;
+      this.end = end;
+    }
+
+    private int next() {
+      while (index < end) {
+        char c = chars.charAt(index++);
+        if (isRemoved(c)) continue;
+        if (!isWhitespaceOrNonBreakingSpace(c)) return c;
+        // punctuation is removed before collapsing whitespaces, it does not split a sequence of whitespaces
+        while (index < end && (isWhitespaceOrNonBreakingSpace(chars.charAt(index)) || isRemoved(chars.charAt(index)))) index++;
+        return ' ';
+      }
+      return END;
+    }
+
+    private boolean isTrimmed(char c) {
+      return c <= ' ' || isWhitespaceOrNonBreakingSpace(c) || isRemoved(c);
+    }
+
+    private boolean isRemoved(char c) {
+      return removePunctuation && isPunctuation(c);
+    }
+  }
+
+  private CharSequenceComparisons() {}
+
+}
@@ -48,6 +48,17 @@ import org.assertj.core.util.TriFunction;
  */
 public class Comparables {
 
+  private static final Comparables INSTANCE = new Comparables();
+
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   *
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static Comparables instance() {
+    return INSTANCE;
+  }
+
   private final ComparisonStrategy comparisonStrategy;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
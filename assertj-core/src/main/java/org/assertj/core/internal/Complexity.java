@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.log;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Growth rates a workload execution time is compared to, see {@link Workloads#assertScalesAtMost}.
+ * <p>
+ * The growth rate of a workload is measured as the slope of the log-log regression line of its execution time over its size,
+ * it is compared to the slope of the growth rate function over the same sizes.
+ *
+ * @since 4.0.0
+ */
+public enum Complexity {
+
+  LINEAR("linearly", size -> size),
+  N_LOG_N("as n log n", size -> size * log(size)),
+  QUADRATIC("quadratically", size -> (double) size * size);
+
+  private final String description;
+  private final IntToDoubleFunction growth;
+
+  Complexity(String description, IntToDoubleFunction growth) {
+    this.description = description;
+    this.growth = growth;
+  }
+
+  /**
+   * Returns the exponent of this complexity over the given sizes, that is the slope of {@code log(growth(size))} over
+   * {@code log(size)}: 1 for linear, 2 for quadratic and slightly above 1 for n log n.
+   *
+   * @param sizes the sizes of the workload, at least two distinct ones.
+   * @return the exponent of this complexity over the given sizes.
+   */
+  public double exponentOver(int[] sizes) {
+    double[] growths = new double[sizes.length];
+    for (int i = 0; i < sizes.length; i++) {
+      growths[i] = growth.applyAsDouble(sizes[i]);
+    }
+    return logLogSlope(sizes, growths);
+  }
+
+  /**
+   * Returns the least squares slope of {@code log(values)} over {@code log(sizes)}.
+   *
+   * @param sizes the sizes, at least two distinct ones.
+   * @param values the strictly positive values measured for each size.
+   * @return the log-log slope.
+   */
+  public static double logLogSlope(int[] sizes, double[] values) {
+    double meanLogSize = 0;
+    double meanLogValue = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      meanLogSize += log(sizes[i]) / sizes.length;
+      meanLogValue += log(values[i]) / sizes.length;
+    }
+    double covariance = 0;
+    double variance = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      double logSizeDeviation = log(sizes[i]) - meanLogSize;
+      covariance += logSizeDeviation * (log(values[i]) - meanLogValue);
+      variance += logSizeDeviation * logSizeDeviation;
+    }
+    return covariance / variance;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+}
@@ -15,7 +15,9 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
@@ -25,13 +27,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 /**
@@ -48,6 +62,8 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  private static final int SCAN_BUFFER_SIZE = 1024 * 64;
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -65,6 +81,18 @@ public class Diff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(Path actual, Charset actualCharset, Path expected, Charset expectedCharset) throws IOException {
+    if (actualCharset.equals(expectedCharset)) {
+      // same bytes decoded with the same charset give the same lines, no need to split them in lines and diff them to find
+      // it out, they are still decoded since content that can't be decoded must be reported as when the lines are read
+      long mismatch = Files.mismatch(actual, expected);
+      if (mismatch == -1) {
+        checkDecodable(actual, actualCharset, Files.size(actual));
+        return emptyList();
+      }
+      if (mismatch > 0 && hasSingleByteLineTerminators(actualCharset)) {
+        return diffFromLastCommonLine(actual, expected, actualCharset, mismatch);
+      }
+    }
     return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
   }
 
@@ -106,4 +134,113 @@ public class Diff {
     }
     return lines;
   }
+
+  /**
+   * Diffs the given paths content starting at the beginning of the line where they first differ, the common lines before
+   * are skipped but taken into account in the reported deltas line positions.
+   */
+  private List<Delta<String>> diffFromLastCommonLine(Path actual, Path expected, Charset charset,
+                                                     long mismatch) throws IOException {
+    CommonLines commonLines = commonLinesBefore(actual, mismatch);
+    // the skipped common lines are identical in both paths, checking actual is enough
+    checkDecodable(actual, charset, commonLines.endOffset());
+    List<Delta<String>> deltas;
+    try (FileChannel actualChannel = FileChannel.open(actual).position(commonLines.endOffset());
+        FileChannel expectedChannel = FileChannel.open(expected).position(commonLines.endOffset())) {
+      deltas = diff(new BufferedReader(Channels.newReader(actualChannel, charset.newDecoder(), -1)),
+                    new BufferedReader(Channels.newReader(expectedChannel, charset.newDecoder(), -1)));
+    }
+    if (commonLines.count() == 0) return deltas;
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      shiftedDeltas.add(shift(delta, commonLines.count()));
+    }
+    return unmodifiableList(shiftedDeltas);
+  }
+
+  /**
+   * Returns the offset following the last line feed before the given offset along with the number of lines ended before it.
+   * <p>
+   * A line is ended by a line feed, a carriage return or a carriage return followed by a line feed like in
+   * {@link BufferedReader#readLine()}.
+   */
+  private static CommonLines commonLinesBefore(Path path, long offset) throws IOException {
+    int lineCount = 0;
+    int lineCountAtLastLineFeed = 0;
+    long lastLineFeedEnd = 0;
+    boolean previousIsCarriageReturn = false;
+    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(offset, SCAN_BUFFER_SIZE));
+    try (FileChannel channel = FileChannel.open(path)) {
+      long position = 0;
+      while (position < offset) {
+        buffer.clear().limit((int) Math.min(buffer.capacity(), offset - position));
+        if (channel.read(buffer) < 0) break;
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          byte b = buffer.get();
+          position++;
+          if (b == '\n') {
+            if (!previousIsCarriageReturn) lineCount++;
+            lastLineFeedEnd = position;
+            lineCountAtLastLineFeed = lineCount;
+          } else if (b == '\r') {
+            lineCount++;
+          }
+          previousIsCarriageReturn = b == '\r';
+        }
+      }
+    }
+    return new CommonLines(lastLineFeedEnd, lineCountAtLastLineFeed);
+  }
+
+  /**
+   * Decodes the given length of the path content without keeping the decoded chars, to throw the same
+   * {@link java.nio.charset.MalformedInputException} as reading its lines would if it can't be decoded with the given charset.
+   */
+  private static void checkDecodable(Path path, Charset charset, long length) throws IOException {
+    if (length == 0) return;
+    CharsetDecoder decoder = charset.newDecoder();
+    ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(length, SCAN_BUFFER_SIZE));
+    CharBuffer chars = CharBuffer.allocate(bytes.capacity());
+    try (FileChannel channel = FileChannel.open(path)) {
+      long remaining = length;
+      boolean endOfInput = false;
+      while (!endOfInput) {
+        // the bytes of a partially decoded char left by the previous chunk are kept at the beginning of the buffer
+        bytes.limit(bytes.position() + (int) Math.min(bytes.remaining(), remaining));
+        int read = channel.read(bytes);
+        if (read > 0) remaining -= read;
+        endOfInput = read < 0 || remaining == 0;
+        bytes.flip();
+        CoderResult result;
+        do {
+          result = decoder.decode(bytes, chars.clear(), endOfInput);
+          if (result.isError()) result.throwException();
+        } while (result.isOverflow());
+        bytes.compact();
+      }
+    }
+  }
+
+  // the line terminators bytes can only be found in the content as line terminators in these charsets
+  private static boolean hasSingleByteLineTerminators(Charset charset) {
+    if (!charset.canEncode()) return false;
+    boolean singleByteCharsOrUtf8 = charset.equals(UTF_8) || charset.newEncoder().maxBytesPerChar() == 1;
+    return singleByteCharsOrUtf8
+           && Arrays.equals("\n".getBytes(charset), new byte[] { '\n' })
+           && Arrays.equals("\r".getBytes(charset), new byte[] { '\r' });
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int lines) {
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + lines, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + lines, delta.getRevised().getLines());
+    return switch (delta.getType()) {
+      case CHANGE -> new ChangeDelta<>(original, revised);
+      case DELETE -> new DeleteDelta<>(original, revised);
+      case INSERT -> new InsertDelta<>(original, revised);
+    };
+  }
+
+  private record CommonLines(long endOffset, int count) {
+  }
 }
@@ -21,7 +21,14 @@ import static org.assertj.core.util.Hexadecimals.byteToHexString;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Reusable utils for digest processing
@@ -31,6 +38,11 @@ import java.security.MessageDigest;
 public final class Digests {
 
   private static final int BUFFER_SIZE = 1024 * 8;
+  // large enough to amortize the read syscalls on multi GB files
+  private static final int CHANNEL_BUFFER_SIZE = 1024 * 1024;
+  // direct so that the channel fills it without an intermediate copy, reused by the thread since a direct buffer is only
+  // released when garbage collected, allocating one per call could exhaust the direct memory when digesting many files
+  private static final ThreadLocal<ByteBuffer> CHANNEL_BUFFER = new ThreadLocal<>();
 
   private Digests() {}
 
@@ -67,4 +79,87 @@ public final class Digests {
     String actualHex = toHex(actualDigest);
     return new DigestDiff(actualHex, expectedHex, messageDigest);
   }
+
+  /**
+   * Computes the digest of the content of the given channel and compares it to the expected one.
+   * <p>
+   * The channel is read by chunks, the content of the file is never entirely loaded in memory.
+   *
+   * @param channel the channel to read the content from.
+   * @param messageDigest the digest algorithm to use.
+   * @param expected the expected digest.
+   * @return the {@link DigestDiff} between the actual and the expected digests.
+   * @throws IOException if any I/O error occurs while reading the channel.
+   */
+  public static DigestDiff digestDiff(FileChannel channel, MessageDigest messageDigest, byte[] expected) throws IOException {
+    requireNonNull(channel, "The channel should not be null");
+    requireNonNull(messageDigest, "The digest should not be null");
+    requireNonNull(expected, "The expected should not be null");
+    return digestDiffs(channel, Map.of(messageDigest, expected)).get(0);
+  }
+
+  /**
+   * Computes the digests of the content of the given channel for all the given algorithms and compares them to the expected ones.
+   * <p>
+   * The channel content is read only once, each chunk read is fed to all the digests.
+   *
+   * @param channel the channel to read the content from.
+   * @param expectedDigests the expected digest per digest algorithm, the returned diffs follow its iteration order.
+   * @return the {@link DigestDiff}s between the actual and the expected digests, one per algorithm.
+   * @throws IOException if any I/O error occurs while reading the channel.
+   */
+  public static List<DigestDiff> digestDiffs(FileChannel channel, Map<MessageDigest, byte[]> expectedDigests) throws IOException {
+    requireNonNull(channel, "The channel should not be null");
+    requireNonNull(expectedDigests, "The expected digests should not be null");
+    expectedDigests.forEach((messageDigest, expected) -> {
+      requireNonNull(messageDigest, "The digest should not be null");
+      requireNonNull(expected, "The expected should not be null");
+      messageDigest.reset();
+    });
+    int bufferSize = (int) Math.max(1, Math.min(channel.size(), CHANNEL_BUFFER_SIZE));
+    ByteBuffer buffer = channelBuffer(bufferSize);
+    while (channel.read(buffer) >= 0) {
+      buffer.flip();
+      for (MessageDigest messageDigest : expectedDigests.keySet()) {
+        buffer.rewind();
+        messageDigest.update(buffer);
+      }
+      buffer.clear().limit(bufferSize);
+    }
+    List<DigestDiff> diffs = new ArrayList<>(expectedDigests.size());
+    expectedDigests.forEach((messageDigest, expected) -> diffs.add(new DigestDiff(toHex(messageDigest.digest()), toHex(expected),
+                                                                                  messageDigest)));
+    return diffs;
+  }
+
+  // the thread buffer is only grown when a larger file than the previous ones is digested
+  private static ByteBuffer channelBuffer(int size) {
+    ByteBuffer buffer = CHANNEL_BUFFER.get();
+    if (buffer == null || buffer.capacity() < size) {
+      buffer = ByteBuffer.allocateDirect(size);
+      CHANNEL_BUFFER.set(buffer);
+    }
+    return buffer.clear().limit(size);
+  }
+
+  /**
+   * Resolves the digest algorithms of the given map and decodes their expected hexadecimal digests.
+   *
+   * @param expectedDigestsByAlgorithm the expected hexadecimal digest per digest algorithm name.
+   * @return the expected binary digest per {@link MessageDigest}, in the iteration order of the given map.
+   * @throws IllegalStateException if one of the algorithms is not available.
+   */
+  public static Map<MessageDigest, byte[]> toExpectedDigests(Map<String, String> expectedDigestsByAlgorithm) {
+    Map<MessageDigest, byte[]> expectedDigests = new LinkedHashMap<>();
+    expectedDigestsByAlgorithm.forEach((algorithm, expected) -> {
+      requireNonNull(algorithm, "The message digest algorithm should not be null");
+      requireNonNull(expected, "The string representation of digest to compare to should not be null");
+      try {
+        expectedDigests.put(MessageDigest.getInstance(algorithm), fromHex(expected));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("Unable to find digest implementation for: <%s>".formatted(algorithm), e);
+      }
+    });
+    return expectedDigests;
+  }
 }
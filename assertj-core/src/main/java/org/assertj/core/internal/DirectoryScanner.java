@@ -0,0 +1,223 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.assertj.core.configuration.Configuration;
+
+/**
+ * Scans directory entries for the directory content assertions of {@link org.assertj.core.internal.Files Files} and
+ * {@link Paths}.
+ * <p>
+ * Entries are consumed as they are listed: "containing" checks stop at the first matching entry and "not containing" checks
+ * only keep the matching entries. Recursive scans can fan out the subdirectories walking on the common fork-join pool, see
+ * {@link Configuration#parallelRecursiveDirectoryScanEnabled()}.
+ *
+ * @param <T> the type of the directory entries, either {@link Path} or {@link File}.
+ */
+final class DirectoryScanner<T> {
+
+  private static final String UNABLE_TO_LIST_DIRECTORY = "Unable to list directory content: <%s>";
+  private static final String UNABLE_TO_WALK_DIRECTORY = "Unable to walk recursively the directory :<%s>";
+
+  @FunctionalInterface
+  interface DirectoryLister<T> {
+    Stream<T> list(T directory) throws IOException;
+  }
+
+  private final DirectoryLister<T> lister;
+  private final Predicate<T> isDirectory;
+  private final boolean parallelRecursiveScan;
+
+  DirectoryScanner(DirectoryLister<T> lister, Predicate<T> isDirectory, boolean parallelRecursiveScan) {
+    this.lister = lister;
+    this.isDirectory = isDirectory;
+    this.parallelRecursiveScan = parallelRecursiveScan;
+  }
+
+  static DirectoryScanner<Path> pathScanner(NioFilesWrapper nioFilesWrapper) {
+    return pathScanner(nioFilesWrapper, parallelRecursiveScanEnabled());
+  }
+
+  static DirectoryScanner<Path> pathScanner(NioFilesWrapper nioFilesWrapper, boolean parallelRecursiveScan) {
+    return new DirectoryScanner<>(directory -> entriesOf(nioFilesWrapper.newDirectoryStream(directory, any -> true)),
+                                  path -> Files.isDirectory(path, NOFOLLOW_LINKS), parallelRecursiveScan);
+  }
+
+  static DirectoryScanner<File> fileScanner() {
+    return new DirectoryScanner<>(directory -> Stream.of(requireNonNull(directory.listFiles(),
+                                                                        "Directory listing should not be null")),
+                                  file -> Files.isDirectory(file.toPath(), NOFOLLOW_LINKS), parallelRecursiveScanEnabled());
+  }
+
+  private static boolean parallelRecursiveScanEnabled() {
+    return CONFIGURATION_PROVIDER.configuration().parallelRecursiveDirectoryScanEnabled();
+  }
+
+  /**
+   * Returns whether the given directory has an entry matching the given filter, the scan stops at the first match.
+   *
+   * @param directory the directory to scan.
+   * @param filter the filter to match.
+   * @return {@code true} if an entry of the directory matches the given filter.
+   */
+  boolean anyMatch(T directory, Predicate<? super T> filter) {
+    try (Stream<T> entries = lister.list(directory)) {
+      return entries.anyMatch(filter);
+    } catch (IOException | DirectoryIteratorException e) {
+      throw uncheckedIOException(UNABLE_TO_LIST_DIRECTORY, directory, e);
+    }
+  }
+
+  /**
+   * Returns the entries of the given directory matching the given filter.
+   *
+   * @param directory the directory to scan.
+   * @param filter the filter to match.
+   * @return the matching entries in the directory listing order.
+   */
+  List<T> allMatching(T directory, Predicate<? super T> filter) {
+    try (Stream<T> entries = lister.list(directory)) {
+      return entries.filter(filter).collect(toList());
+    } catch (IOException | DirectoryIteratorException e) {
+      throw uncheckedIOException(UNABLE_TO_LIST_DIRECTORY, directory, e);
+    }
+  }
+
+  /**
+   * Returns whether the given directory or any of its subdirectories has an entry matching the given filter, the scan stops
+   * at the first match. Symbolic links to directories are not followed.
+   *
+   * @param directory the directory to scan.
+   * @param filter the filter to match.
+   * @return {@code true} if an entry of the directory tree (excluding the given directory) matches the given filter.
+   */
+  boolean anyMatchRecursively(T directory, Predicate<? super T> filter) {
+    if (parallelRecursiveScan) return ForkJoinPool.commonPool().invoke(new RecursiveScan(directory, filter, new AtomicBoolean()));
+    Deque<T> directories = new ArrayDeque<>();
+    directories.push(directory);
+    while (!directories.isEmpty()) {
+      T current = directories.pop();
+      try (Stream<T> entries = listForWalk(current)) {
+        for (Iterator<T> iterator = entries.iterator(); iteratorHasNext(iterator, current);) {
+          T entry = iterator.next();
+          if (filter.test(entry)) return true;
+          if (isDirectory.test(entry)) directories.push(entry);
+        }
+      }
+    }
+    return false;
+  }
+
+  private Stream<T> listForWalk(T directory) {
+    try {
+      return lister.list(directory);
+    } catch (IOException e) {
+      throw uncheckedIOException(UNABLE_TO_WALK_DIRECTORY, directory, e);
+    }
+  }
+
+  private boolean iteratorHasNext(Iterator<T> iterator, T directory) {
+    try {
+      return iterator.hasNext();
+    } catch (DirectoryIteratorException e) {
+      throw uncheckedIOException(UNABLE_TO_WALK_DIRECTORY, directory, e);
+    }
+  }
+
+  private static Stream<Path> entriesOf(DirectoryStream<Path> directoryStream) {
+    return StreamSupport.stream(directoryStream.spliterator(), false)
+                        .onClose(() -> {
+                          try {
+                            directoryStream.close();
+                          } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                          }
+                        });
+  }
+
+  private static UncheckedIOException uncheckedIOException(String message, Object directory, Exception e) {
+    IOException cause = e instanceof DirectoryIteratorException directoryIteratorException
+        ? directoryIteratorException.getCause()
+        : (IOException) e;
+    return new UncheckedIOException(message.formatted(directory), cause);
+  }
+
+  /**
+   * Scans one directory and forks a sub scan per subdirectory, all scans give up as soon as one of them has found a match.
+   */
+  private final class RecursiveScan extends RecursiveTask<Boolean> {
+
+    private final T directory;
+    private final Predicate<? super T> filter;
+    private final AtomicBoolean found;
+
+    private RecursiveScan(T directory, Predicate<? super T> filter, AtomicBoolean found) {
+      this.directory = directory;
+      this.filter = filter;
+      this.found = found;
+    }
+
+    @Override
+    protected Boolean compute() {
+      List<RecursiveScan> subScans = new ArrayList<>();
+      try (Stream<T> entries = listForWalk(directory)) {
+        for (Iterator<T> iterator = entries.iterator(); !found.get() && iteratorHasNext(iterator, directory);) {
+          T entry = iterator.next();
+          if (filter.test(entry)) {
+            found.set(true);
+            return true;
+          }
+          if (isDirectory.test(entry)) {
+            RecursiveScan subScan = new RecursiveScan(entry, filter, found);
+            subScan.fork();
+            subScans.add(subScan);
+          }
+        }
+      }
+      boolean subScansFound = false;
+      // join all sub scans to propagate their failures, the ones started after a match return immediately
+      for (RecursiveScan subScan : subScans) {
+        subScansFound |= subScan.join();
+      }
+      return subScansFound;
+    }
+  }
+
+}
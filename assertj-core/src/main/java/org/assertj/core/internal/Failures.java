@@ -25,6 +25,7 @@ import java.lang.management.ThreadMXBean;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.MessageFormatter;
@@ -62,7 +63,7 @@ public class Failures {
   /**
    * flag indicating whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
-  private boolean removeAssertJRelatedElementsFromStackTrace = Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
+  private volatile boolean removeAssertJRelatedElementsFromStackTrace = Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
 
   /**
    * Sets whether we remove elements related to AssertJ from assertion error stack trace.
@@ -79,7 +80,8 @@ public class Failures {
    * @return whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
   public boolean isRemoveAssertJRelatedElementsFromStackTrace() {
-    return removeAssertJRelatedElementsFromStackTrace;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? removeAssertJRelatedElementsFromStackTrace : scope.removeAssertJRelatedElementsFromStackTraceEnabled();
   }
 
   private Failures() {}
@@ -112,6 +114,7 @@ public class Failures {
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
+    FlightRecorderEvents.assertionFailed(messageFactory, info.description(), assertionError);
     return assertionError;
   }
 
@@ -121,6 +124,7 @@ public class Failures {
                                                                          info.representation());
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
+    FlightRecorderEvents.assertionFailed(messageFactory, info.description(), assertionError);
     return assertionError;
   }
 
@@ -151,6 +155,7 @@ public class Failures {
     AssertionError assertionError = assertionErrorCreator.assertionError(message);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
+    FlightRecorderEvents.assertionFailed(null, null, assertionError);
     return assertionError;
   }
 
@@ -164,6 +169,21 @@ public class Failures {
     return failure(format("%s should have been thrown", throwableClass.getSimpleName()));
   }
 
+  /**
+   * Runs the given assertions only to know whether they pass, the failures they raise are discarded.
+   *
+   * @param assertions the assertions to evaluate.
+   * @return {@code true} if the assertions passed, {@code false} if they failed.
+   */
+  public boolean passes(Runnable assertions) {
+    try {
+      assertions.run();
+      return true;
+    } catch (AssertionError e) {
+      return false;
+    }
+  }
+
   public void printThreadDumpIfNeeded() {
     if (printThreadDump) System.err.println(threadDumpDescription());
   }
@@ -199,7 +219,7 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (isRemoveAssertJRelatedElementsFromStackTrace()) {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
@@ -34,6 +34,7 @@ import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoExtension.shouldHaveNoExtension;
@@ -45,15 +46,15 @@ import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.toExpectedDigests;
 import static org.assertj.core.util.Files.getFileNameExtension;
-import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.Path;
@@ -61,6 +62,7 @@ import java.nio.file.PathMatcher;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -82,7 +84,7 @@ public class Files {
 
   private static final String UNABLE_TO_COMPARE_FILE_CONTENTS = "Unable to compare contents of files:<%s> and:<%s>";
   private static final Files INSTANCE = new Files();
-  private static final FileFilter ANY = any -> true;
+  private static final Predicate<File> ANY = any -> true;
 
   /**
    * Returns the singleton instance of this class.
@@ -461,8 +463,8 @@ public class Files {
     assertExists(info, actual);
     assertIsFile(info, actual);
     assertCanRead(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual.toPath())) {
-      DigestDiff digestDiff = digestDiff(actualStream, digest, expected);
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual.toPath())) {
+      DigestDiff digestDiff = digestDiff(actualChannel, digest, expected);
       if (digestDiff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, digestDiff));
     } catch (IOException e) {
       throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
@@ -488,6 +490,23 @@ public class Files {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasDigests(AssertionInfo info, File actual, Map<String, String> expectedDigestsByAlgorithm) {
+    requireNonNull(expectedDigestsByAlgorithm, "The expected digests to compare to should not be null");
+    checkArgument(!expectedDigestsByAlgorithm.isEmpty(), "The expected digests to compare to should not be empty");
+    Map<MessageDigest, byte[]> expectedDigests = toExpectedDigests(expectedDigestsByAlgorithm);
+    assertExists(info, actual);
+    assertIsFile(info, actual);
+    assertCanRead(info, actual);
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual.toPath())) {
+      List<DigestDiff> diffs = Digests.digestDiffs(actualChannel, expectedDigests).stream()
+                                      .filter(DigestDiff::digestsDiffer)
+                                      .collect(toList());
+      if (!diffs.isEmpty()) throw failures.failure(info, shouldHaveDigests(actual, diffs));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
+    }
+  }
+
   public void assertIsEmptyDirectory(AssertionInfo info, File actual) {
     List<File> files = directoryContent(info, actual);
     if (!files.isEmpty()) throw failures.failure(info, shouldBeEmptyDirectory(actual, files));
@@ -500,13 +519,13 @@ public class Files {
 
   public void assertIsDirectoryContaining(AssertionInfo info, File actual, Predicate<File> filter) {
     requireNonNull(filter, "The files filter should not be null");
-    assertIsDirectoryContaining(info, actual, filter::test, "the given filter");
+    assertIsDirectoryContaining(info, actual, filter, "the given filter");
   }
 
   public void assertIsDirectoryContaining(AssertionInfo info, File actual, String syntaxAndPattern) {
     requireNonNull(syntaxAndPattern, "The syntax and pattern should not be null");
     FileFilter filter = fileFilter(info, actual, syntaxAndPattern);
-    assertIsDirectoryContaining(info, actual, filter, "the '%s' pattern".formatted(syntaxAndPattern));
+    assertIsDirectoryContaining(info, actual, filter::accept, "the '%s' pattern".formatted(syntaxAndPattern));
   }
 
   public void assertIsDirectoryRecursivelyContaining(AssertionInfo info, File actual, String syntaxAndPattern) {
@@ -522,22 +541,20 @@ public class Files {
 
   public void assertIsDirectoryNotContaining(AssertionInfo info, File actual, Predicate<File> filter) {
     requireNonNull(filter, "The files filter should not be null");
-    assertIsDirectoryNotContaining(info, actual, filter::test, "the given filter");
+    assertIsDirectoryNotContaining(info, actual, filter, "the given filter");
   }
 
   public void assertIsDirectoryNotContaining(AssertionInfo info, File actual, String syntaxAndPattern) {
     requireNonNull(syntaxAndPattern, "The syntax and pattern should not be null");
     FileFilter filter = fileFilter(info, actual, syntaxAndPattern);
-    assertIsDirectoryNotContaining(info, actual, filter, "the '%s' pattern".formatted(syntaxAndPattern));
+    assertIsDirectoryNotContaining(info, actual, filter::accept, "the '%s' pattern".formatted(syntaxAndPattern));
   }
 
   // non-public section
 
-  private List<File> filterDirectory(AssertionInfo info, File actual, FileFilter filter) {
+  private List<File> filterDirectory(AssertionInfo info, File actual, Predicate<File> filter) {
     assertIsDirectory(info, actual);
-    File[] items = actual.listFiles(filter);
-    requireNonNull(items, "Directory listing should not be null");
-    List<File> files = list(items);
+    List<File> files = DirectoryScanner.fileScanner().allMatching(actual, filter);
     // sort files for test consistency and nicer error message output
     files.sort(comparing(File::toString));
     return files;
@@ -547,14 +564,15 @@ public class Files {
     return filterDirectory(info, actual, ANY);
   }
 
-  private void assertIsDirectoryContaining(AssertionInfo info, File actual, FileFilter filter, String filterPresentation) {
-    List<File> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
+  private void assertIsDirectoryContaining(AssertionInfo info, File actual, Predicate<File> filter, String filterPresentation) {
+    assertIsDirectory(info, actual);
+    if (!DirectoryScanner.fileScanner().anyMatch(actual, filter)) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContent(info, actual), filterPresentation));
     }
   }
 
-  private void assertIsDirectoryNotContaining(AssertionInfo info, File actual, FileFilter filter, String filterPresentation) {
+  private void assertIsDirectoryNotContaining(AssertionInfo info, File actual, Predicate<File> filter,
+                                              String filterPresentation) {
     List<File> matchingFiles = filterDirectory(info, actual, filter);
     if (!matchingFiles.isEmpty()) {
       throw failures.failure(info, directoryShouldNotContain(actual, matchingFiles, filterPresentation));
@@ -563,9 +581,7 @@ public class Files {
 
   private boolean isDirectoryRecursivelyContaining(AssertionInfo info, File actual, Predicate<File> filter) {
     assertIsDirectory(info, actual);
-    try (Stream<File> actualContent = recursiveContentOf(actual)) {
-      return actualContent.anyMatch(filter);
-    }
+    return DirectoryScanner.pathScanner(nioFilesWrapper).anyMatchRecursively(actual.toPath(), path -> filter.test(path.toFile()));
   }
 
   private List<File> sortedRecursiveContent(File directory) {
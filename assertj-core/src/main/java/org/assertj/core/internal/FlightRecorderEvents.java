@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.Collection;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.assertj.core.description.Description;
+
+/**
+ * Records AssertJ events with Java Flight Recorder to attribute the time spent in assertions when profiling.
+ * <p>
+ * The events are disabled by default, they have to be enabled in the recording settings (ex: with a custom {@code .jfc}
+ * file or JDK Mission Control):
+ * <ul>
+ * <li>{@code org.assertj.AssertionFailure}: an assertion failed, recorded by {@link Failures}</li>
+ * <li>{@code org.assertj.SlowAssertion}: an assertion took longer than the event threshold (20 ms by default)</li>
+ * <li>{@code org.assertj.RecursiveComparison}: the number of values compared, their maximum depth and the number of
+ * differences found by a recursive comparison</li>
+ * </ul>
+ * The {@code jdk.jfr} module is optional, nothing is recorded when it is not available. When an event is not enabled, the
+ * assertions only pay for checking it, the event fields are neither computed nor committed.
+ */
+public final class FlightRecorderEvents {
+
+  private static final boolean FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      // jdk.jfr module is not available
+      return false;
+    }
+  }
+
+  /**
+   * Runs the given assertion, recording a {@code org.assertj.SlowAssertion} event when it takes longer than the event
+   * threshold.
+   *
+   * @param assertType the type of the assert performing the assertion.
+   * @param assertion the assertion to run.
+   */
+  public static void runAssertion(Class<?> assertType, Runnable assertion) {
+    if (!FLIGHT_RECORDER_AVAILABLE) {
+      assertion.run();
+      return;
+    }
+    SlowAssertionEvent event = new SlowAssertionEvent();
+    if (!event.isEnabled()) {
+      assertion.run();
+      return;
+    }
+    event.begin();
+    boolean failed = true;
+    try {
+      assertion.run();
+      failed = false;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.assertType = assertType.getName();
+        event.failed = failed;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Records an {@code org.assertj.AssertionFailure} event for the given assertion error.
+   *
+   * @param errorMessageFactory the factory of the error message, {@code null} if the message was given as is.
+   * @param description the description of the failed assertion, {@code null} if not known.
+   * @param assertionError the error reporting the failure.
+   */
+  public static void assertionFailed(Object errorMessageFactory, Description description, AssertionError assertionError) {
+    if (!FLIGHT_RECORDER_AVAILABLE) return;
+    AssertionFailureEvent event = new AssertionFailureEvent();
+    if (!event.isEnabled()) return;
+    event.errorMessageFactory = errorMessageFactory == null ? null : errorMessageFactory.getClass().getName();
+    event.assertionDescription = description == null ? null : description.value();
+    event.errorMessage = assertionError.getMessage();
+    event.commit();
+  }
+
+  /**
+   * Returns whether {@code org.assertj.RecursiveComparison} events are recorded, in which case the comparison should be run
+   * with {@link #recordRecursiveComparison(Object, Object, Supplier, IntSupplier, IntSupplier)}.
+   *
+   * @return whether recursive comparisons are recorded.
+   */
+  public static boolean isRecursiveComparisonRecorded() {
+    return FLIGHT_RECORDER_AVAILABLE && new RecursiveComparisonEvent().isEnabled();
+  }
+
+  /**
+   * Runs the given recursive comparison and records an {@code org.assertj.RecursiveComparison} event summarizing it.
+   *
+   * @param <T> the type of the differences collection.
+   * @param actual the actual compared value.
+   * @param expected the expected compared value.
+   * @param comparison the comparison returning the differences found.
+   * @param comparedValues the number of pairs of values compared once the comparison is done.
+   * @param maxDepth the maximum depth of the compared values once the comparison is done.
+   * @return the differences found by the comparison.
+   */
+  public static <T extends Collection<?>> T recordRecursiveComparison(Object actual, Object expected, Supplier<T> comparison,
+                                                                      IntSupplier comparedValues, IntSupplier maxDepth) {
+    RecursiveComparisonEvent event = new RecursiveComparisonEvent();
+    event.begin();
+    T differences = comparison.get();
+    event.end();
+    if (event.shouldCommit()) {
+      event.actualType = actual == null ? null : actual.getClass().getName();
+      event.expectedType = expected == null ? null : expected.getClass().getName();
+      event.comparedValues = comparedValues.getAsInt();
+      event.maxDepth = maxDepth.getAsInt();
+      event.differences = differences.size();
+      event.commit();
+    }
+    return differences;
+  }
+
+  private FlightRecorderEvents() {}
+
+}
@@ -15,6 +15,11 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.error.ShouldNotContainNull.shouldNotContainNull;
+import static org.assertj.core.error.future.ShouldAllCompleteWithin.shouldAllCompleteWithin;
+import static org.assertj.core.error.future.ShouldAllSucceedWithin.shouldAllSucceedWithin;
+import static org.assertj.core.error.future.ShouldAnyFailWithin.shouldAnyFailWithin;
 import static org.assertj.core.error.future.ShouldBeCancelled.shouldBeCancelled;
 import static org.assertj.core.error.future.ShouldBeCompletedWithin.shouldBeCompletedWithin;
 import static org.assertj.core.error.future.ShouldBeDone.shouldBeDone;
@@ -24,13 +29,23 @@ import static org.assertj.core.error.future.ShouldNotBeCancelled.shouldNotBeCanc
 import static org.assertj.core.error.future.ShouldNotBeDone.shouldNotBeDone;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Reusable assertions for <code>{@link Future}</code>s.
@@ -159,7 +174,177 @@ public class Futures {
     }
   }
 
+  /**
+   * Verifies that all the given futures complete normally within the given timeout.
+   * <p>
+   * The futures are waited for together under a single deadline, the futures that failed or were still not completed are
+   * reported with their elapsed time.
+   *
+   * @param <RESULT> the type of the futures results.
+   * @param info contains information about the assertion.
+   * @param actual the futures.
+   * @param timeout the maximum time to wait for all the futures.
+   * @return the results of the futures, in the order of the given futures.
+   * @throws AssertionError if the given list is {@code null} or contains {@code null} futures.
+   * @throws AssertionError if a future did not complete normally within the given timeout.
+   */
+  public <RESULT> List<RESULT> assertAllSucceededWithin(AssertionInfo info,
+                                                        List<? extends CompletableFuture<? extends RESULT>> actual,
+                                                        Duration timeout) {
+    assertNoNullFutures(info, actual);
+    Completions completions = new Completions(actual, failure -> {});
+    await(completions.allCompleted, timeout);
+    List<String> unsuccessfulFutures = completions.describeUnsuccessfulFutures(info.representation());
+    if (!unsuccessfulFutures.isEmpty())
+      throw failures.failure(info, shouldAllSucceedWithin(timeout, actual.size(), unsuccessfulFutures));
+    List<RESULT> results = new ArrayList<>(actual.size());
+    for (CompletableFuture<? extends RESULT> future : actual) {
+      results.add(future.join());
+    }
+    return results;
+  }
+
+  /**
+   * Verifies that all the given futures complete, normally or exceptionally, within the given timeout.
+   * <p>
+   * The futures are waited for together under a single deadline, the futures that were still not completed are reported
+   * with their elapsed time.
+   *
+   * @param <FUTURE> the type of the futures.
+   * @param info contains information about the assertion.
+   * @param actual the futures.
+   * @param timeout the maximum time to wait for all the futures.
+   * @return the futures in the order they completed, futures already completed when waiting started are in the given order.
+   * @throws AssertionError if the given list is {@code null} or contains {@code null} futures.
+   * @throws AssertionError if a future did not complete within the given timeout.
+   */
+  public <FUTURE extends CompletableFuture<?>> List<FUTURE> assertAllCompletedWithin(AssertionInfo info, List<FUTURE> actual,
+                                                                                     Duration timeout) {
+    assertNoNullFutures(info, actual);
+    Completions completions = new Completions(actual, failure -> {});
+    await(completions.allCompleted, timeout);
+    List<String> notCompletedFutures = completions.describeNotCompletedFutures(info.representation());
+    if (!notCompletedFutures.isEmpty())
+      throw failures.failure(info, shouldAllCompleteWithin(timeout, actual.size(), notCompletedFutures));
+    List<FUTURE> futuresInCompletionOrder = new ArrayList<>(actual.size());
+    for (int i = 0; i < actual.size(); i++) {
+      futuresInCompletionOrder.add(actual.get(completions.completionOrder.get(i)));
+    }
+    return futuresInCompletionOrder;
+  }
+
+  /**
+   * Verifies that at least one of the given futures completes exceptionally within the given timeout.
+   * <p>
+   * Waiting stops as soon as a future fails or once all the futures succeeded.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the futures.
+   * @param timeout the maximum time to wait for a future to fail.
+   * @return the exception of the first future that failed, {@link CompletionException}s are unwrapped.
+   * @throws AssertionError if the given list is {@code null} or contains {@code null} futures.
+   * @throws AssertionError if no future completed exceptionally within the given timeout.
+   */
+  public Throwable assertAnyFailedWithin(AssertionInfo info, List<? extends CompletableFuture<?>> actual, Duration timeout) {
+    assertNoNullFutures(info, actual);
+    CompletableFuture<Throwable> firstFailure = new CompletableFuture<>();
+    Completions completions = new Completions(actual, firstFailure::complete);
+    // the failure callbacks run before the completion of allCompleted, a failure is thus never missed
+    completions.allCompleted.whenComplete((result, failure) -> firstFailure.complete(null));
+    Throwable failure = await(firstFailure, timeout);
+    if (failure == null)
+      throw failures.failure(info, shouldAnyFailWithin(timeout, actual.size(), completions.completedCount.get()));
+    return failure;
+  }
+
+  private void assertNoNullFutures(AssertionInfo info, List<? extends Future<?>> actual) {
+    Objects.instance().assertNotNull(info, actual);
+    for (Future<?> future : actual) {
+      if (future == null) throw failures.failure(info, shouldNotContainNull(actual));
+    }
+  }
+
+  // returns null if the future did not complete normally within the timeout
+  private static <T> T await(CompletableFuture<T> future, Duration timeout) {
+    try {
+      return future.get(timeout.toNanos(), NANOSECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
   private void assertNotNull(AssertionInfo info, Future<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
+
+  /**
+   * Records when and how each future of a group completes, from completion callbacks rather than by blocking on each future.
+   */
+  private static final class Completions {
+
+    private final long startNanos = System.nanoTime();
+    // -1 until the future at the same index completes, its failure and completion order are recorded before its elapsed time
+    private final AtomicLongArray elapsedNanos;
+    private final AtomicReferenceArray<Throwable> failures;
+    private final AtomicIntegerArray completionOrder;
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final Consumer<Throwable> failureCallback;
+    private final CompletableFuture<Void> allCompleted;
+
+    private Completions(List<? extends CompletableFuture<?>> futures, Consumer<Throwable> failureCallback) {
+      int size = futures.size();
+      elapsedNanos = new AtomicLongArray(size);
+      failures = new AtomicReferenceArray<>(size);
+      completionOrder = new AtomicIntegerArray(size);
+      this.failureCallback = failureCallback;
+      CompletableFuture<?>[] callbacks = new CompletableFuture<?>[size];
+      for (int i = 0; i < size; i++) {
+        elapsedNanos.set(i, -1);
+      }
+      for (int i = 0; i < size; i++) {
+        int index = i;
+        callbacks[i] = futures.get(i).whenComplete((result, failure) -> completed(index, failure));
+      }
+      // completes once all the callbacks have run
+      allCompleted = CompletableFuture.allOf(callbacks);
+    }
+
+    private void completed(int index, Throwable failure) {
+      Throwable unwrappedFailure = failure instanceof CompletionException && failure.getCause() != null
+          ? failure.getCause()
+          : failure;
+      long elapsed = System.nanoTime() - startNanos;
+      failures.set(index, unwrappedFailure);
+      completionOrder.set(completedCount.getAndIncrement(), index);
+      // written last as it publishes the completion, a future seen completed has its failure and completion order recorded
+      elapsedNanos.set(index, elapsed);
+      if (unwrappedFailure != null) failureCallback.accept(unwrappedFailure);
+    }
+
+    private List<String> describeUnsuccessfulFutures(Representation representation) {
+      return describeFutures(representation, true);
+    }
+
+    private List<String> describeNotCompletedFutures(Representation representation) {
+      return describeFutures(representation, false);
+    }
+
+    private List<String> describeFutures(Representation representation, boolean includeFailedFutures) {
+      String now = representation.toStringOf(Duration.ofNanos(System.nanoTime() - startNanos));
+      List<String> descriptions = new ArrayList<>();
+      for (int i = 0; i < elapsedNanos.length(); i++) {
+        long elapsed = elapsedNanos.get(i);
+        if (elapsed < 0) {
+          descriptions.add("future at index %s was still not completed after %s".formatted(i, now));
+        } else if (includeFailedFutures && failures.get(i) != null) {
+          String elapsedTime = representation.toStringOf(Duration.ofNanos(elapsed));
+          descriptions.add("future at index %s failed after %s with %s".formatted(i, elapsedTime, failures.get(i)));
+        }
+      }
+      return descriptions;
+    }
+  }
 }
@@ -95,7 +95,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -463,45 +462,17 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // the elements from actual are visited once and in order (because we don't know we can look ahead - the 'actual'
+    // might be singly-traversable), the sequence matcher keeps track of the length of the sequence matched by the last
+    // visited elements until the whole sequence is matched or until the 'actual' is exhausted.
+    // Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(info, failures, actual, sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
-    while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
-    }
+    if (new SequenceMatcher(sequence, comparisonStrategy).indexIn(actualIterator) != -1) return;
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private final int maxSize;
-    private final LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -517,14 +488,8 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
-      }
-    }
+    int index = new SequenceMatcher(sequence, comparisonStrategy).indexIn(actual.iterator());
+    if (index != -1) throw actualDoesContainSequence(info, actual, sequence, index);
   }
 
   /**
@@ -540,21 +505,27 @@ public class Iterables {
    * @throws AssertionError           if the given {@code Iterable} does not contain the given subsequence of objects.
    */
   public void assertContainsSubsequence(AssertionInfo info, Iterable<?> actual, Object[] subsequence) {
-    if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, subsequence)) return;
-    if (sizeOf(actual) < subsequence.length) {
-      throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
-    }
-
+    // as in assertContainsSequence, actual is only iterated once since it might be singly-traversable
+    checkNotNullIterables(info, actual, subsequence);
     Iterator<?> actualIterator = actual.iterator();
+    if (!actualIterator.hasNext() && subsequence.length == 0) return;
+    failIfEmptySinceActualIsNotEmpty(info, failures, actual, subsequence);
+
+    int sizeOfActual = 0;
     int subsequenceIndex = 0;
     while (actualIterator.hasNext() && subsequenceIndex < subsequence.length) {
       Object actualNext = actualIterator.next();
+      sizeOfActual++;
       Object subsequenceNext = subsequence[subsequenceIndex];
       if (areEqual(actualNext, subsequenceNext)) subsequenceIndex++;
     }
+    if (subsequenceIndex == subsequence.length) return;
 
-    if (subsequenceIndex < subsequence.length)
-      throw actualDoesNotContainSubsequence(info, actual, subsequence, subsequenceIndex);
+    // actual has been entirely visited, sizeOfActual is its size
+    if (sizeOfActual < subsequence.length) {
+      throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
+    }
+    throw actualDoesNotContainSubsequence(info, actual, subsequence, subsequenceIndex);
   }
 
   /**
@@ -610,23 +581,6 @@ public class Iterables {
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList  the list to look sequence in
-   * @param sequence      the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -1322,12 +1276,8 @@ public class Iterables {
   }
 
   private <E> Optional<E> failsRestrictions(E element, Consumer<? super E> restrictions) {
-    try {
-      restrictions.accept(element);
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
-      return Optional.empty();
-    }
+    // element is supposed not to meet the given restrictions
+    if (!failures.passes(() -> restrictions.accept(element))) return Optional.empty();
     // element meets the given restrictions!
     return Optional.of(element);
   }
@@ -1410,14 +1360,7 @@ public class Iterables {
   }
 
   public static <T> Predicate<T> byPassingAssertions(Consumer<? super T> assertions) {
-    return objectToTest -> {
-      try {
-        assertions.accept(objectToTest);
-        return true;
-      } catch (AssertionError e) {
-        return false;
-      }
-    };
+    return objectToTest -> Failures.instance().passes(() -> assertions.accept(objectToTest));
   }
 
   private static void checkIsNotEmptySequence(Object[] sequence) {
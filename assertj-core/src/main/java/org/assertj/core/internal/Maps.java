@@ -149,12 +149,8 @@ public class Maps {
 
   private <V, K> Optional<Entry<K, V>> failsRestrictions(Entry<K, V> entry,
                                                          BiConsumer<? super K, ? super V> entryRequirements) {
-    try {
-      entryRequirements.accept(entry.getKey(), entry.getValue());
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
-      return Optional.empty();
-    }
+    // element is supposed not to meet the given restrictions
+    if (!failures.passes(() -> entryRequirements.accept(entry.getKey(), entry.getValue()))) return Optional.empty();
     // element meets the given restrictions!
     return Optional.of(entry);
   }
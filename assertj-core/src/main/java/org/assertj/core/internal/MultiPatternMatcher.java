@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.fill;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Finds several char sequences in a text in a single pass with an Aho–Corasick automaton, instead of scanning the text once
+ * per char sequence.
+ * <p>
+ * The automaton is a trie of the char sequences where each state has a failure link to the state of the longest proper
+ * suffix of its path that is also in the trie, the text is read once following the trie edges and falling back on failure
+ * links when no edge matches. Chars are compared exactly, as {@link String#contains(CharSequence)} does.
+ */
+final class MultiPatternMatcher {
+
+  // String.contains is an intrinsic scanning several chars at once, it is faster to call it for fewer char sequences
+  private static final int MIN_PATTERNS = 10;
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final int[] patternLengths;
+  // the edges of a state s are edgeChars/edgeTargets[edgeStarts[s] .. edgeStarts[s + 1]), sorted by char
+  private final int[] edgeStarts;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private final int[] failureLinks;
+  // the first pattern ending at each state, the other ones (duplicated patterns) are chained with nextPatterns
+  private final int[] patternEndingAt;
+  private final int[] nextPatterns;
+  // the closest state reachable through failure links where a pattern ends, excluding the root
+  private final int[] outputLinks;
+
+  /**
+   * Returns whether building an automaton is worth it to look for the given number of char sequences.
+   *
+   * @param patternCount the number of char sequences to look for.
+   * @return whether to use a {@link MultiPatternMatcher} rather than looking for each char sequence.
+   */
+  static boolean isWorthMatching(int patternCount) {
+    return patternCount >= MIN_PATTERNS;
+  }
+
+  MultiPatternMatcher(CharSequence... patterns) {
+    patternLengths = new int[patterns.length];
+    List<Map<Character, Integer>> trie = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    int[] patternStates = new int[patterns.length];
+    for (int pattern = 0; pattern < patterns.length; pattern++) {
+      CharSequence chars = patterns[pattern];
+      patternLengths[pattern] = chars.length();
+      int state = ROOT;
+      for (int i = 0; i < chars.length(); i++) {
+        Map<Character, Integer> edges = trie.get(state);
+        Integer target = edges.get(chars.charAt(i));
+        if (target == null) {
+          target = trie.size();
+          edges.put(chars.charAt(i), target);
+          trie.add(new TreeMap<>());
+        }
+        state = target;
+      }
+      patternStates[pattern] = state;
+    }
+    int stateCount = trie.size();
+    patternEndingAt = new int[stateCount];
+    fill(patternEndingAt, NONE);
+    nextPatterns = new int[patterns.length];
+    // chained from the last pattern to report the patterns of a state in their order
+    for (int pattern = patterns.length - 1; pattern >= 0; pattern--) {
+      nextPatterns[pattern] = patternEndingAt[patternStates[pattern]];
+      patternEndingAt[patternStates[pattern]] = pattern;
+    }
+    edgeStarts = new int[stateCount + 1];
+    edgeChars = new char[stateCount - 1];
+    edgeTargets = new int[stateCount - 1];
+    int edge = 0;
+    for (int state = 0; state < stateCount; state++) {
+      edgeStarts[state] = edge;
+      for (Map.Entry<Character, Integer> stateEdge : trie.get(state).entrySet()) {
+        edgeChars[edge] = stateEdge.getKey();
+        edgeTargets[edge++] = stateEdge.getValue();
+      }
+    }
+    edgeStarts[stateCount] = edge;
+    failureLinks = new int[stateCount];
+    outputLinks = new int[stateCount];
+    fill(outputLinks, NONE);
+    linkStatesBreadthFirst();
+  }
+
+  // failure links point to shorter paths, they are computed breadth first so that the states they point to are already linked
+  private void linkStatesBreadthFirst() {
+    Queue<Integer> states = new ArrayDeque<>();
+    states.add(ROOT);
+    while (!states.isEmpty()) {
+      int state = states.remove();
+      for (int edge = edgeStarts[state]; edge < edgeStarts[state + 1]; edge++) {
+        int target = edgeTargets[edge];
+        int failureLink = state == ROOT ? ROOT : transition(failureLinks[state], edgeChars[edge]);
+        failureLinks[target] = failureLink;
+        if (failureLink != ROOT) {
+          outputLinks[target] = patternEndingAt[failureLink] != NONE ? failureLink : outputLinks[failureLink];
+        }
+        states.add(target);
+      }
+    }
+  }
+
+  /**
+   * Returns the offset of the first occurrence in the given text of each char sequence this matcher was built with, in the
+   * order of the char sequences, -1 for the ones not found.
+   *
+   * @param text the text to look the char sequences in.
+   * @param stopAtFirstMatch whether to stop looking as soon as one char sequence is found, the offsets of the char sequences
+   *          not found yet are then -1.
+   * @return the offset of the first occurrence of each char sequence.
+   */
+  int[] firstMatchOffsets(CharSequence text, boolean stopAtFirstMatch) {
+    int[] offsets = new int[patternLengths.length];
+    fill(offsets, NONE);
+    // empty char sequences are found at the beginning of any text
+    int notFoundCount = offsets.length - report(ROOT, 0, offsets);
+    int state = ROOT;
+    for (int i = 0; i < text.length() && notFoundCount > 0; i++) {
+      if (stopAtFirstMatch && notFoundCount < offsets.length) break;
+      state = transition(state, text.charAt(i));
+      int output = patternEndingAt[state] != NONE ? state : outputLinks[state];
+      for (; output != NONE; output = outputLinks[output]) {
+        notFoundCount -= report(output, i + 1, offsets);
+      }
+    }
+    return offsets;
+  }
+
+  // reports the patterns ending at the given state and end offset not found yet, returns their number
+  private int report(int state, int endOffset, int[] offsets) {
+    int reported = 0;
+    for (int pattern = patternEndingAt[state]; pattern != NONE; pattern = nextPatterns[pattern]) {
+      if (offsets[pattern] == NONE) {
+        offsets[pattern] = endOffset - patternLengths[pattern];
+        reported++;
+      }
+    }
+    return reported;
+  }
+
+  private int transition(int state, char c) {
+    while (true) {
+      int index = Arrays.binarySearch(edgeChars, edgeStarts[state], edgeStarts[state + 1], c);
+      if (index >= 0) return edgeTargets[index];
+      if (state == ROOT) return ROOT;
+      state = failureLinks[state];
+    }
+  }
+
+}
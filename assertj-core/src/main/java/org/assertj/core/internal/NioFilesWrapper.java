@@ -17,11 +17,13 @@ package org.assertj.core.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Wrapper for <code>{@link java.nio.file.Files}</code> to test methods throwing {@link IOException}.
@@ -40,6 +42,10 @@ public class NioFilesWrapper {
     return Files.newInputStream(path, options);
   }
 
+  public FileChannel newFileChannel(Path path) throws IOException {
+    return FileChannel.open(path, StandardOpenOption.READ);
+  }
+
   public DirectoryStream<Path> newDirectoryStream(Path dir, Filter<? super Path> filter) throws IOException {
     return Files.newDirectoryStream(dir, filter);
   }
@@ -19,7 +19,6 @@ import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.error.ShouldBeAbsolutePath.shouldBeAbsolutePath;
 import static org.assertj.core.error.ShouldBeCanonicalPath.shouldBeCanonicalPath;
 import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
@@ -40,6 +39,7 @@ import static org.assertj.core.error.ShouldExist.shouldExistNoFollowLinks;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveFileSystem.shouldHaveFileSystem;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
@@ -53,15 +53,14 @@ import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.error.ShouldStartWithPath.shouldStartWith;
+import static org.assertj.core.internal.Digests.toExpectedDigests;
 import static org.assertj.core.util.Files.getFileNameExtension;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.nio.file.DirectoryStream;
-import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -70,6 +69,7 @@ import java.nio.file.PathMatcher;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -87,7 +87,7 @@ public class Paths {
   private static final String UNABLE_TO_COMPARE_PATH_CONTENTS = "Unable to compare contents of paths:<%s> and:<%s>";
 
   private static final Paths INSTANCE = new Paths();
-  private static final Filter<Path> ANY = any -> true;
+  private static final Predicate<Path> ANY = any -> true;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Diff diff = new Diff();
@@ -299,8 +299,8 @@ public class Paths {
     requireNonNull(expected, "The binary representation of digest to compare to should not be null");
     assertIsRegularFile(info, actual);
     assertIsReadable(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual)) {
-      DigestDiff diff = Digests.digestDiff(actualStream, digest, expected);
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual)) {
+      DigestDiff diff = Digests.digestDiff(actualChannel, digest, expected);
       if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
     } catch (IOException e) {
       throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
@@ -326,9 +326,25 @@ public class Paths {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasDigests(AssertionInfo info, Path actual, Map<String, String> expectedDigestsByAlgorithm) {
+    requireNonNull(expectedDigestsByAlgorithm, "The expected digests to compare to should not be null");
+    checkArgument(!expectedDigestsByAlgorithm.isEmpty(), "The expected digests to compare to should not be empty");
+    Map<MessageDigest, byte[]> expectedDigests = toExpectedDigests(expectedDigestsByAlgorithm);
+    assertIsRegularFile(info, actual);
+    assertIsReadable(info, actual);
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual)) {
+      List<DigestDiff> diffs = Digests.digestDiffs(actualChannel, expectedDigests).stream()
+                                      .filter(DigestDiff::digestsDiffer)
+                                      .collect(toList());
+      if (!diffs.isEmpty()) throw failures.failure(info, shouldHaveDigests(actual, diffs));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to calculate digest of path:<%s>".formatted(actual), e);
+    }
+  }
+
   public void assertIsDirectoryContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
     requireNonNull(filter, "The paths filter should not be null");
-    assertIsDirectoryContaining(info, actual, filter::test, "the given filter");
+    assertIsDirectoryContaining(info, actual, filter, "the given filter");
   }
 
   public void assertIsDirectoryContaining(AssertionInfo info, Path actual, String syntaxAndPattern) {
@@ -351,7 +367,7 @@ public class Paths {
 
   public void assertIsDirectoryNotContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
     requireNonNull(filter, "The paths filter should not be null");
-    assertIsDirectoryNotContaining(info, actual, filter::test, "the given filter");
+    assertIsDirectoryNotContaining(info, actual, filter, "the given filter");
   }
 
   public void assertIsDirectoryNotContaining(AssertionInfo info, Path actual, String syntaxAndPattern) {
@@ -416,31 +432,25 @@ public class Paths {
 
   // non-public section
 
-  private List<Path> filterDirectory(AssertionInfo info, Path actual, Filter<Path> filter) {
+  private List<Path> filterDirectory(AssertionInfo info, Path actual, Predicate<Path> filter) {
     assertIsDirectory(info, actual);
-    try (DirectoryStream<Path> stream = nioFilesWrapper.newDirectoryStream(actual, filter)) {
-      return stream(stream.spliterator(), false).collect(toList());
-    } catch (IOException e) {
-      throw new UncheckedIOException("Unable to list directory content: <%s>".formatted(actual), e);
-    }
+    return directoryScanner().allMatching(actual, filter);
   }
 
   private List<Path> directoryContent(AssertionInfo info, Path actual) {
     return filterDirectory(info, actual, ANY);
   }
 
-  private void assertIsDirectoryContaining(AssertionInfo info, Path actual, Filter<Path> filter, String filterPresentation) {
-    List<Path> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
+  private void assertIsDirectoryContaining(AssertionInfo info, Path actual, Predicate<Path> filter, String filterPresentation) {
+    assertIsDirectory(info, actual);
+    if (!directoryScanner().anyMatch(actual, filter)) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContent(info, actual), filterPresentation));
     }
   }
 
   private boolean isDirectoryRecursivelyContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
     assertIsDirectory(info, actual);
-    try (Stream<Path> actualContent = recursiveContentOf(actual)) {
-      return actualContent.anyMatch(filter);
-    }
+    return directoryScanner().anyMatchRecursively(actual, filter);
   }
 
   private List<Path> sortedRecursiveContent(Path path) {
@@ -464,13 +474,18 @@ public class Paths {
     }
   }
 
-  private void assertIsDirectoryNotContaining(AssertionInfo info, Path actual, Filter<Path> filter, String filterPresentation) {
+  private void assertIsDirectoryNotContaining(AssertionInfo info, Path actual, Predicate<Path> filter,
+                                              String filterPresentation) {
     List<Path> matchingPaths = filterDirectory(info, actual, filter);
     if (!matchingPaths.isEmpty()) {
       throw failures.failure(info, directoryShouldNotContain(actual, matchingPaths, filterPresentation));
     }
   }
 
+  private DirectoryScanner<Path> directoryScanner() {
+    return DirectoryScanner.pathScanner(nioFilesWrapper);
+  }
+
   private PathMatcher pathMatcher(AssertionInfo info, Path actual, String syntaxAndPattern) {
     assertNotNull(info, actual);
     return actual.getFileSystem().getPathMatcher(syntaxAndPattern);
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.error.ShouldEventuallyPass.shouldEventuallyPass;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.time.Duration;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * Reusable assertions polling other assertions until they pass.
+ * <p>
+ * The assertions are run in the calling thread, the delay between two attempts starts small to quickly detect conditions
+ * that are about to be met and doubles after each failed attempt, up to a maximum, to avoid busy polling slow conditions.
+ * <p>
+ * Each attempt runs the assertions as they are, only the failure of the last attempt is kept to be reported.
+ *
+ * @since 4.0.0
+ */
+public class Polling {
+
+  private static final long INITIAL_DELAY_NANOS = Duration.ofMillis(1).toNanos();
+  private static final long MAX_DELAY_NANOS = Duration.ofMillis(100).toNanos();
+
+  private static final Polling INSTANCE = new Polling();
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static Polling instance() {
+    return INSTANCE;
+  }
+
+  Failures failures = Failures.instance();
+
+  /**
+   * Verifies that the given assertions pass within the given timeout, running them until they do.
+   * <p>
+   * Exceptions thrown by the assertions are considered as failures and lead to new attempts, errors other than
+   * {@link AssertionError} are propagated.
+   *
+   * @param info contains information about the assertion.
+   * @param timeout the duration the assertions have to pass.
+   * @param assertions the assertions to run.
+   * @throws NullPointerException if {@code timeout} or {@code assertions} is {@code null}.
+   * @throws IllegalArgumentException if {@code timeout} is negative.
+   * @throws AssertionError if the assertions still fail once the timeout has elapsed.
+   */
+  public void assertEventuallyPasses(AssertionInfo info, Duration timeout, ThrowingCallable assertions) {
+    requireNonNull(timeout, "non null timeout expected");
+    checkArgument(!timeout.isNegative(), "The timeout must not be negative but was %s", timeout);
+    requireNonNull(assertions, "non null assertions expected");
+    long deadline = System.nanoTime() + saturatedNanos(timeout);
+    long delayNanos = INITIAL_DELAY_NANOS;
+    int attempts = 0;
+    while (true) {
+      attempts++;
+      Throwable failure = failureOf(assertions);
+      if (failure == null) return;
+      long remainingNanos = deadline - System.nanoTime();
+      if (remainingNanos <= 0 || !sleep(Math.min(delayNanos, remainingNanos))) {
+        AssertionError error = failures.failure(info, shouldEventuallyPass(timeout, attempts, failure));
+        error.initCause(failure);
+        throw error;
+      }
+      delayNanos = Math.min(delayNanos * 2, MAX_DELAY_NANOS);
+    }
+  }
+
+  private static Throwable failureOf(ThrowingCallable assertions) {
+    try {
+      assertions.call();
+      return null;
+    } catch (AssertionError error) {
+      return error;
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      return throwable;
+    }
+  }
+
+  private static boolean sleep(long nanos) {
+    try {
+      NANOSECONDS.sleep(nanos);
+      return true;
+    } catch (InterruptedException e) {
+      // stop polling but keep the thread interrupted for the caller
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static long saturatedNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      // longer than ~292 years
+      return Long.MAX_VALUE / 2;
+    }
+  }
+}
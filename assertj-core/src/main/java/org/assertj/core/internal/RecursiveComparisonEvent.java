@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event summarizing a recursive comparison.
+ */
+@Name("org.assertj.RecursiveComparison")
+@Label("Recursive Comparison")
+@Category("AssertJ")
+@Description("Objects compared field by field recursively")
+@Enabled(false)
+final class RecursiveComparisonEvent extends Event {
+
+  @Label("Actual Type")
+  String actualType;
+
+  @Label("Expected Type")
+  String expectedType;
+
+  @Label("Compared Values")
+  @Description("Number of pairs of actual and expected values compared, including the root ones")
+  int comparedValues;
+
+  @Label("Maximum Depth")
+  @Description("Maximum depth of the compared values, the root values are at depth 0")
+  int maxDepth;
+
+  @Label("Differences")
+  int differences;
+
+}
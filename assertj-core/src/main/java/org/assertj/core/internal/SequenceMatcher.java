@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+
+/**
+ * Finds a sequence in elements given one by one, elements are compared with a {@link ComparisonStrategy}.
+ * <p>
+ * With the {@link StandardComparisonStrategy}, the Knuth-Morris-Pratt algorithm is used: each element is compared a constant
+ * number of times on average, instead of up to the sequence length times when comparing the sequence at each index.
+ * <p>
+ * The Knuth-Morris-Pratt algorithm expects the equality to be transitive, which comparators are not required to be (ex:
+ * comparators with a precision like {@link org.assertj.core.util.DoubleComparator}), other comparison strategies compare the
+ * sequence to a sliding window of the last visited elements.
+ * <p>
+ * In both cases the elements are only visited once and in order which suits singly-traversable iterables.
+ */
+final class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  // Knuth-Morris-Pratt state, null when the sliding window is used:
+  // fallbacks[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it, it is the
+  // length of the sequence matched by the last elements when the element following sequence[0..i] does not match
+  private final int[] fallbacks;
+  private int matchedLength;
+  // sliding window state, null when the Knuth-Morris-Pratt algorithm is used:
+  // the last visited elements in a circular buffer, the oldest one being at windowStart once the window is full
+  private final Object[] window;
+  private int windowStart;
+  private int windowSize;
+
+  /**
+   * Creates a matcher of the given non-empty sequence.
+   *
+   * @param sequence the sequence to look for.
+   * @param comparisonStrategy the strategy used to compare elements.
+   */
+  SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    // subclasses of StandardComparisonStrategy may compare elements with a comparator
+    if (comparisonStrategy.getClass() == StandardComparisonStrategy.class) {
+      this.fallbacks = fallbacks(sequence, comparisonStrategy);
+      this.window = null;
+    } else {
+      this.fallbacks = null;
+      this.window = new Object[sequence.length];
+    }
+  }
+
+  private static int[] fallbacks(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    int[] fallbacks = new int[sequence.length];
+    int prefixLength = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (prefixLength > 0 && !comparisonStrategy.areEqual(sequence[i], sequence[prefixLength])) {
+        prefixLength = fallbacks[prefixLength - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence[i], sequence[prefixLength])) prefixLength++;
+      fallbacks[i] = prefixLength;
+    }
+    return fallbacks;
+  }
+
+  /**
+   * Returns whether the given element ends an occurrence of the sequence, elements must be given in order.
+   *
+   * @param element the next element.
+   * @return whether the given element and the previous ones match the sequence.
+   */
+  boolean endsSequence(Object element) {
+    return fallbacks != null ? kmpEndsSequence(element) : windowEndsSequence(element);
+  }
+
+  private boolean kmpEndsSequence(Object element) {
+    // an occurrence has been found, occurrences may overlap
+    if (matchedLength == sequence.length) matchedLength = fallbacks[matchedLength - 1];
+    while (true) {
+      if (comparisonStrategy.areEqual(element, sequence[matchedLength])) {
+        matchedLength++;
+        break;
+      }
+      if (matchedLength == 0) break;
+      matchedLength = fallbacks[matchedLength - 1];
+    }
+    return matchedLength == sequence.length;
+  }
+
+  private boolean windowEndsSequence(Object element) {
+    if (windowSize < window.length) {
+      window[windowSize++] = element;
+      if (windowSize < window.length) return false;
+    } else {
+      // the window is full, the new element replaces the oldest one
+      window[windowStart] = element;
+      windowStart = (windowStart + 1) % window.length;
+    }
+    for (int i = 0; i < sequence.length; i++) {
+      if (!comparisonStrategy.areEqual(window[(windowStart + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the sequence in the given elements, the matcher must not have been given
+   * elements before.
+   *
+   * @param elements the elements to look the sequence in.
+   * @return the index of the first occurrence of the sequence, -1 if it is not found.
+   */
+  int indexIn(Iterator<?> elements) {
+    for (int i = 0; elements.hasNext(); i++) {
+      if (endsSequence(elements.next())) return i - sequence.length + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the sequence in the given array, the matcher must not have been given
+   * elements before.
+   *
+   * @param array the array to look the sequence in, can be an array of primitives.
+   * @return the index of the first occurrence of the sequence, -1 if it is not found.
+   */
+  int indexIn(Object array) {
+    int size = Array.getLength(array);
+    for (int i = 0; i < size; i++) {
+      if (endsSequence(Array.get(array, i))) return i - sequence.length + 1;
+    }
+    return -1;
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event recorded for assertions taking longer than the event threshold.
+ */
+@Name("org.assertj.SlowAssertion")
+@Label("Slow Assertion")
+@Category("AssertJ")
+@Description("An assertion took longer than the event threshold")
+@Threshold("20 ms")
+@Enabled(false)
+final class SlowAssertionEvent extends Event {
+
+  @Label("Assert Type")
+  @Description("Class name of the assert that performed the assertion, ex: org.assertj.core.api.ListAssert")
+  String assertType;
+
+  @Label("Failed")
+  boolean failed;
+
+}
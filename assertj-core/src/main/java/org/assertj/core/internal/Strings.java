@@ -111,7 +111,6 @@ import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
  */
 public class Strings {
 
-  private static final Set<Character> NON_BREAKING_SPACES = Set.of('\u00A0', '\u2007', '\u202F');
   private static final String EMPTY_STRING = "";
   private static final Strings INSTANCE = new Strings(StandardComparisonStrategy.instance());
   private static final String PUNCTUATION_REGEX = "\\p{Punct}";
@@ -216,8 +215,7 @@ public class Strings {
 
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
-                                               .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesContainedIn(actual, values, values, false);
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
@@ -227,7 +225,7 @@ public class Strings {
 
   public void assertContainsAnyOf(AssertionInfo info, CharSequence actual, CharSequence[] values) {
     doCommonCheckForCharSequence(info, actual, values);
-    boolean found = stream(values).anyMatch(value -> stringContains(actual, value));
+    boolean found = anyValueContainedIn(actual, values);
     if (!found) throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
 
@@ -252,6 +250,42 @@ public class Strings {
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  /**
+   * Returns the given values whose corresponding char sequence to look for is (or is not) contained in actual, in the order
+   * of the values.
+   * <p>
+   * With the standard comparison strategy and enough char sequences, they are all looked for in a single pass over actual
+   * with a {@link MultiPatternMatcher} instead of scanning actual once per char sequence.
+   */
+  private Set<CharSequence> valuesContainedIn(CharSequence actual, CharSequence[] values, CharSequence[] sequences,
+                                              boolean contained) {
+    Set<CharSequence> filteredValues = new LinkedHashSet<>();
+    if (isMatchedAtOnce(sequences)) {
+      int[] offsets = new MultiPatternMatcher(sequences).firstMatchOffsets(actual.toString(), false);
+      for (int i = 0; i < values.length; i++) {
+        if (offsets[i] >= 0 == contained) filteredValues.add(values[i]);
+      }
+      return filteredValues;
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (stringContains(actual, sequences[i]) == contained) filteredValues.add(values[i]);
+    }
+    return filteredValues;
+  }
+
+  private boolean anyValueContainedIn(CharSequence actual, CharSequence[] values) {
+    if (isMatchedAtOnce(values)) {
+      int[] offsets = new MultiPatternMatcher(values).firstMatchOffsets(actual.toString(), true);
+      return stream(offsets).anyMatch(offset -> offset >= 0);
+    }
+    return stream(values).anyMatch(value -> stringContains(actual, value));
+  }
+
+  // the automaton compares chars exactly, it can't honour the comparator of a comparator based strategy
+  private boolean isMatchedAtOnce(CharSequence[] sequences) {
+    return comparisonStrategy == StandardComparisonStrategy.instance() && MultiPatternMatcher.isWorthMatching(sequences.length);
+  }
+
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
@@ -260,14 +294,22 @@ public class Strings {
   }
 
   private boolean containsIgnoreCase(CharSequence actual, CharSequence sequence) {
+    if (isComparedIgnoringCaseInPlace(actual, sequence)) return CharSequenceComparisons.containsIgnoringCase(actual, sequence);
     return comparisonStrategy.stringContains(actual.toString().toLowerCase(ROOT), sequence.toString().toLowerCase(ROOT));
   }
 
+  // lower casing char by char compares chars exactly, it can't honour the comparator of a comparator based strategy
+  private boolean isComparedIgnoringCaseInPlace(CharSequence actual, CharSequence other) {
+    return comparisonStrategy == StandardComparisonStrategy.instance()
+           && CharSequenceComparisons.isLowerCasedCharByChar(actual)
+           && CharSequenceComparisons.isLowerCasedCharByChar(other);
+  }
+
   public void assertContainsIgnoringNewlines(final AssertionInfo info, final CharSequence actual, final CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
     final String actualNoNewLines = removeNewlines(actual);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actualNoNewLines, removeNewlines(value)))
-                                               .collect(toCollection(LinkedHashSet::new));
+    CharSequence[] valuesNoNewLines = stream(values).map(Strings::removeNewlines).toArray(CharSequence[]::new);
+    Set<CharSequence> notFound = valuesContainedIn(actualNoNewLines, values, valuesNoNewLines, false);
     if (notFound.isEmpty()) return;
     throw failures.failure(info, containsIgnoringNewLines(actual, values, notFound, comparisonStrategy));
   }
@@ -286,8 +328,7 @@ public class Strings {
 
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
-                                            .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> found = valuesContainedIn(actual, values, values, true);
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContain(actual, values[0], comparisonStrategy));
@@ -340,7 +381,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    return CharSequenceComparisons.equalsIgnoringWhitespace(actual, expected);
   }
 
   public static String removeAllWhitespaces(CharSequence toBeStripped) {
@@ -357,27 +398,29 @@ public class Strings {
 
   public void assertEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizedActual, normalizedExpected);
+    if (!areEqualNormalizingWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizeWhitespace(actual),
+                             normalizeWhitespace(expected));
   }
 
   public void assertNotEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (java.util.Objects.equals(normalizedActual, normalizedExpected))
+    if (areEqualNormalizingWhitespace(actual, expected))
       throw failures.failure(info, shouldNotBeEqualNormalizingWhitespace(actual, expected));
   }
 
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
+    if (actual == null || expected == null) return actual == expected;
+    return CharSequenceComparisons.equalsNormalizingWhitespace(actual, expected);
+  }
+
   private static String normalizeWhitespace(CharSequence toNormalize) {
     if (toNormalize == null) return null;
     final StringBuilder result = new StringBuilder(toNormalize.length());
     boolean lastWasSpace = true;
     for (int i = 0; i < toNormalize.length(); i++) {
       char c = toNormalize.charAt(i);
-      if (isWhitespace(c) || NON_BREAKING_SPACES.contains(c)) {
+      if (CharSequenceComparisons.isWhitespaceOrNonBreakingSpace(c)) {
         if (!lastWasSpace) result.append(' ');
         lastWasSpace = true;
       } else {
@@ -390,11 +433,14 @@ public class Strings {
 
   public void assertEqualsNormalizingPunctuationAndWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespaceAndPunctuation(actual);
-    String normalizedExpected = normalizeWhitespaceAndPunctuation(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected), normalizedActual,
-                             normalizedExpected);
+    if (!areEqualNormalizingPunctuationAndWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected),
+                             normalizeWhitespaceAndPunctuation(actual), normalizeWhitespaceAndPunctuation(expected));
+  }
+
+  private static boolean areEqualNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
+    if (actual == null || expected == null) return actual == expected;
+    return CharSequenceComparisons.equalsNormalizingPunctuationAndWhitespace(actual, expected);
   }
 
   private static String normalizeWhitespaceAndPunctuation(CharSequence input) {
@@ -423,6 +469,14 @@ public class Strings {
     String strToSearch = sequenceToSearch.toString();
     String strActual = actual.toString();
     int occurrences = 0;
+    if (comparisonStrategy == StandardComparisonStrategy.instance()) {
+      // occurrences may overlap, look for the next one from the char following the last one found
+      for (int i = strActual.indexOf(strToSearch); i >= 0; i = strActual.indexOf(strToSearch, i + 1)) {
+        occurrences++;
+        if (i == strActual.length()) break;
+      }
+      return occurrences;
+    }
     for (int i = 0; i <= (strActual.length() - strToSearch.length()); i++) {
       if (comparisonStrategy.areEqual(strActual.substring(i, i + sequenceToSearch.length()), strToSearch)) {
         occurrences++;
@@ -464,6 +518,8 @@ public class Strings {
   }
 
   private boolean startsWith(CharSequence actual, CharSequence prefix, boolean ignoreCase) {
+    if (ignoreCase && isComparedIgnoringCaseInPlace(actual, prefix))
+      return CharSequenceComparisons.startsWithIgnoringCase(actual, prefix);
     return ignoreCase
         ? comparisonStrategy.stringStartsWith(actual.toString().toLowerCase(ROOT), prefix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringStartsWith(actual.toString(), prefix.toString());
@@ -502,6 +558,8 @@ public class Strings {
   }
 
   private boolean endsWith(CharSequence actual, CharSequence suffix, boolean ignoreCase) {
+    if (ignoreCase && isComparedIgnoringCaseInPlace(actual, suffix))
+      return CharSequenceComparisons.endsWithIgnoringCase(actual, suffix);
     return ignoreCase
         ? comparisonStrategy.stringEndsWith(actual.toString().toLowerCase(ROOT), suffix.toString().toLowerCase(ROOT))
         : comparisonStrategy.stringEndsWith(actual.toString(), suffix.toString());
@@ -560,8 +618,7 @@ public class Strings {
   public void assertContainsSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     doCommonCheckForCharSequence(info, actual, sequence);
 
-    Set<CharSequence> notFound = stream(sequence).filter(value -> !stringContains(actual, value))
-                                                 .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesContainedIn(actual, sequence, sequence, false);
 
     if (!notFound.isEmpty()) {
       // don't bother looking for a sequence, some of the sequence elements were not found !
@@ -574,35 +631,63 @@ public class Strings {
     // we have found all the given values but were they in the expected order ?
     if (sequence.length == 1) return; // no order check needed for a one element sequence
 
-    // convert all values to one char sequence to compare with the actual char sequence
-    String strActual = actual.toString();
-    String strSequence = String.join(EMPTY_STRING, sequence);
-    if (!stringContains(strActual, strSequence)) {
+    if (!containsSequence(actual.toString(), sequence)) {
       throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
     }
   }
 
-  public void assertContainsSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
-    doCommonCheckForCharSequence(info, actual, subsequence);
+  private boolean containsSequence(String actual, CharSequence[] sequence) {
+    if (comparisonStrategy != StandardComparisonStrategy.instance()) {
+      // convert all values to one char sequence to compare with the actual char sequence, a comparator compares the whole
+      // sequence and not its values one by one
+      return stringContains(actual, String.join(EMPTY_STRING, sequence));
+    }
+    // look for the first value and check that the next ones follow it in place, without joining them
+    String first = sequence[0].toString();
+    for (int start = actual.indexOf(first); start >= 0; start = actual.indexOf(first, start + 1)) {
+      if (isSequenceAt(actual, sequence, start + first.length())) return true;
+      if (start == actual.length()) return false;
+    }
+    return false;
+  }
 
-    Map<CharSequence, Integer> notFound = getNotFoundSubsequence(actual, subsequence);
-    handleNotFound(info, actual, subsequence, notFound);
+  private static boolean isSequenceAt(String actual, CharSequence[] sequence, int offset) {
+    for (int i = 1; i < sequence.length; i++) {
+      String value = sequence[i].toString();
+      if (!actual.startsWith(value, offset)) return false;
+      offset += value.length();
+    }
+    return true;
+  }
 
-    // we have found all the given values but were they in the expected order ?
-    if (subsequence.length == 1) return; // no order check needed for a one element subsequence
+  public void assertContainsSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
+    doCommonCheckForCharSequence(info, actual, subsequence);
 
-    // the values are in the correct order if after removing the start of actual up to the
-    // subsequence element included, we are able to find the next subsequence element, ex:
+    // the values are in the correct order if we are able to find each subsequence element after the previous one, ex:
     // "{ George Martin }" with subsequence ["George", " ", "Martin"]:
-    // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
-    // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
+    // - "George" is found at 2, is " " found from 8 (after "George") ?
+    // - " " is found at 8, is "Martin" found from 9 ?
     // ...
-    String actualRest = removeUpTo(actual.toString(), subsequence[0]);
-    // check the subsequence second element since we already know the first is present
-    for (int i = 1; i < subsequence.length; i++) {
-      if (stringContains(actualRest, subsequence[i])) actualRest = removeUpTo(actualRest, subsequence[i]);
-      else throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+    String strActual = actual.toString();
+    int fromIndex = 0;
+    boolean anyEmptyValue = false;
+    for (int i = 0; i < subsequence.length; i++) {
+      String value = subsequence[i].toString();
+      anyEmptyValue |= value.isEmpty();
+      int index = indexFrom(strActual, value, fromIndex);
+      // once actual is consumed, the strategy decides whether its empty rest contains the (empty) value
+      if (i > 0 && fromIndex == strActual.length() && !stringContains(EMPTY_STRING, value)) index = -1;
+      if (index == -1) {
+        // the values occurrences are only counted when the subsequence is not found, values found in order are found
+        // enough times
+        handleNotFound(info, actual, subsequence, getNotFoundSubsequence(actual, subsequence));
+        // we have found all the given values but they were not in the expected order
+        throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+      }
+      fromIndex = index + value.length();
     }
+    // an empty value is counted length + 1 times in actual whereas it can be found any number of times in order
+    if (anyEmptyValue) handleNotFound(info, actual, subsequence, getNotFoundSubsequence(actual, subsequence));
   }
 
   /**
@@ -683,25 +768,26 @@ public class Strings {
                                       LinkedHashMap::new));
   }
 
-  private String removeUpTo(String string, CharSequence toRemove) {
-    // we have already checked that toRemove was not null in doCommonCheckForCharSequence and this point string is not neither
-    int index = indexOf(string, toRemove.toString());
-    // remove the start of string up to toRemove included.
-    // index cannot be -1 here since we this method is used from assertContainsSubsequence at a step where we know
-    // that toRemove was found, and we are checking whether it was at the right place/order.
-    return string.substring(index + toRemove.length());
-  }
-
   private int indexOf(String str, String toFind) {
     return indexOf(str, toFind, 0);
   }
 
   private int indexOf(String str, String toFind, int fromIndex) {
     if (EMPTY_STRING.equals(str) && EMPTY_STRING.equals(toFind)) return 0;
-    for (int i = fromIndex; i < str.length(); i++) {
-      if (comparisonStrategy.stringStartsWith(str.substring(i), toFind)) return i;
-    }
+    if (fromIndex >= str.length()) return -1;
+    return indexFrom(str, toFind, fromIndex);
+  }
 
+  /**
+   * Returns the index of the first occurrence of the given value in the given string from the given index according to the
+   * comparison strategy, an empty value is found at the given index, -1 if not found.
+   */
+  private int indexFrom(String string, String value, int fromIndex) {
+    if (comparisonStrategy == StandardComparisonStrategy.instance()) return string.indexOf(value, fromIndex);
+    // compare regions of the value length rather than the whole rest of the string to avoid copying it at each index
+    for (int i = fromIndex; i <= string.length() - value.length(); i++) {
+      if (comparisonStrategy.stringStartsWith(string.substring(i, i + value.length()), value)) return i;
+    }
     return -1;
   }
 
@@ -786,9 +872,7 @@ public class Strings {
   }
 
   public void assertIsEqualToIgnoringNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualWithoutNewLines = removeNewlines(actual);
-    String expectedWithoutNewLines = removeNewlines(expected);
-    if (!actualWithoutNewLines.equals(expectedWithoutNewLines))
+    if (!CharSequenceComparisons.equalsIgnoringNewlines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
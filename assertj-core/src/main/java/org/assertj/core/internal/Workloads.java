@@ -0,0 +1,193 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.error.ShouldAllocateAtMost.shouldAllocateAtMost;
+import static org.assertj.core.error.ShouldCompleteWithin.shouldCompleteWithin;
+import static org.assertj.core.error.ShouldHaveMedianLatencyBelow.percentile;
+import static org.assertj.core.error.ShouldHaveMedianLatencyBelow.shouldHaveMedianLatencyBelow;
+import static org.assertj.core.error.ShouldNotHaveThrown.shouldNotHaveThrown;
+import static org.assertj.core.error.ShouldScaleAtMost.shouldScaleAtMost;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * Reusable assertions measuring the execution of code: duration, latency, memory allocation and growth rate.
+ * <p>
+ * The code is run in the calling thread, optionally after some warm-up iterations to let the JIT compile it, durations are
+ * measured with {@link System#nanoTime()} and allocations with {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ *
+ * @since 4.0.0
+ */
+public class Workloads {
+
+  private static final Workloads INSTANCE = new Workloads();
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static Workloads instance() {
+    return INSTANCE;
+  }
+
+  Failures failures = Failures.instance();
+
+  /**
+   * Verifies that the given code completes within the given duration, the code is not interrupted if it takes longer.
+   *
+   * @param info contains information about the assertion.
+   * @param code the code to run.
+   * @param warmUpIterations the number of times to run the code before measuring it.
+   * @param maxDuration the maximum duration.
+   * @throws AssertionError if the code takes longer than {@code maxDuration} or throws an exception.
+   */
+  public void assertCompletesWithin(AssertionInfo info, ThrowingCallable code, int warmUpIterations, Duration maxDuration) {
+    assertNotNull(info, code);
+    warmUp(info, code, warmUpIterations);
+    long nanos = measureNanos(info, code);
+    if (nanos > maxDuration.toNanos()) throw failures.failure(info, shouldCompleteWithin(maxDuration, Duration.ofNanos(nanos)));
+  }
+
+  /**
+   * Verifies that the given code allocates at most the given number of bytes in the calling thread.
+   *
+   * @param info contains information about the assertion.
+   * @param code the code to run.
+   * @param warmUpIterations the number of times to run the code before measuring it.
+   * @param maxBytes the maximum number of bytes.
+   * @throws AssertionError if the code allocates more than {@code maxBytes} or throws an exception.
+   * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations.
+   */
+  public void assertAllocatesAtMostBytes(AssertionInfo info, ThrowingCallable code, int warmUpIterations, long maxBytes) {
+    assertNotNull(info, code);
+    com.sun.management.ThreadMXBean threadMXBean = allocationMeasuringThreadMXBean();
+    warmUp(info, code, warmUpIterations);
+    // measuring allocations may allocate itself, this overhead is not accounted to the code
+    long overheadStart = threadMXBean.getCurrentThreadAllocatedBytes();
+    long overhead = threadMXBean.getCurrentThreadAllocatedBytes() - overheadStart;
+    long before = threadMXBean.getCurrentThreadAllocatedBytes();
+    run(info, code);
+    long allocatedBytes = Math.max(threadMXBean.getCurrentThreadAllocatedBytes() - before - overhead, 0);
+    if (allocatedBytes > maxBytes) throw failures.failure(info, shouldAllocateAtMost(maxBytes, allocatedBytes));
+  }
+
+  /**
+   * Verifies that the median latency of the given code over the given number of iterations is below the given duration.
+   *
+   * @param info contains information about the assertion.
+   * @param code the code to run.
+   * @param warmUpIterations the number of times to run the code before measuring it.
+   * @param maxMedian the duration the median latency must be below.
+   * @param iterations the number of measured runs.
+   * @throws AssertionError if the median latency is not below {@code maxMedian} or if the code throws an exception.
+   */
+  public void assertHasMedianLatencyBelow(AssertionInfo info, ThrowingCallable code, int warmUpIterations, Duration maxMedian,
+                                          int iterations) {
+    assertNotNull(info, code);
+    warmUp(info, code, warmUpIterations);
+    long[] latencyNanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      latencyNanos[i] = measureNanos(info, code);
+    }
+    Arrays.sort(latencyNanos);
+    if (percentile(latencyNanos, 50).compareTo(maxMedian) >= 0)
+      throw failures.failure(info, shouldHaveMedianLatencyBelow(maxMedian, latencyNanos));
+  }
+
+  /**
+   * Verifies that the execution time of the given workload grows at most as the given complexity over the given sizes.
+   * <p>
+   * The workload is created once per size, then run {@code warmUpIterations} times and measured {@code iterations} times,
+   * the fastest run is kept as the execution time of the size (the other ones being slowed down by noise like GC pauses or
+   * other processes). The growth rate is the slope of the log-log regression line of the execution times over the sizes, it
+   * must not exceed the exponent of the given complexity over the same sizes plus the given tolerance.
+   *
+   * @param info contains information about the assertion.
+   * @param workload creates the code to measure for a given size.
+   * @param sizes the sizes to measure the workload at.
+   * @param warmUpIterations the number of times to run the workload of each size before measuring it.
+   * @param iterations the number of measured runs for each size.
+   * @param complexity the expected complexity.
+   * @param tolerance how much the measured exponent can exceed the exponent of the expected complexity.
+   * @throws AssertionError if the execution time grows faster than the given complexity or if the workload throws an exception.
+   */
+  public void assertScalesAtMost(AssertionInfo info, IntFunction<Runnable> workload, int[] sizes, int warmUpIterations,
+                                 int iterations, Complexity complexity, double tolerance) {
+    Objects.instance().assertNotNull(info, workload);
+    long[] nanos = new long[sizes.length];
+    double[] positiveNanos = new double[sizes.length];
+    for (int i = 0; i < sizes.length; i++) {
+      Runnable run = workload.apply(sizes[i]);
+      ThrowingCallable code = run::run;
+      warmUp(info, code, warmUpIterations);
+      nanos[i] = Long.MAX_VALUE;
+      for (int j = 0; j < iterations; j++) {
+        nanos[i] = Math.min(nanos[i], measureNanos(info, code));
+      }
+      // the log of the execution time is used to fit the growth rate
+      positiveNanos[i] = Math.max(nanos[i], 1);
+    }
+    double exponent = Complexity.logLogSlope(sizes, positiveNanos);
+    double maxExponent = complexity.exponentOver(sizes) + tolerance;
+    // an undefined exponent must not let the assertion pass
+    if (!(exponent <= maxExponent)) throw failures.failure(info, shouldScaleAtMost(complexity, maxExponent, exponent, sizes, nanos));
+  }
+
+  private void warmUp(AssertionInfo info, ThrowingCallable code, int warmUpIterations) {
+    for (int i = 0; i < warmUpIterations; i++) {
+      run(info, code);
+    }
+  }
+
+  private long measureNanos(AssertionInfo info, ThrowingCallable code) {
+    long start = System.nanoTime();
+    run(info, code);
+    return System.nanoTime() - start;
+  }
+
+  private void run(AssertionInfo info, ThrowingCallable code) {
+    try {
+      code.call();
+    } catch (Throwable throwable) {
+      throw failures.failure(info, shouldNotHaveThrown(throwable));
+    }
+  }
+
+  private static com.sun.management.ThreadMXBean allocationMeasuringThreadMXBean() {
+    try {
+      if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+          && threadMXBean.isThreadAllocatedMemorySupported()) {
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+      }
+    } catch (NoClassDefFoundError e) {
+      // java.management or jdk.management modules are not available
+    }
+    throw new UnsupportedOperationException("Measuring the memory allocated by a thread is not supported by this JVM");
+  }
+
+  private void assertNotNull(AssertionInfo info, ThrowingCallable code) {
+    Objects.instance().assertNotNull(info, code);
+  }
+}
@@ -44,13 +44,13 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -68,6 +68,7 @@ import java.util.function.Function;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.error.DescriptionFormatter;
 import org.assertj.core.error.MultipleAssertionsError;
@@ -107,11 +108,12 @@ public class StandardRepresentation implements Representation {
   public static final String ELEMENT_SEPARATOR = ",";
   public static final String ELEMENT_SEPARATOR_WITH_NEWLINE = ELEMENT_SEPARATOR + System.lineSeparator();
 
-  private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
-  private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
-  private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+  // global settings, read from any thread running assertions, a ConfigurationScope overrides them for its thread
+  private static volatile int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
+  private static volatile int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static volatile int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
 
-  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new ConcurrentHashMap<>();
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -164,7 +166,8 @@ public class StandardRepresentation implements Representation {
   }
 
   public static int getMaxLengthForSingleLineDescription() {
-    return maxLengthForSingleLineDescription;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxLengthForSingleLineDescription : scope.maxLengthForSingleLineDescription();
   }
 
   public static void setMaxElementsForPrinting(int value) {
@@ -174,7 +177,8 @@ public class StandardRepresentation implements Representation {
   }
 
   public static int getMaxStackTraceElementsDisplayed() {
-    return maxStackTraceElementsDisplayed;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxStackTraceElementsDisplayed : scope.maxStackTraceElementsDisplayed();
   }
 
   public static void setMaxStackTraceElementsDisplayed(int value) {
@@ -184,7 +188,8 @@ public class StandardRepresentation implements Representation {
   }
 
   public static int getMaxElementsForPrinting() {
-    return maxElementsForPrinting;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxElementsForPrinting : scope.maxElementsForPrinting();
   }
 
   /**
@@ -532,6 +537,7 @@ public class StandardRepresentation implements Representation {
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
@@ -585,6 +591,7 @@ public class StandardRepresentation implements Representation {
 
   protected String toStringOf(Throwable throwable) {
     StackTraceElement[] elements = throwable.getStackTrace();
+    int maxStackTraceElementsDisplayed = getMaxStackTraceElementsDisplayed();
     // if the line limit is 0, we assume the user don't want to print stack trace
     // the null check is for user convenience when they mock throwable (otherwise elements is not nul)
     if (maxStackTraceElementsDisplayed == 0 || elements == null) return throwable.toString();
@@ -726,7 +733,7 @@ public class StandardRepresentation implements Representation {
 
   private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
-    int capacity = maxElementsForPrinting / 2 + 1;
+    int capacity = getMaxElementsForPrinting() / 2 + 1;
     HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
     elements.forEach(accumulator::add);
 
@@ -738,6 +745,7 @@ public class StandardRepresentation implements Representation {
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
     int size = representedElements.size();
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     StringBuilder desc = new StringBuilder(start);
     if (size <= maxElementsForPrinting) {
       // display all elements
@@ -808,7 +816,7 @@ public class StandardRepresentation implements Representation {
   }
 
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
+    return singleLineDescription == null || singleLineDescription.length() <= getMaxLengthForSingleLineDescription();
   }
 
   private static String identityHexCodeOf(Object obj) {
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationScope;
 
 /**
  * Utility methods related to <a
@@ -44,7 +45,7 @@ public final class Introspection {
   private static final Map<MethodKey, Optional<Method>> METHOD_CACHE = new ConcurrentHashMap<>();
 
   // set false by default to follow the principle of least surprise as usual property getter are getX() isX(), not x().
-  private static boolean bareNamePropertyMethods = false;
+  private static volatile boolean bareNamePropertyMethods = false;
 
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
@@ -89,7 +90,8 @@ public final class Introspection {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public static boolean canExtractBareNamePropertyMethods() {
-    return bareNamePropertyMethods;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? bareNamePropertyMethods : scope.bareNamePropertyExtractionEnabled();
   }
 
   private static String propertyNotFoundErrorMessage(String message, String propertyName, Object target) {
@@ -103,7 +105,7 @@ public final class Introspection {
     // try to find getProperty
     Method getter = findMethod("get" + capitalized, target);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || target instanceof Record) {
+    if (canExtractBareNamePropertyMethods() || target instanceof Record) {
       // try to find bare name property
       getter = findMethod(propertyName, target);
       if (isValidGetter(getter)) return getter;
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BoundedAssertionErrorCollector.jsonLinesWriter;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class BoundedAssertionErrorCollector_Test {
+
+  @Test
+  void should_only_store_the_maximum_number_of_errors_and_send_the_other_ones_to_the_overflow_sink() {
+    // GIVEN
+    List<AssertionError> overflowingErrors = new ArrayList<>();
+    BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(2).sendingOverflowTo(overflowingErrors::add);
+    // WHEN
+    for (int i = 0; i < 5; i++) {
+      collector.collectAssertionError(new AssertionError("error " + i));
+    }
+    // THEN
+    then(collector.assertionErrorsCollected()).extracting(Throwable::getMessage)
+                                              .containsExactly("error 0", "error 1",
+                                                               "3 more assertion error(s) not kept as the maximum of 2 stored errors was reached");
+    then(overflowingErrors).extracting(Throwable::getMessage)
+                           .containsExactly("error 2", "error 3", "error 4");
+    then(collector.wasSuccess()).isFalse();
+  }
+
+  @Test
+  void should_count_errors_with_the_same_type_description_and_message_without_values() {
+    // GIVEN
+    BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(10).deduplicatingErrors();
+    // WHEN
+    for (int i = 0; i < 3; i++) {
+      collector.collectAssertionError(new AssertionError("[amount] %nExpecting actual:%n  -%d%nto be positive".formatted(i)));
+      collector.collectAssertionError(new AssertionError("[name] %nExpecting actual not to be empty".formatted()));
+    }
+    collector.collectAssertionError(new AssertionError("[amount] %nExpecting actual:%n  -10%nto be zero".formatted()));
+    collector.collectAssertionError(new AssertionFailedError("[amount] %nExpecting actual:%n  -11%nto be positive".formatted(),
+                                                             0, -11));
+    // THEN
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    then(errors).extracting(Throwable::getMessage)
+                .containsExactly("[amount] %nExpecting actual:%n  -0%nto be positive".formatted(),
+                                 "[name] %nExpecting actual not to be empty".formatted(),
+                                 "[amount] %nExpecting actual:%n  -10%nto be zero".formatted(),
+                                 "[amount] %nExpecting actual:%n  -11%nto be positive".formatted());
+    then(errors.get(0).getSuppressed()).extracting(Throwable::getMessage).containsExactly("3 occurrences of this error");
+    then(errors.get(1).getSuppressed()).extracting(Throwable::getMessage).containsExactly("3 occurrences of this error");
+    then(errors.get(2).getSuppressed()).isEmpty();
+    then(errors.get(3)).isInstanceOf(AssertionFailedError.class);
+  }
+
+  @Test
+  void should_keep_the_deduplicated_errors_as_collected() {
+    // GIVEN
+    BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(10).deduplicatingErrors();
+    IllegalStateException cause = new IllegalStateException("boom");
+    AssertionFailedError error = new AssertionFailedError("expected: 1 but was: 2", 1, 2, cause);
+    // WHEN
+    collector.collectAssertionError(error);
+    collector.collectAssertionError(new AssertionFailedError("expected: 1 but was: 2", 1, 2));
+    // THEN
+    AssertionError collectedError = collector.assertionErrorsCollected().get(0);
+    then(collectedError).isSameAs(error)
+                        .hasCause(cause);
+    then(((AssertionFailedError) collectedError).getActual().getValue()).isEqualTo(2);
+    then(collectedError.getSuppressed()).extracting(Throwable::getMessage).containsExactly("2 occurrences of this error");
+  }
+
+  @Test
+  void should_drop_the_stack_trace_of_the_errors_stored_after_the_first_ones() {
+    // GIVEN
+    BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(10).keepingStackTracesOfFirst(1);
+    // WHEN
+    collector.collectAssertionError(new AssertionError("first"));
+    collector.collectAssertionError(new AssertionError("second"));
+    // THEN
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    then(errors.get(0).getStackTrace()).isNotEmpty();
+    then(errors.get(1).getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void should_collect_soft_assertions_errors_as_delegate() {
+    // GIVEN
+    BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(1);
+    SoftAssertions softly = new SoftAssertions();
+    softly.setDelegate(collector);
+    // WHEN
+    softly.assertThat("Luke").isEqualTo("Yoda");
+    softly.assertThat("Leia").isEqualTo("Han");
+    // THEN
+    then(softly.errorsCollected()).hasSize(2);
+    then(softly.errorsCollected().get(1)).hasMessageContaining("1 more assertion error(s) not kept");
+  }
+
+  @Test
+  void should_write_errors_as_json_lines() {
+    // GIVEN
+    StringWriter output = new StringWriter();
+    AssertionError error = new AssertionError("[quote] \"Yoda\"\n\tsays\\");
+    error.setStackTrace(new StackTraceElement[] { new StackTraceElement("org.example.Test", "test", "Test.java", 42) });
+    AssertionError errorWithoutStackTrace = new AssertionError("\u0001");
+    errorWithoutStackTrace.setStackTrace(new StackTraceElement[0]);
+    // WHEN
+    jsonLinesWriter(output).accept(error);
+    jsonLinesWriter(output).accept(errorWithoutStackTrace);
+    // THEN
+    then(output.toString()).isEqualTo("""
+        {"type":"java.lang.AssertionError","message":"[quote] \\"Yoda\\"\\n\\tsays\\\\","location":"org.example.Test.test(Test.java:42)"}
+        {"type":"java.lang.AssertionError","message":"\\u0001","location":null}
+        """);
+  }
+
+}
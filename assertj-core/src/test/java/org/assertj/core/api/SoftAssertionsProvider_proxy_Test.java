@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchRuntimeException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SoftAssertionsProvider_proxy_Test {
+
+  @Test
+  void should_collect_errors_of_proxied_assertions_created_with_the_same_constructor() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.proxy(NameAssert.class, String.class, "Frodo").isNamed("Frodo");
+    softly.proxy(NameAssert.class, String.class, "Sam").isNamed("Frodo");
+    softly.proxy(NameAssert.class, String.class, "Pippin").isNamed("Frodo");
+    // THEN
+    then(softly.errorsCollected()).extracting(Throwable::getMessage)
+                                  .containsExactly("Expecting name Frodo but was Sam", "Expecting name Frodo but was Pippin");
+  }
+
+  @Test
+  void should_use_the_constructor_matching_the_actual_class() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    NameAssert nameAssertFromString = softly.proxy(NameAssert.class, String.class, "Frodo");
+    NameAssert nameAssertFromCharSequence = softly.proxy(NameAssert.class, CharSequence.class, new StringBuilder("Sam"));
+    // THEN
+    then(nameAssertFromString.actual).isEqualTo("Frodo");
+    then(nameAssertFromCharSequence.actual).isEqualTo("Sam from a CharSequence");
+  }
+
+  @Test
+  void should_fail_if_assert_class_has_no_constructor_for_the_actual_class() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    RuntimeException exception = catchRuntimeException(() -> softly.proxy((Class) NameAssert.class, (Class) List.class,
+                                                                          List.of()));
+    // THEN
+    then(exception).hasMessage("Failed to create soft assertion instance for " + NameAssert.class.getName())
+                   .cause().isInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void should_fail_if_assert_class_constructor_fails() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    RuntimeException exception = catchRuntimeException(() -> softly.proxy(NameAssert.class, String.class, ""));
+    // THEN
+    then(exception).hasMessage("Failed to create soft assertion instance for " + NameAssert.class.getName())
+                   .cause().isInstanceOf(InvocationTargetException.class)
+                   .cause().hasMessage("empty name");
+  }
+
+  static class NameAssert extends AbstractAssert<NameAssert, String> {
+
+    NameAssert(String actual) {
+      super(actual, NameAssert.class);
+      if (actual.isEmpty()) throw new IllegalArgumentException("empty name");
+    }
+
+    NameAssert(CharSequence actual) {
+      this(actual + " from a CharSequence");
+    }
+
+    NameAssert isNamed(String name) {
+      return executeAssertion(() -> {
+        if (!actual.equals(name)) failWithMessage("Expecting name %s but was %s", name, actual);
+      });
+    }
+  }
+}
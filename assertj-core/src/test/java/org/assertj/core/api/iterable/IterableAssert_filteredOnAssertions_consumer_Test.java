@@ -18,6 +18,7 @@ package org.assertj.core.api.iterable;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
@@ -41,6 +42,15 @@ class IterableAssert_filteredOnAssertions_consumer_Test extends IterableAssert_f
                                      .containsOnly(yoda, obiwan);
   }
 
+  @Test
+  void should_keep_the_failures_of_nested_assertions() {
+    // GIVEN
+    Iterable<Integer> numbers = asList(1, 2, 3);
+    // WHEN/THEN
+    assertThat(numbers).filteredOnAssertions(i -> assertThatThrownBy(() -> assertThat(i).isEqualTo(3)).hasMessageContaining("3"))
+                       .containsExactly(1, 2);
+  }
+
   @Test
   void should_fail_if_given_consumer_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> {
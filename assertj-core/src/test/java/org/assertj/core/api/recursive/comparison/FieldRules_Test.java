@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FieldRules_Test {
+
+  @ParameterizedTest
+  @ValueSource(strings = { "name", "name.first", "name.first.initial", "address.number", "orders.lines.sku",
+      "orders.lines.sku.code" })
+  void should_ignore_ignored_fields_and_their_children(String path) {
+    // GIVEN
+    var configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreFields("name", "address.number");
+    configuration.ignoreFieldsMatchingRegexes("orders\\.lines\\.s.*");
+    // WHEN
+    var fieldRules = new FieldRules(configuration);
+    // THEN
+    then(fieldRules.isIgnored(path)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "", "names", "address", "address.numbers", "orders", "orders.lines", "orders.lines.price" })
+  void should_not_ignore_other_fields(String path) {
+    // GIVEN
+    var configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreFields("name", "address.number");
+    configuration.ignoreFieldsMatchingRegexes("orders\\.lines\\.s.*");
+    // WHEN
+    var fieldRules = new FieldRules(configuration);
+    // THEN
+    then(fieldRules.isIgnored(path)).isFalse();
+  }
+
+  @Test
+  void should_compare_root_compared_fields_their_parents_and_children() {
+    // GIVEN
+    var configuration = new RecursiveComparisonConfiguration();
+    configuration.compareOnlyFields("name.first", "orders");
+    // WHEN
+    var fieldRules = new FieldRules(configuration);
+    // THEN
+    then(fieldRules.isCompared("")).isTrue();
+    then(fieldRules.isCompared("name")).isTrue();
+    then(fieldRules.isCompared("name.first")).isTrue();
+    then(fieldRules.isCompared("name.first.initial")).isTrue();
+    then(fieldRules.isCompared("orders.lines.sku")).isTrue();
+    then(fieldRules.isCompared("name.last")).isFalse();
+    then(fieldRules.isCompared("names")).isFalse();
+    then(fieldRules.isCompared("address")).isFalse();
+    then(fieldRules.isExactlyCompared("name.first")).isTrue();
+    then(fieldRules.isExactlyCompared("name")).isFalse();
+  }
+
+  @Test
+  void should_evaluate_overridden_equals_collection_order_and_comparator_rules_on_exact_paths() {
+    // GIVEN
+    var configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreOverriddenEqualsForFields("name");
+    configuration.ignoreOverriddenEqualsForFieldsMatchingRegexes("orders\\..*");
+    configuration.ignoreCollectionOrderInFields("orders");
+    configuration.ignoreCollectionOrderInFieldsMatchingRegexes(".*\\.lines");
+    Comparator<String> comparator = String.CASE_INSENSITIVE_ORDER;
+    configuration.registerComparatorForFields(comparator, "name.first");
+    // WHEN
+    var fieldRules = new FieldRules(configuration);
+    // THEN
+    then(fieldRules.isOverriddenEqualsIgnored("name")).isTrue();
+    then(fieldRules.isOverriddenEqualsIgnored("orders.lines")).isTrue();
+    then(fieldRules.isOverriddenEqualsIgnored("name.first")).isFalse();
+    then(fieldRules.isCollectionOrderIgnored("orders")).isTrue();
+    then(fieldRules.isCollectionOrderIgnored("orders.lines")).isTrue();
+    then(fieldRules.isCollectionOrderIgnored("orders.lines.skus")).isFalse();
+    then(fieldRules.comparatorFor("name.first")).isSameAs(comparator);
+    then(fieldRules.comparatorFor("name")).isNull();
+  }
+
+  @Test
+  void should_only_use_compiled_rules_when_given_them() {
+    // GIVEN
+    var configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreFields("name");
+    FieldRules fieldRules = new FieldRules(configuration);
+    // WHEN
+    configuration.ignoreFields("address");
+    // THEN
+    then(configuration.shouldIgnoreFieldBasedOnFieldLocation(new FieldLocation("address"), fieldRules)).isFalse();
+    then(configuration.shouldIgnoreFieldBasedOnFieldLocation(new FieldLocation("address"), null)).isTrue();
+  }
+
+}
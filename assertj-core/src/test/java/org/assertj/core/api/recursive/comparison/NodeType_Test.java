@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class NodeType_Test {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_classify_values_by_kind(Object value, NodeKind expectedKind) {
+    // WHEN
+    NodeType nodeType = NodeType.of(value);
+    // THEN
+    then(nodeType.kind).isEqualTo(expectedKind);
+  }
+
+  private static Stream<Arguments> should_classify_values_by_kind() {
+    return Stream.of(arguments(null, NodeKind.NULL),
+                     arguments(TimeUnit.SECONDS, NodeKind.ENUM),
+                     arguments(new RuntimeException(), NodeKind.THROWABLE),
+                     arguments(new int[0], NodeKind.ARRAY),
+                     arguments(new String[0], NodeKind.ARRAY),
+                     arguments(new ArrayList<>(), NodeKind.ORDERED_COLLECTION),
+                     arguments(new TreeSet<>(), NodeKind.ORDERED_COLLECTION),
+                     arguments(new LinkedHashSet<>(), NodeKind.ORDERED_COLLECTION),
+                     arguments(new HashSet<>(), NodeKind.ITERABLE),
+                     arguments(Path.of("foo"), NodeKind.OBJECT),
+                     arguments(Optional.empty(), NodeKind.OPTIONAL),
+                     arguments(new TreeMap<>(), NodeKind.SORTED_MAP),
+                     arguments(new HashMap<>(), NodeKind.MAP),
+                     arguments(new AtomicBoolean(), NodeKind.ATOMIC_BOOLEAN),
+                     arguments(new AtomicInteger(), NodeKind.ATOMIC_INTEGER),
+                     arguments(new AtomicIntegerArray(0), NodeKind.ATOMIC_INTEGER_ARRAY),
+                     arguments(new AtomicLong(), NodeKind.ATOMIC_LONG),
+                     arguments(new AtomicLongArray(0), NodeKind.ATOMIC_LONG_ARRAY),
+                     arguments(new AtomicReference<>(), NodeKind.ATOMIC_REFERENCE),
+                     arguments(new AtomicReferenceArray<>(0), NodeKind.ATOMIC_REFERENCE_ARRAY),
+                     arguments("foo", NodeKind.OBJECT),
+                     arguments(new Object(), NodeKind.OBJECT));
+  }
+
+  @Test
+  void should_compute_node_type_once_per_class() {
+    // WHEN
+    NodeType nodeType = NodeType.of("foo");
+    // THEN
+    then(NodeType.of("bar")).isSameAs(nodeType);
+  }
+
+  @Test
+  void should_classify_java_types() {
+    then(NodeType.of("foo").javaType).isTrue();
+    then(NodeType.of(new ArrayList<>()).javaType).isTrue();
+    then(NodeType.of(this).javaType).isFalse();
+    then(NodeType.of(null).javaType).isFalse();
+  }
+
+  @Test
+  void should_classify_potential_cycling_values() {
+    then(NodeType.of(this).potentialCyclingValue).isTrue();
+    then(NodeType.of(new Object() {}).potentialCyclingValue).isTrue();
+    then(NodeType.of(new ArrayList<>()).potentialCyclingValue).isTrue();
+    then(NodeType.of("foo").potentialCyclingValue).isFalse();
+    then(NodeType.of(TimeUnit.SECONDS).potentialCyclingValue).isFalse();
+    then(NodeType.of(null).potentialCyclingValue).isFalse();
+  }
+
+}
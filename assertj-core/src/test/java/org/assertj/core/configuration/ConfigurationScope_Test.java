@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.thenIllegalStateException;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.presentation.HexadecimalRepresentation;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationScope_Test {
+
+  private static final List<Integer> ELEMENTS = IntStream.range(0, 20).boxed().toList();
+
+  @Test
+  void should_apply_scoped_settings_to_the_current_thread_only() throws Exception {
+    // GIVEN
+    Configuration configuration = new Configuration();
+    configuration.setMaxElementsForPrinting(4);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    // start the executor thread out of the scope
+    executor.submit(() -> {}).get();
+    try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+      // WHEN
+      Future<Integer> otherThreadMaxElementsForPrinting = executor.submit(StandardRepresentation::getMaxElementsForPrinting);
+      // THEN
+      then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(4);
+      then(otherThreadMaxElementsForPrinting.get()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+      then(expectAssertionError(() -> assertThat(ELEMENTS).contains(99))).hasMessageContaining("...");
+    } finally {
+      executor.shutdown();
+    }
+    then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    then(expectAssertionError(() -> assertThat(ELEMENTS).contains(99))).message().doesNotContain("...");
+  }
+
+  @Test
+  void should_use_scoped_representation_in_assertions_created_in_scope() {
+    // GIVEN
+    Configuration configuration = new Configuration() {
+      @Override
+      public Representation representation() {
+        return new HexadecimalRepresentation();
+      }
+    };
+    // WHEN
+    AssertionError assertionError;
+    try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+      assertionError = expectAssertionError(() -> assertThat(10).isEqualTo(11));
+    }
+    // THEN
+    then(assertionError).hasMessageContainingAll("0x0000_000A", "0x0000_000B");
+  }
+
+  @Test
+  void should_restore_enclosing_scope_when_closed() {
+    // GIVEN
+    Configuration outerConfiguration = new Configuration();
+    outerConfiguration.setMaxElementsForPrinting(4);
+    Configuration innerConfiguration = new Configuration();
+    innerConfiguration.setMaxElementsForPrinting(8);
+    try (ConfigurationScope outerScope = ConfigurationScope.open(outerConfiguration)) {
+      ConfigurationScope innerScope = ConfigurationScope.open(innerConfiguration);
+      then(ConfigurationScope.current()).isSameAs(innerScope);
+      // WHEN
+      innerScope.close();
+      // THEN
+      then(ConfigurationScope.current()).isSameAs(outerScope);
+      then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(4);
+    }
+    then(ConfigurationScope.current()).isNull();
+  }
+
+  @Test
+  void should_fail_to_close_a_scope_before_the_scopes_nested_in_it() {
+    try (ConfigurationScope outerScope = ConfigurationScope.open(new Configuration());
+        ConfigurationScope innerScope = ConfigurationScope.open(new Configuration())) {
+      thenIllegalStateException().isThrownBy(outerScope::close)
+                                 .withMessage("The configuration scopes nested in this one must be closed first");
+    }
+  }
+
+  @Test
+  void should_not_apply_a_scope_to_the_threads_started_in_it() throws Exception {
+    // GIVEN
+    Configuration configuration = new Configuration();
+    configuration.setMaxElementsForPrinting(4);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+      // WHEN
+      // the executor thread is started in the scope
+      Future<Integer> maxElementsForPrinting = executor.submit(StandardRepresentation::getMaxElementsForPrinting);
+      // THEN
+      then(maxElementsForPrinting.get()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_apply_each_scope_to_its_test_class_only_when_test_classes_run_concurrently() throws Exception {
+    // GIVEN
+    Configuration firstClassConfiguration = new Configuration();
+    firstClassConfiguration.setMaxElementsForPrinting(4);
+    Configuration secondClassConfiguration = new Configuration();
+    secondClassConfiguration.setMaxElementsForPrinting(8);
+    Configuration spawningClassConfiguration = new Configuration();
+    spawningClassConfiguration.setMaxElementsForPrinting(2);
+    CyclicBarrier classesInTheirScopes = new CyclicBarrier(2);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    // WHEN
+    Future<List<Integer>> firstClassMaxElementsForPrinting;
+    Future<List<Integer>> secondClassMaxElementsForPrinting;
+    // like a parallel test executor lazily starting its worker threads from a thread running a test class in a scope
+    try (ConfigurationScope scope = ConfigurationScope.open(spawningClassConfiguration)) {
+      firstClassMaxElementsForPrinting = executor.submit(() -> runTestClass(firstClassConfiguration, classesInTheirScopes));
+      secondClassMaxElementsForPrinting = executor.submit(() -> runTestClass(secondClassConfiguration, classesInTheirScopes));
+      // THEN
+      then(firstClassMaxElementsForPrinting.get()).containsExactly(4, Configuration.MAX_ELEMENTS_FOR_PRINTING);
+      then(secondClassMaxElementsForPrinting.get()).containsExactly(8, Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // returns the max elements for printing in the class scope and once it is closed
+  private static List<Integer> runTestClass(Configuration configuration, CyclicBarrier classesInTheirScopes) throws Exception {
+    int maxElementsForPrintingInScope;
+    try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+      classesInTheirScopes.await();
+      maxElementsForPrintingInScope = StandardRepresentation.getMaxElementsForPrinting();
+      classesInTheirScopes.await();
+    }
+    return List.of(maxElementsForPrintingInScope, StandardRepresentation.getMaxElementsForPrinting());
+  }
+
+  @Test
+  void should_apply_a_scope_to_the_tasks_wrapped_in_it() throws Exception {
+    // GIVEN
+    Configuration configuration = new Configuration();
+    configuration.setMaxElementsForPrinting(4);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (ConfigurationScope scope = ConfigurationScope.open(configuration)) {
+      // WHEN
+      Callable<Integer> wrappedTask = scope.wrap(StandardRepresentation::getMaxElementsForPrinting);
+      Future<Integer> wrappedTaskMaxElementsForPrinting = executor.submit(wrappedTask);
+      Future<?> wrappedAssertion = executor.submit(scope.wrap(() -> {
+        then(expectAssertionError(() -> assertThat(ELEMENTS).contains(99))).hasMessageContaining("...");
+      }));
+      // THEN
+      then(wrappedTaskMaxElementsForPrinting.get()).isEqualTo(4);
+      wrappedAssertion.get();
+      // the executor thread scope is restored once the wrapped tasks are done
+      Future<Integer> maxElementsForPrinting = executor.submit(StandardRepresentation::getMaxElementsForPrinting);
+      then(maxElementsForPrinting.get()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_not_apply_a_closed_scope_to_the_tasks_wrapped_in_it() throws Exception {
+    // GIVEN
+    Configuration configuration = new Configuration();
+    configuration.setMaxElementsForPrinting(4);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    ConfigurationScope scope = ConfigurationScope.open(configuration);
+    Callable<Integer> wrappedTask = scope.wrap(StandardRepresentation::getMaxElementsForPrinting);
+    scope.close();
+    // WHEN
+    Future<Integer> maxElementsForPrinting = executor.submit(wrappedTask);
+    // THEN
+    then(maxElementsForPrinting.get()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    executor.shutdown();
+  }
+
+  @Test
+  void should_fail_if_scoped_settings_are_invalid() {
+    // GIVEN
+    Configuration configuration = new Configuration();
+    configuration.setMaxElementsForPrinting(0);
+    // WHEN/THEN
+    thenIllegalArgumentException().isThrownBy(() -> ConfigurationScope.open(configuration))
+                                  .withMessage("maxElementsForPrinting must be >= 1, but was 0");
+    then(ConfigurationScope.current()).isNull();
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.AssertionMetrics.Outcome.ERRORED;
+import static org.assertj.core.configuration.AssertionMetrics.Outcome.FAILED;
+import static org.assertj.core.configuration.AssertionMetrics.Outcome.SUCCEEDED;
+import static org.assertj.core.configuration.HistogramAssertionMetrics.bucketHighestValue;
+import static org.assertj.core.configuration.HistogramAssertionMetrics.bucketIndex;
+
+import org.assertj.core.api.IntegerAssert;
+import org.assertj.core.api.StringAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HistogramAssertionMetrics_Test {
+
+  @ParameterizedTest
+  @ValueSource(longs = { 0, 1, 3, 4, 5, 7, 8, 9, 10, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE })
+  void should_record_latencies_in_buckets_with_less_than_25_percent_error(long nanos) {
+    // WHEN
+    int bucketIndex = bucketIndex(nanos);
+    // THEN
+    long highestValue = bucketHighestValue(bucketIndex);
+    then(highestValue).isGreaterThanOrEqualTo(nanos);
+    then(bucketIndex == 0 || bucketHighestValue(bucketIndex - 1) < nanos).isTrue();
+    then(highestValue - nanos).isLessThanOrEqualTo(nanos / 4);
+  }
+
+  @Test
+  void should_report_assertions_taking_the_most_time_first() {
+    // GIVEN
+    HistogramAssertionMetrics assertionMetrics = new HistogramAssertionMetrics(0);
+    assertionMetrics.assertionExecuted(StringAssert.class, "contains", SUCCEEDED, 2_000_000);
+    assertionMetrics.assertionExecuted(IntegerAssert.class, "isEqualTo", SUCCEEDED, 1_000_000);
+    assertionMetrics.assertionExecuted(IntegerAssert.class, "isEqualTo", FAILED, 3_000_000);
+    assertionMetrics.assertionExecuted(StringAssert.class, "startsWith", ERRORED, 500_000);
+    // WHEN
+    String report = assertionMetrics.slowestAssertionsReport(2);
+    // THEN
+    then(report.lines()).hasSize(4)
+                        .element(2).asString()
+                        .contains("4.000", "2.000", "3.000", "org.assertj.core.api.IntegerAssert.isEqualTo")
+                        .containsPattern(" 2 +1 ");
+    then(report.lines()).element(3).asString()
+                        .contains("2.000", "org.assertj.core.api.StringAssert.contains");
+    then(report).doesNotContain("startsWith");
+  }
+
+}
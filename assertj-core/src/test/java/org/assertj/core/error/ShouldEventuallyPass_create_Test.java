@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldEventuallyPass.shouldEventuallyPass;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.time.Duration;
+
+import org.assertj.core.description.TextDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldEventuallyPass_create_Test {
+
+  @Test
+  void should_create_error_message_with_the_last_assertion_error() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldEventuallyPass(Duration.ofSeconds(5), 12, new AssertionError(format("%nboom")));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting assertions to pass within%n" +
+                                   "  5s%n" +
+                                   "but they still failed after 12 attempts, last failure was:%n" +
+                                   "  boom"));
+  }
+
+  @Test
+  void should_create_error_message_with_the_last_exception() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldEventuallyPass(Duration.ofMillis(10), 3, new IllegalStateException("not ready"));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting assertions to pass within%n" +
+                                   "  0.01s%n" +
+                                   "but they still failed after 3 attempts, last failure was:%n" +
+                                   "  java.lang.IllegalStateException: not ready"));
+  }
+}
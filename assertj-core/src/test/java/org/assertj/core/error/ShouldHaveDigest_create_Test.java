@@ -18,6 +18,7 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.mockito.Mockito.mock;
 
@@ -25,6 +26,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.util.List;
 
 import org.assertj.core.internal.DigestDiff;
 import org.assertj.core.internal.TestDescription;
@@ -84,4 +86,21 @@ class ShouldHaveDigest_create_Test {
                                    "  \"" + diff.getActual() + "\""));
   }
 
+  @Test
+  void should_create_error_message_with_Path_and_several_digests() throws Exception {
+    // GIVEN
+    Path actual = mock(Path.class);
+    DigestDiff sha256Diff = new DigestDiff("actualSha256", "expectedSha256", MessageDigest.getInstance("SHA-256"));
+    // WHEN
+    String message = shouldHaveDigests(actual, List.of(diff, sha256Diff)).create(TEST_DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[TEST] %n" +
+                                   "Expecting Path " + actual + " digests to be:%n" +
+                                   "  MD5: \"" + diff.getExpected() + "\"%n" +
+                                   "  SHA-256: \"expectedSha256\"%n" +
+                                   "but were:%n" +
+                                   "  MD5: \"" + diff.getActual() + "\"%n" +
+                                   "  SHA-256: \"actualSha256\""));
+  }
+
 }
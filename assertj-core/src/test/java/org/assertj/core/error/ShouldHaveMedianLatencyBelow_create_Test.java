@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveMedianLatencyBelow.percentile;
+import static org.assertj.core.error.ShouldHaveMedianLatencyBelow.shouldHaveMedianLatencyBelow;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import org.assertj.core.description.TextDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveMedianLatencyBelow_create_Test {
+
+  private static final long ONE_MILLI = Duration.ofMillis(1).toNanos();
+
+  @Test
+  void should_create_error_message_with_latency_percentiles() {
+    // GIVEN
+    long[] sortedLatencyNanos = LongStream.rangeClosed(1, 100).map(i -> i * ONE_MILLI).toArray();
+    ErrorMessageFactory factory = shouldHaveMedianLatencyBelow(Duration.ofMillis(10), sortedLatencyNanos);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting code median latency over 100 iterations to be below%n" +
+                                   "  0.01s%n" +
+                                   "but was%n" +
+                                   "  0.05s%n" +
+                                   "measured latencies:%n" +
+                                   "  min=0.001s, p50=0.05s, p90=0.09s, p99=0.099s, max=0.1s"));
+  }
+
+  @Test
+  void should_compute_percentiles_with_the_nearest_rank_method() {
+    // GIVEN
+    long[] sortedLatencyNanos = { 1, 2, 3 };
+    // WHEN/THEN
+    then(percentile(sortedLatencyNanos, 0)).isEqualTo(Duration.ofNanos(1));
+    then(percentile(sortedLatencyNanos, 50)).isEqualTo(Duration.ofNanos(2));
+    then(percentile(sortedLatencyNanos, 90)).isEqualTo(Duration.ofNanos(3));
+    then(percentile(sortedLatencyNanos, 100)).isEqualTo(Duration.ofNanos(3));
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldScaleAtMost.shouldScaleAtMost;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.Complexity;
+import org.junit.jupiter.api.Test;
+
+class ShouldScaleAtMost_create_Test {
+
+  @Test
+  void should_create_error_message() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldScaleAtMost(Complexity.LINEAR, 1.25, 2.0123, new int[] { 1000, 2000 },
+                                                    new long[] { 1_500_000, 6_000_000 });
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting workload execution time to grow at most linearly (exponent <= 1.25)%n" +
+                                   "but the measured exponent was%n" +
+                                   "  2.01%n" +
+                                   "measured timings:%n" +
+                                   "  size=1000: 1.500 ms%n" +
+                                   "  size=2000: 6.000 ms"));
+  }
+}
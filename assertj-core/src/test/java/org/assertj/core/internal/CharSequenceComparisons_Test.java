@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharSequenceComparisons_Test {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_compare_normalizing_whitespace(String actual, String expected, boolean equal) {
+    then(CharSequenceComparisons.equalsNormalizingWhitespace(actual, expected)).isEqualTo(equal);
+  }
+
+  static Stream<Arguments> should_compare_normalizing_whitespace() {
+    return Stream.of(arguments("Frodo", "Frodo", true),
+                     arguments(" Frodo\t\nBaggins  ", "Frodo Baggins", true),
+                     arguments("\u00A0Frodo\u2007\u202FBaggins", "Frodo Baggins", true),
+                     arguments("\u0000Frodo Baggins\u0001", "Frodo Baggins", true),
+                     arguments("Frodo\u0000Baggins", "Frodo Baggins", false),
+                     arguments("Frodo Baggins", "FrodoBaggins", false),
+                     arguments("Frodo", "Frodo Baggins", false));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void should_compare_normalizing_punctuation_and_whitespace(String actual, String expected, boolean equal) {
+    then(CharSequenceComparisons.equalsNormalizingPunctuationAndWhitespace(actual, expected)).isEqualTo(equal);
+  }
+
+  static Stream<Arguments> should_compare_normalizing_punctuation_and_whitespace() {
+    return Stream.of(arguments("Frodo, Baggins!", "Frodo Baggins", true),
+                     arguments("Frodo ,  - Baggins", "Frodo Baggins", true),
+                     arguments("...Frodo  (Baggins)", "Frodo Baggins", true),
+                     arguments("Frodo-Baggins", "Frodo Baggins", false),
+                     arguments("Frodo, Baggins", "Frodo  Sam", false));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void should_compare_ignoring_whitespace(String actual, String expected, boolean equal) {
+    then(CharSequenceComparisons.equalsIgnoringWhitespace(actual, expected)).isEqualTo(equal);
+  }
+
+  static Stream<Arguments> should_compare_ignoring_whitespace() {
+    return Stream.of(arguments(" F r o d o ", "Frodo", true),
+                     arguments("Fro\tdo\n", "Frodo ", true),
+                     arguments("Frodo\u00A0", "Frodo", false),
+                     arguments("Frodo", "Frod", false));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void should_compare_ignoring_newlines(String actual, String expected, boolean equal) {
+    then(CharSequenceComparisons.equalsIgnoringNewlines(actual, expected)).isEqualTo(equal);
+  }
+
+  static Stream<Arguments> should_compare_ignoring_newlines() {
+    return Stream.of(arguments("Fro\ndo\r\n", "Frodo", true),
+                     arguments("Frodo\r\r\n", "Frodo\r", true),
+                     arguments("Frodo\r", "Frodo", false),
+                     arguments("Frodo\n\r", "Frodo", false));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Frodo", "FRODO", "\u01C4", "\u00DF", "\u212A" })
+  void should_compare_ignoring_case_as_lower_cased_strings(String value) {
+    // GIVEN
+    String text = "Mister " + value + " Baggins";
+    String lowerCasedValue = value.toLowerCase(ROOT);
+    // WHEN
+    boolean lowerCasedCharByChar = CharSequenceComparisons.isLowerCasedCharByChar(value);
+    // THEN
+    then(lowerCasedCharByChar).isTrue();
+    then(CharSequenceComparisons.containsIgnoringCase(text, lowerCasedValue)).isTrue();
+    then(CharSequenceComparisons.startsWithIgnoringCase(value + text, lowerCasedValue)).isTrue();
+    then(CharSequenceComparisons.endsWithIgnoringCase(text + value, lowerCasedValue)).isTrue();
+    then(CharSequenceComparisons.containsIgnoringCase(lowerCasedValue, text)).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "\u0130stanbul", "\u039F\u0394\u03A3", "\uD801\uDC00" })
+  void should_not_lower_case_char_by_char_chars_lower_cased_differently_in_strings(String value) {
+    then(CharSequenceComparisons.isLowerCasedCharByChar(value)).isFalse();
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class Complexity_Test {
+
+  private static final int[] SIZES = { 1_000, 2_000, 4_000, 8_000 };
+
+  @Test
+  void should_compute_the_exponent_of_each_complexity() {
+    then(Complexity.LINEAR.exponentOver(SIZES)).isCloseTo(1.0, within(1e-9));
+    then(Complexity.N_LOG_N.exponentOver(SIZES)).isBetween(1.05, 1.2);
+    then(Complexity.QUADRATIC.exponentOver(SIZES)).isCloseTo(2.0, within(1e-9));
+  }
+
+  @Test
+  void should_compute_the_log_log_slope_of_values() {
+    // GIVEN
+    double[] values = { 3.0, 24.0, 192.0, 1536.0 };
+    // WHEN
+    double slope = Complexity.logLogSlope(SIZES, values);
+    // THEN
+    then(slope).isCloseTo(3.0, within(1e-9));
+  }
+
+  @Test
+  void should_fit_noisy_linear_timings_below_the_linear_exponent_plus_default_tolerance() {
+    // GIVEN
+    int[] sizes = { 1_000, 2_000, 4_000, 8_000, 16_000, 32_000, 64_000 };
+    double[] noise = { 1.2, 0.9, 1.1, 0.8, 1.1, 0.9, 1.0 };
+    double[] timings = new double[sizes.length];
+    for (int i = 0; i < sizes.length; i++) {
+      timings[i] = 50.0 * sizes[i] * noise[i];
+    }
+    // WHEN
+    double slope = Complexity.logLogSlope(sizes, timings);
+    // THEN
+    then(slope).isCloseTo(1.0, within(0.1))
+               .isLessThan(Complexity.LINEAR.exponentOver(sizes) + 0.25);
+  }
+
+  @Test
+  void should_fit_n_log_n_timings_to_the_n_log_n_exponent() {
+    // GIVEN
+    double[] timings = new double[SIZES.length];
+    for (int i = 0; i < SIZES.length; i++) {
+      timings[i] = 7.0 * SIZES[i] * Math.log(SIZES[i]);
+    }
+    // WHEN
+    double slope = Complexity.logLogSlope(SIZES, timings);
+    // THEN
+    then(slope).isCloseTo(Complexity.N_LOG_N.exponentOver(SIZES), within(1e-9))
+               .isGreaterThan(Complexity.LINEAR.exponentOver(SIZES));
+  }
+
+  @Test
+  void should_fit_quadratic_timings_above_the_linear_and_n_log_n_exponents_plus_default_tolerance() {
+    // GIVEN
+    double[] timings = new double[SIZES.length];
+    for (int i = 0; i < SIZES.length; i++) {
+      timings[i] = 0.5 * SIZES[i] * SIZES[i];
+    }
+    // WHEN
+    double slope = Complexity.logLogSlope(SIZES, timings);
+    // THEN
+    then(slope).isGreaterThan(Complexity.LINEAR.exponentOver(SIZES) + 0.25)
+               .isGreaterThan(Complexity.N_LOG_N.exponentOver(SIZES) + 0.25);
+  }
+
+  @Test
+  void should_describe_the_growth_rate() {
+    then(Complexity.N_LOG_N).hasToString("as n log n");
+  }
+
+}
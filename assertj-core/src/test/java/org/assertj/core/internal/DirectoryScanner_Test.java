@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createFile;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for <code>{@link DirectoryScanner}</code>.
+ */
+class DirectoryScanner_Test {
+
+  private final DirectoryScanner<Path> scanner = DirectoryScanner.pathScanner(NioFilesWrapper.instance());
+
+  @TempDir
+  private Path root;
+
+  @BeforeEach
+  void createFixturePaths() throws IOException {
+    // @format:off
+    // The layout:
+    //  root
+    //  |—— a
+    //  |    |—— a1.txt
+    //  |    |—— b
+    //  |         |—— b1.json
+    //  |—— c
+    //  |    |—— c1.txt
+    //  |—— root.txt
+    // @format:on
+    createFile(createDirectories(root.resolve("a")).resolve("a1.txt"));
+    createFile(createDirectories(root.resolve("a/b")).resolve("b1.json"));
+    createFile(createDirectories(root.resolve("c")).resolve("c1.txt"));
+    createFile(root.resolve("root.txt"));
+  }
+
+  @Test
+  void anyMatch_should_stop_at_first_matching_entry() {
+    // GIVEN
+    AtomicInteger testedEntries = new AtomicInteger();
+    // WHEN
+    boolean found = scanner.anyMatch(root, path -> testedEntries.incrementAndGet() > 0);
+    // THEN
+    then(found).isTrue();
+    then(testedEntries).hasValue(1);
+  }
+
+  @Test
+  void anyMatch_should_only_scan_direct_entries() {
+    // WHEN
+    boolean found = scanner.anyMatch(root, path -> path.toString().endsWith(".json"));
+    // THEN
+    then(found).isFalse();
+  }
+
+  @Test
+  void allMatching_should_only_return_matching_direct_entries() {
+    // WHEN
+    List<Path> matchingPaths = scanner.allMatching(root, path -> path.toString().endsWith(".txt"));
+    // THEN
+    then(matchingPaths).containsExactly(root.resolve("root.txt"));
+  }
+
+  @ParameterizedTest(name = "parallel: {0}")
+  @ValueSource(booleans = { false, true })
+  void anyMatchRecursively_should_find_deeply_nested_entry(boolean parallel) {
+    // GIVEN
+    DirectoryScanner<Path> recursiveScanner = DirectoryScanner.pathScanner(NioFilesWrapper.instance(), parallel);
+    // WHEN
+    boolean found = recursiveScanner.anyMatchRecursively(root, path -> path.getFileName().toString().equals("b1.json"));
+    // THEN
+    then(found).isTrue();
+  }
+
+  @ParameterizedTest(name = "parallel: {0}")
+  @ValueSource(booleans = { false, true })
+  void anyMatchRecursively_should_visit_every_entry_but_the_root_when_nothing_matches(boolean parallel) {
+    // GIVEN
+    DirectoryScanner<Path> recursiveScanner = DirectoryScanner.pathScanner(NioFilesWrapper.instance(), parallel);
+    Set<Path> testedEntries = ConcurrentHashMap.newKeySet();
+    // WHEN
+    boolean found = recursiveScanner.anyMatchRecursively(root, path -> !testedEntries.add(path));
+    // THEN
+    then(found).isFalse();
+    then(testedEntries).containsExactlyInAnyOrder(root.resolve("a"), root.resolve("a/a1.txt"), root.resolve("a/b"),
+                                                  root.resolve("a/b/b1.json"), root.resolve("c"), root.resolve("c/c1.txt"),
+                                                  root.resolve("root.txt"));
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.time.Duration.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenNoException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.assertj.core.error.ShouldContainCharSequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecorderEvents_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_record_assertion_failures_and_slow_assertions() throws IOException {
+    // GIVEN
+    try (Recording recording = new Recording()) {
+      recording.enable("org.assertj.AssertionFailure");
+      recording.enable("org.assertj.SlowAssertion").withThreshold(ZERO);
+      recording.start();
+      // WHEN
+      catchThrowable(() -> assertThat("Yoda").as("jedi").contains("Luke"));
+      // THEN
+      List<RecordedEvent> events = recordedEvents(recording);
+      then(events).extracting(event -> event.getEventType().getName())
+                  .containsExactly("org.assertj.AssertionFailure", "org.assertj.SlowAssertion");
+      then(events.get(0).getString("errorMessageFactory")).isEqualTo(ShouldContainCharSequence.class.getName());
+      then(events.get(0).getString("assertionDescription")).isEqualTo("jedi");
+      then(events.get(1).getString("assertType")).isEqualTo("org.assertj.core.api.StringAssert");
+      then(events.get(1).getBoolean("failed")).isTrue();
+    }
+  }
+
+  @Test
+  void should_record_recursive_comparison_summary() throws IOException {
+    // GIVEN
+    record Person(String name, Person master) {}
+    Person actual = new Person("Luke", new Person("Yoda", null));
+    Person expected = new Person("Luke", new Person("Obiwan", null));
+    try (Recording recording = new Recording()) {
+      recording.enable("org.assertj.RecursiveComparison");
+      recording.start();
+      // WHEN
+      catchThrowable(() -> assertThat(actual).usingRecursiveComparison().isEqualTo(expected));
+      // THEN
+      List<RecordedEvent> events = recordedEvents(recording);
+      then(events).singleElement()
+                  .satisfies(event -> {
+                    then(event.getInt("comparedValues")).isEqualTo(5);
+                    then(event.getInt("maxDepth")).isEqualTo(2);
+                    then(event.getInt("differences")).isEqualTo(1);
+                  });
+    }
+  }
+
+  @Test
+  void should_not_record_disabled_events() throws IOException {
+    // GIVEN
+    try (Recording recording = new Recording()) {
+      recording.start();
+      // WHEN
+      catchThrowable(() -> assertThat("Yoda").contains("Luke"));
+      // THEN
+      then(recordedEvents(recording)).isEmpty();
+    }
+  }
+
+  @Test
+  void should_run_assertions_when_not_recording() {
+    thenNoException().isThrownBy(() -> FlightRecorderEvents.runAssertion(Object.class, () -> {}));
+  }
+
+  private List<RecordedEvent> recordedEvents(Recording recording) throws IOException {
+    recording.stop();
+    Path recordingFile = Files.createTempFile(tempDir, "assertj", ".jfr");
+    recording.dump(recordingFile);
+    return RecordingFile.readAllEvents(recordingFile).stream()
+                        .filter(event -> event.getEventType().getName().startsWith("org.assertj."))
+                        .toList();
+  }
+
+}
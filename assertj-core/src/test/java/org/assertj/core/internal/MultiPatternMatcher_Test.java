@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class MultiPatternMatcher_Test {
+
+  @Test
+  void should_find_the_first_occurrence_of_each_pattern() {
+    // GIVEN
+    MultiPatternMatcher matcher = new MultiPatternMatcher("he", "she", "his", "hers", "ushe");
+    // WHEN
+    int[] offsets = matcher.firstMatchOffsets("ushers and his sheep", false);
+    // THEN
+    then(offsets).containsExactly(2, 1, 11, 2, 0);
+  }
+
+  @Test
+  void should_report_patterns_not_found() {
+    // GIVEN
+    MultiPatternMatcher matcher = new MultiPatternMatcher("Luke", "Yoda", "Leia", "da");
+    // WHEN
+    int[] offsets = matcher.firstMatchOffsets("Master Yoda", false);
+    // THEN
+    then(offsets).containsExactly(-1, 7, -1, 9);
+  }
+
+  @Test
+  void should_find_duplicated_and_empty_patterns() {
+    // GIVEN
+    MultiPatternMatcher matcher = new MultiPatternMatcher("", "aa", "aa", "");
+    // WHEN
+    int[] offsets = matcher.firstMatchOffsets("baaa", false);
+    // THEN
+    then(offsets).containsExactly(0, 1, 1, 0);
+  }
+
+  @Test
+  void should_find_empty_patterns_in_empty_text() {
+    // GIVEN
+    MultiPatternMatcher matcher = new MultiPatternMatcher("a", "");
+    // WHEN
+    int[] offsets = matcher.firstMatchOffsets("", false);
+    // THEN
+    then(offsets).containsExactly(-1, 0);
+  }
+
+  @Test
+  void should_stop_at_first_match() {
+    // GIVEN
+    MultiPatternMatcher matcher = new MultiPatternMatcher("Yoda", "Master", "Luke");
+    // WHEN
+    int[] offsets = matcher.firstMatchOffsets("Master Yoda", true);
+    // THEN
+    then(offsets).containsExactly(-1, 0, -1);
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
+
+class SequenceMatcher_Test {
+
+  @Test
+  void should_find_the_first_occurrence_after_overlapping_partial_matches() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "a", "b", "a", "a", "c"), StandardComparisonStrategy.instance());
+    // WHEN
+    int index = matcher.indexIn(list("a", "a", "b", "a", "a", "b", "a", "a", "c", "a").iterator());
+    // THEN
+    then(index).isEqualTo(3);
+  }
+
+  @Test
+  void should_find_a_sequence_repeating_its_first_element() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "a", "b"), StandardComparisonStrategy.instance());
+    // WHEN
+    int index = matcher.indexIn(list("a", "a", "a", "a", "b").iterator());
+    // THEN
+    then(index).isEqualTo(2);
+  }
+
+  @Test
+  void should_report_each_overlapping_occurrence() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "b", "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    boolean[] endsSequence = new boolean[5];
+    String[] elements = { "a", "b", "a", "b", "a" };
+    for (int i = 0; i < elements.length; i++) {
+      endsSequence[i] = matcher.endsSequence(elements[i]);
+    }
+    // THEN
+    then(endsSequence).containsExactly(false, false, true, false, true);
+  }
+
+  @Test
+  void should_find_a_sequence_in_a_primitive_array() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array(1, 2, 1, 3), StandardComparisonStrategy.instance());
+    // WHEN
+    int index = matcher.indexIn(new int[] { 1, 2, 1, 2, 1, 3 });
+    // THEN
+    then(index).isEqualTo(2);
+  }
+
+  @Test
+  void should_find_a_sequence_with_null_elements() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array(null, "b"), StandardComparisonStrategy.instance());
+    // WHEN
+    int index = matcher.indexIn(list("a", null, null, "b").iterator());
+    // THEN
+    then(index).isEqualTo(2);
+  }
+
+  @Test
+  void should_compare_elements_with_the_comparison_strategy() {
+    // GIVEN
+    var comparisonStrategy = new ComparatorBasedComparisonStrategy(CASE_INSENSITIVE_ORDER);
+    SequenceMatcher matcher = new SequenceMatcher(array("LUKE", "yoda"), comparisonStrategy);
+    // WHEN
+    int index = matcher.indexIn(list("Leia", "Luke", "Luke", "Yoda").iterator());
+    // THEN
+    then(index).isEqualTo(2);
+  }
+
+  @Test
+  void should_not_find_a_sequence_only_matched_by_transitivity_with_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    // 0.1 and 0.2 are both equal to 0 but 0.2 is not equal to 0.1 and 0.2 is not equal to 0.3
+    var comparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.15));
+    SequenceMatcher matcher = new SequenceMatcher(array(0.0, 0.1, 0.3), comparisonStrategy);
+    // WHEN
+    int index = matcher.indexIn(new double[] { 0, 0.2, 0.1, 0.3 });
+    // THEN
+    then(index).isEqualTo(-1);
+  }
+
+  @Test
+  void should_find_a_sequence_after_a_partial_match_with_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    var comparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.15));
+    SequenceMatcher matcher = new SequenceMatcher(array(0.0, 0.1, 0.3), comparisonStrategy);
+    // WHEN
+    int index = matcher.indexIn(list(0.0, 0.2, 0.0, 0.1, 0.3).iterator());
+    // THEN
+    then(index).isEqualTo(2);
+  }
+
+  @Test
+  void should_not_find_a_sequence_longer_than_the_elements() {
+    // GIVEN
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "b", "c"), StandardComparisonStrategy.instance());
+    // WHEN
+    int index = matcher.indexIn(array("a", "b"));
+    // THEN
+    then(index).isEqualTo(-1);
+  }
+
+}
@@ -25,8 +25,10 @@ import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.DoubleArrays;
 import org.assertj.core.internal.DoubleArraysBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -159,4 +161,18 @@ class DoubleArrays_assertContainsSequence_Test extends DoubleArraysBaseTest {
   void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsSequence(someInfo(), actual, arrayOf(6d, -8d, 10d, 12d));
   }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_sequence_according_to_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    var precisionComparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.15));
+    DoubleArrays arraysWithPrecision = new DoubleArrays(precisionComparisonStrategy);
+    double[] actual = arrayOf(0, 0.2, 0.1, 0.3);
+    double[] sequence = arrayOf(0, 0.1, 0.3);
+    // WHEN/THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arraysWithPrecision.assertContainsSequence(someInfo(), actual,
+                                                                                                                sequence))
+                                                   .withMessage(shouldContainSequence(actual, sequence,
+                                                                                      precisionComparisonStrategy).create());
+  }
 }
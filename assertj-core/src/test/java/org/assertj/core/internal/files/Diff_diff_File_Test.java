@@ -17,11 +17,14 @@ package org.assertj.core.internal.files;
 
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.MalformedInputException;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -157,4 +160,53 @@ class Diff_diff_File_Test {
     then(diffs).singleElement().hasToString(format("Extra content at line 2:%n"
                                                    + "  [\"line_1\"]%n"));
   }
+
+  @Test
+  void should_report_the_line_number_of_a_difference_following_common_lines_with_mixed_line_terminators() throws IOException {
+    // GIVEN
+    java.nio.file.Files.writeString(actual.toPath(), "line0\nline1\r\nline2\rline_3\nline4");
+    java.nio.file.Files.writeString(expected.toPath(), "line0\nline1\r\nline2\rline3\nline4");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, UTF_8, expected, UTF_8);
+    // THEN
+    then(diffs).singleElement().hasToString(format("Changed content at line 4:%n"
+                                                   + "expecting:%n"
+                                                   + "  [\"line3\"]%n"
+                                                   + "but was:%n"
+                                                   + "  [\"line_3\"]%n"));
+  }
+
+  @Test
+  void should_return_empty_diff_list_if_files_only_differ_by_line_terminators() throws IOException {
+    // GIVEN
+    java.nio.file.Files.writeString(actual.toPath(), "line0\nline1\nline2\n");
+    java.nio.file.Files.writeString(expected.toPath(), "line0\nline1\r\nline2\r");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, UTF_8, expected, UTF_8);
+    // THEN
+    then(diffs).isEmpty();
+  }
+
+  @Test
+  void should_throw_MalformedInputException_if_identical_files_cant_be_decoded() throws IOException {
+    // GIVEN
+    byte[] content = { 'l', 'i', 'n', 'e', '0', '\n', (byte) 0xFE, '\n' };
+    java.nio.file.Files.write(actual.toPath(), content);
+    java.nio.file.Files.write(expected.toPath(), content);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> diff.diff(actual, UTF_8, expected, UTF_8));
+    // THEN
+    then(thrown).isInstanceOf(MalformedInputException.class);
+  }
+
+  @Test
+  void should_throw_MalformedInputException_if_common_lines_before_a_difference_cant_be_decoded() throws IOException {
+    // GIVEN
+    java.nio.file.Files.write(actual.toPath(), new byte[] { (byte) 0xFE, '\n', 'l', 'i', 'n', 'e', '_', '1' });
+    java.nio.file.Files.write(expected.toPath(), new byte[] { (byte) 0xFE, '\n', 'l', 'i', 'n', 'e', '1' });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> diff.diff(actual, UTF_8, expected, UTF_8));
+    // THEN
+    then(thrown).isInstanceOf(MalformedInputException.class);
+  }
 }
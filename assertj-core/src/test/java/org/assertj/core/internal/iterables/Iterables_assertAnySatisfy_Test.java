@@ -19,6 +19,7 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
@@ -57,6 +58,23 @@ class Iterables_assertAnySatisfy_Test extends IterablesBaseTest {
     verify(consumer, times(2)).accept(anyString());
   }
 
+  @Test
+  void should_evaluate_the_requirements_once_per_element_when_none_satisfies_them() {
+    // GIVEN
+    Consumer<String> consumer = mock(Consumer.class);
+    doThrow(new AssertionError("some error message")).when(consumer).accept(anyString());
+    // WHEN
+    expectAssertionError(() -> iterables.assertAnySatisfy(someInfo(), actual, consumer));
+    // THEN
+    verify(consumer, times(actual.size())).accept(anyString());
+  }
+
+  @Test
+  void should_pass_when_one_element_satisfies_requirements_checking_nested_assertion_failures() {
+    iterables.assertAnySatisfy(someInfo(), actual,
+                               s -> assertThatThrownBy(() -> assertThat(s).isEqualTo("Yoda")).hasMessageContaining("Yoda"));
+  }
+
   @Test
   void should_pass_when_one_element_satisfies_the_single_assertion_requirement() {
     iterables.assertAnySatisfy(someInfo(), actual, s -> assertThat(s).hasSize(6));
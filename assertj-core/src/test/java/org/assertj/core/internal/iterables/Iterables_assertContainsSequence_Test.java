@@ -132,6 +132,12 @@ class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
     iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Obi-Wan"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_after_overlapping_partial_sequences() {
+    actual = newArrayList("Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Leia");
+    iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Leia"));
+  }
+
   @Test
   void should_pass_if_actual_contains_sequence_that_specifies_multiple_times_the_same_value_bug_544() {
     actual = newArrayList("a", "-", "b", "-", "c");
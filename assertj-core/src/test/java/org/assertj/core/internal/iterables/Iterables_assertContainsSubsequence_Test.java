@@ -81,6 +81,12 @@ class Iterables_assertContainsSubsequence_Test extends IterablesBaseTest {
     iterables.assertContainsSubsequence(INFO, actual, array("Yoda", "Luke", "Obi-Wan"));
   }
 
+  @Test
+  void should_pass_if_actual_is_a_singly_traversable_sequence_and_contains_subsequence() {
+    Iterable<String> actual = SinglyIterableFactory.createSinglyIterable(list("Leia", "Luke", "Yoda", "Obi-Wan"));
+    iterables.assertContainsSubsequence(someInfo(), actual, array("Leia", "Yoda"));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual.clear();
@@ -30,9 +30,13 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -183,6 +187,15 @@ class Iterables_assertDoesNotContainSequence_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, 0, comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_does_not_contain_sequence_according_to_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    Iterables iterablesWithPrecision = new Iterables(new ComparatorBasedComparisonStrategy(new DoubleComparator(0.15)));
+    List<Double> actual = List.of(0.0, 0.2, 0.1, 0.3);
+    // WHEN/THEN
+    iterablesWithPrecision.assertDoesNotContainSequence(someInfo(), actual, array(0.0, 0.1, 0.3));
+  }
+
   private void verifyFailureThrownWhenSequenceNotFound(AssertionInfo info, Object[] sequence, int index) {
     verify(failures).failure(info, shouldNotContainSequence(actual, sequence, index));
   }
@@ -19,6 +19,7 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
@@ -70,6 +71,22 @@ class Maps_assertAnySatisfyingConsumer_Test extends MapsBaseTest {
     verify(consumer, times(2)).accept(anyString(), any(Player.class));
   }
 
+  @Test
+  void should_evaluate_the_requirements_once_per_entry_when_none_satisfies_them() {
+    // GIVEN
+    doThrow(new AssertionError("some error message")).when(consumer).accept(anyString(), any(Player.class));
+    // WHEN
+    expectAssertionError(() -> maps.assertAnySatisfy(INFO, greatPlayers, consumer));
+    // THEN
+    verify(consumer, times(greatPlayers.size())).accept(anyString(), any(Player.class));
+  }
+
+  @Test
+  void should_pass_if_one_entry_satisfies_requirements_checking_nested_assertion_failures() {
+    maps.assertAnySatisfy(INFO, greatPlayers, (team, player) -> assertThatThrownBy(() -> assertThat(team).isEqualTo("Lakers"))
+                                                                                                  .hasMessageContaining("Lakers"));
+  }
+
   @Test
   void should_pass_if_one_entry_satisfies_the_given_requirements() {
     maps.assertAnySatisfy(INFO, greatPlayers, (team, player) -> {
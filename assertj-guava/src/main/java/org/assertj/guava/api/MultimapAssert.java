@@ -16,7 +16,6 @@
 package org.assertj.guava.api;
 
 import static com.google.common.collect.Lists.newArrayList;
-import static com.google.common.collect.Sets.difference;
 import static com.google.common.collect.Sets.newLinkedHashSet;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
@@ -25,6 +24,8 @@ import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContainKeys.shouldNotContainKeys;
+import static org.assertj.guava.api.MultimapEntries.containsAllEntries;
+import static org.assertj.guava.api.MultimapEntries.entriesNotIn;
 import static org.assertj.guava.error.ShouldContainKeys.shouldContainKeys;
 import static org.assertj.guava.error.ShouldContainValues.shouldContainValues;
 import static org.assertj.guava.util.ExceptionUtils.throwIllegalArgumentExceptionIfTrue;
@@ -279,9 +280,9 @@ public class MultimapAssert<K, V> extends AbstractAssert<MultimapAssert<K, V>, M
     isNotNull();
     throwIllegalArgumentExceptionIfTrue(other == null, "The multimap to compare actual with should not be null");
 
-    Set<?> entriesNotExpectedInActual = difference(newLinkedHashSet(actual.entries()), newLinkedHashSet(other.entries()));
-    Set<?> entriesNotFoundInActual = difference(newLinkedHashSet(other.entries()), newLinkedHashSet(actual.entries()));
-    if (entriesNotFoundInActual.isEmpty() && entriesNotExpectedInActual.isEmpty()) return myself;
+    if (containsAllEntries(actual, other) && containsAllEntries(other, actual)) return myself;
+    Set<?> entriesNotExpectedInActual = entriesNotIn(actual, other);
+    Set<?> entriesNotFoundInActual = entriesNotIn(other, actual);
     throw assertionError(shouldContainOnly(actual, other, entriesNotFoundInActual, entriesNotExpectedInActual));
   }
 
@@ -314,8 +315,8 @@ public class MultimapAssert<K, V> extends AbstractAssert<MultimapAssert<K, V>, M
     isNotNull();
     throwIllegalArgumentExceptionIfTrue(other == null, "The multimap to compare actual with should not be null");
 
-    Set<?> entriesNotFoundInActual = difference(newLinkedHashSet(other.entries()), newLinkedHashSet(actual.entries()));
-    if (entriesNotFoundInActual.isEmpty()) return myself;
+    if (containsAllEntries(actual, other)) return myself;
+    Set<?> entriesNotFoundInActual = entriesNotIn(other, actual);
     throw assertionError(shouldContain(actual, other, entriesNotFoundInActual));
   }
 
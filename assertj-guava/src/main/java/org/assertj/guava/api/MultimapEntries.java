@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.guava.api;
+
+import static java.util.Collections.emptySet;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedSet;
+
+import com.google.common.collect.Multimap;
+
+/**
+ * Compares the entries of two {@link Multimap}s key by key through their {@link Multimap#asMap() asMap()} views.
+ * <p>
+ * Entries are compared with set semantics (as {@link Multimap#entries()} copied into sets would), duplicated entries of a
+ * {@link com.google.common.collect.ListMultimap ListMultimap} are thus considered once. The value collections are looked up
+ * in place, only the values of a key that can't be looked up efficiently are copied, the differing entries are only
+ * collected when computing the entries of a multimap missing from the other one, that is when the assertion fails.
+ */
+final class MultimapEntries {
+
+  /**
+   * Returns whether the given multimap contains all the entries of the other one.
+   *
+   * @param multimap the multimap expected to contain the entries.
+   * @param other the multimap whose entries to look for.
+   * @return {@code true} if all the entries of {@code other} are in {@code multimap}.
+   */
+  static boolean containsAllEntries(Multimap<?, ?> multimap, Multimap<?, ?> other) {
+    if (multimap == other) return true;
+    Map<?, ? extends Collection<?>> valuesByKey = multimap.asMap();
+    for (Entry<?, ? extends Collection<?>> otherKeyValues : other.asMap().entrySet()) {
+      Collection<?> values = valuesOf(valuesByKey, otherKeyValues.getKey());
+      if (values == null) return false;
+      Collection<?> otherValues = otherKeyValues.getValue();
+      if (values == otherValues || isInOrderCopy(values, otherValues)) continue;
+      Collection<?> lookup = lookupOf(values, otherValues.size());
+      for (Object otherValue : otherValues) {
+        if (!lookup.contains(otherValue)) return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the entries of the given multimap not found in the other one, in the iteration order of
+   * {@link Multimap#entries()}.
+   *
+   * @param multimap the multimap whose entries to look for.
+   * @param other the multimap to look the entries in.
+   * @return the entries of {@code multimap} that are not in {@code other}.
+   */
+  static Set<Entry<?, ?>> entriesNotIn(Multimap<?, ?> multimap, Multimap<?, ?> other) {
+    Map<?, ? extends Collection<?>> valuesByKey = multimap.asMap();
+    Map<?, ? extends Collection<?>> otherValuesByKey = other.asMap();
+    // keys of a multimap are usually interleaved in its entries, the lookup of each key is only computed once
+    Map<Object, Collection<?>> lookupByKey = new HashMap<>();
+    Set<Entry<?, ?>> entriesNotFound = new LinkedHashSet<>();
+    for (Entry<?, ?> entry : multimap.entries()) {
+      Object key = entry.getKey();
+      Collection<?> lookup = lookupByKey.computeIfAbsent(key, k -> {
+        Collection<?> otherValues = valuesOf(otherValuesByKey, k);
+        return otherValues == null ? emptySet() : lookupOf(otherValues, valuesByKey.get(k).size());
+      });
+      if (!lookup.contains(entry.getValue())) entriesNotFound.add(entry);
+    }
+    return entriesNotFound;
+  }
+
+  private static Collection<?> valuesOf(Map<?, ? extends Collection<?>> valuesByKey, Object key) {
+    try {
+      return valuesByKey.get(key);
+    } catch (ClassCastException | NullPointerException e) {
+      // sorted multimaps can't look up keys not comparable with theirs, these keys are not in the multimap
+      return null;
+    }
+  }
+
+  private static boolean isInOrderCopy(Collection<?> values, Collection<?> otherValues) {
+    // cheap check of the common case of values copied in the same order, sorted sets compare with their comparator
+    return !(values instanceof SortedSet) && !(otherValues instanceof SortedSet) && values.equals(otherValues);
+  }
+
+  private static Collection<?> lookupOf(Collection<?> values, int lookups) {
+    // sorted sets look values up with their comparator instead of equals and may reject nulls or incompatible types
+    if (values instanceof SortedSet) return new HashSet<>(values);
+    if (values instanceof Set || lookups == 1) return values;
+    return new HashSet<>(values);
+  }
+
+  private MultimapEntries() {}
+
+}
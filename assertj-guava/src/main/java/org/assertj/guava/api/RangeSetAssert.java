@@ -27,6 +27,9 @@ import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
 import static org.assertj.core.util.IterableUtil.toArray;
+import static org.assertj.guava.api.RangeSetProbes.allContained;
+import static org.assertj.guava.api.RangeSetProbes.allEnclosed;
+import static org.assertj.guava.api.RangeSetProbes.allIntersected;
 import static org.assertj.guava.error.RangeSetShouldEnclose.shouldEnclose;
 import static org.assertj.guava.error.RangeSetShouldEncloseAnyOf.shouldEncloseAnyOf;
 import static org.assertj.guava.error.RangeSetShouldIntersect.shouldIntersect;
@@ -154,6 +157,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private void assertRangeSetContainsGivenValues(RangeSet actual, Comparable[] values) {
+    if (allContained(actual, values, true)) return;
     List<?> elementsNotFound = stream(values).filter(value -> !actual.contains(value)).collect(toList());
     if (!elementsNotFound.isEmpty()) throwAssertionError(shouldContain(actual, values, elementsNotFound));
   }
@@ -299,6 +303,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private void assertRangeSetDoesNotContainGivenValues(RangeSet actual, Comparable[] values) {
+    if (allContained(actual, values, false)) return;
     List<?> elementsFound = stream(values).filter(actual::contains).collect(toList());
     if (!elementsFound.isEmpty()) throwAssertionError(shouldNotContain(actual, values, elementsFound));
   }
@@ -482,6 +487,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetIntersectsGivenValues(Range<T>[] ranges) {
+    if (allIntersected(actual, ranges, true)) return;
     List<?> notIntersected = stream(ranges).filter(range -> !actual.intersects(range)).collect(toList());
     if (!notIntersected.isEmpty()) throwAssertionError(shouldIntersect(actual, ranges, notIntersected));
   }
@@ -703,6 +709,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetDoesNotIntersectGivenValues(Range<T>[] ranges) {
+    if (allIntersected(actual, ranges, false)) return;
     List<?> intersected = stream(ranges).filter(actual::intersects).collect(toList());
     if (!intersected.isEmpty()) throwAssertionError(shouldNotIntersect(actual, ranges, intersected));
   }
@@ -814,6 +821,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetEnclosesGivenValues(Range<T>[] ranges) {
+    if (allEnclosed(actual, ranges, true)) return;
     List<?> notEnclosed = stream(ranges).filter(range -> !actual.encloses(range)).collect(toList());
     if (!notEnclosed.isEmpty()) throwAssertionError(shouldEnclose(actual, ranges, notEnclosed));
   }
@@ -1045,6 +1053,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetDoesNotEncloseGivenValues(Range<T>[] ranges) {
+    if (allEnclosed(actual, ranges, false)) return;
     List<?> enclosed = stream(ranges).filter(actual::encloses).collect(toList());
     if (!enclosed.isEmpty()) throwAssertionError(shouldNotEnclose(actual, ranges, enclosed));
   }
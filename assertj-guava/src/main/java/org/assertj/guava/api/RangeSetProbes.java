@@ -0,0 +1,183 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.guava.api;
+
+import static com.google.common.collect.BoundType.CLOSED;
+import static java.util.Arrays.stream;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
+/**
+ * Checks batches of values or ranges against a {@link RangeSet}.
+ * <p>
+ * When there are enough probes, they are sorted once by lower bound and swept against {@link RangeSet#asRanges()} (which
+ * iterates in increasing order of lower bound) in a single merge pass, instead of looking each probe up in the range set.
+ * The sweep follows the lookups of {@link com.google.common.collect.TreeRangeSet TreeRangeSet}: the range that may contain or
+ * enclose a probe is the last one whose lower bound is not above the probe's, a range intersecting a probe is either this one
+ * or the next one.
+ */
+final class RangeSetProbes {
+
+  @SuppressWarnings("rawtypes")
+  private static final Comparator<Range> BY_LOWER_BOUND = RangeSetProbes::compareLowerBounds;
+
+  /**
+   * Returns whether all the given values are contained (or not contained) in the given range set.
+   *
+   * @param rangeSet the range set to look the values in.
+   * @param values the values to look for.
+   * @param contained whether the values are expected to be contained in the range set or not.
+   * @return {@code true} if {@link RangeSet#contains(Comparable)} is {@code contained} for all the values.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  static boolean allContained(RangeSet rangeSet, Comparable[] values, boolean contained) {
+    Set<Range> ranges = rangeSet.asRanges();
+    if (!isWorthSweeping(values.length, ranges.size()))
+      return stream(values).allMatch(value -> rangeSet.contains(value) == contained);
+    Comparable[] sortedValues = values.clone();
+    Arrays.sort(sortedValues);
+    RangeSweep sweep = new RangeSweep(ranges.iterator());
+    for (Comparable value : sortedValues) {
+      sweep.advanceToLowerBound(value, CLOSED, true);
+      boolean contains = sweep.previous != null && sweep.previous.contains(value);
+      if (contains != contained) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether all the given ranges intersect (or don't intersect) the given range set.
+   *
+   * @param rangeSet the range set to intersect.
+   * @param probes the ranges to check.
+   * @param intersected whether the ranges are expected to intersect the range set or not.
+   * @return {@code true} if {@link RangeSet#intersects(Range)} is {@code intersected} for all the ranges.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  static boolean allIntersected(RangeSet rangeSet, Range[] probes, boolean intersected) {
+    Set<Range> ranges = rangeSet.asRanges();
+    if (!isWorthSweeping(probes.length, ranges.size()))
+      return stream(probes).allMatch(probe -> rangeSet.intersects(probe) == intersected);
+    RangeSweep sweep = new RangeSweep(ranges.iterator());
+    for (Range probe : sortedByLowerBound(probes)) {
+      sweep.advanceToLowerBound(probe, false);
+      boolean intersects = intersects(sweep.next, probe) || intersects(sweep.previous, probe);
+      if (intersects != intersected) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether all the given ranges are enclosed (or not enclosed) by the given range set.
+   *
+   * @param rangeSet the range set expected to enclose the ranges.
+   * @param probes the ranges to check.
+   * @param enclosed whether the ranges are expected to be enclosed by the range set or not.
+   * @return {@code true} if {@link RangeSet#encloses(Range)} is {@code enclosed} for all the ranges.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  static boolean allEnclosed(RangeSet rangeSet, Range[] probes, boolean enclosed) {
+    Set<Range> ranges = rangeSet.asRanges();
+    if (!isWorthSweeping(probes.length, ranges.size()))
+      return stream(probes).allMatch(probe -> rangeSet.encloses(probe) == enclosed);
+    RangeSweep sweep = new RangeSweep(ranges.iterator());
+    for (Range probe : sortedByLowerBound(probes)) {
+      sweep.advanceToLowerBound(probe, true);
+      boolean encloses = sweep.previous != null && sweep.previous.encloses(probe);
+      if (encloses != enclosed) return false;
+    }
+    return true;
+  }
+
+  // a sweep costs a sort of the probes plus a pass over the ranges, individual lookups cost a binary search per probe
+  private static boolean isWorthSweeping(int probeCount, int rangeCount) {
+    int log2RangeCount = Integer.SIZE - Integer.numberOfLeadingZeros(rangeCount);
+    return (long) probeCount * log2RangeCount > rangeCount;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Range[] sortedByLowerBound(Range[] probes) {
+    Range[] sortedProbes = probes.clone();
+    Arrays.sort(sortedProbes, BY_LOWER_BOUND);
+    return sortedProbes;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static boolean intersects(Range range, Range probe) {
+    return range != null && range.isConnected(probe) && !range.intersection(probe).isEmpty();
+  }
+
+  private static int compareLowerBounds(Range<?> range, Range<?> other) {
+    if (!range.hasLowerBound()) return other.hasLowerBound() ? -1 : 0;
+    if (!other.hasLowerBound()) return 1;
+    return compareLowerBounds(range.lowerEndpoint(), range.lowerBoundType(), other.lowerEndpoint(), other.lowerBoundType());
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static int compareLowerBounds(Comparable endpoint, BoundType type, Comparable otherEndpoint, BoundType otherType) {
+    int comparison = endpoint.compareTo(otherEndpoint);
+    if (comparison != 0 || type == otherType) return comparison;
+    // a closed lower bound starts before an open one on the same endpoint
+    return type == CLOSED ? -1 : 1;
+  }
+
+  /**
+   * Walks the ranges of a range set while keeping the last range whose lower bound is below (or at) the lower bound of the
+   * current probe and the first range past it, probes must be visited in increasing order of lower bound.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final class RangeSweep {
+
+    private final Iterator<Range> ranges;
+    private Range previous;
+    private Range next;
+
+    private RangeSweep(Iterator<Range> ranges) {
+      this.ranges = ranges;
+      this.next = ranges.hasNext() ? ranges.next() : null;
+    }
+
+    private void advanceToLowerBound(Range probe, boolean inclusive) {
+      if (probe.hasLowerBound()) advanceToLowerBound(probe.lowerEndpoint(), probe.lowerBoundType(), inclusive);
+      else advanceToLowerBound(null, null, inclusive);
+    }
+
+    // a null endpoint stands for the lower bound of a range without one
+    private void advanceToLowerBound(Comparable endpoint, BoundType type, boolean inclusive) {
+      while (next != null && isBelow(next, endpoint, type, inclusive)) {
+        previous = next;
+        next = ranges.hasNext() ? ranges.next() : null;
+      }
+    }
+
+    private static boolean isBelow(Range range, Comparable endpoint, BoundType type, boolean inclusive) {
+      if (endpoint == null) return inclusive && !range.hasLowerBound();
+      if (!range.hasLowerBound()) return true;
+      int comparison = compareLowerBounds(range.lowerEndpoint(), range.lowerBoundType(), endpoint, type);
+      return comparison < 0 || inclusive && comparison == 0;
+    }
+  }
+
+  private RangeSetProbes() {}
+
+}
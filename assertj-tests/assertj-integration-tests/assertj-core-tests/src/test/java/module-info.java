@@ -19,6 +19,7 @@ open module org.assertj.tests.core {
   requires com.google.common;
   requires org.hamcrest;
   requires java.sql;
+  requires jdk.management;
   requires javax.servlet.api;
   requires nl.jqno.equalsverifier;
   requires org.apache.commons.lang3;
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.eventually;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class Assertions_eventually_Test {
+
+  @Test
+  void should_pass_if_assertions_pass_after_some_attempts() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    eventually(Duration.ofSeconds(10), () -> assertThat(attempts.incrementAndGet()).isEqualTo(3));
+    // THEN
+    then(attempts).hasValue(3);
+  }
+
+  @Test
+  void should_retry_assertions_throwing_exceptions() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    eventually(Duration.ofSeconds(10), () -> {
+      if (attempts.incrementAndGet() < 3) throw new IllegalStateException("not ready");
+    });
+    // THEN
+    then(attempts).hasValue(3);
+  }
+
+  @Test
+  void should_fail_with_the_last_failure_if_assertions_do_not_pass_within_the_timeout() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    var assertionError = expectAssertionError(() -> eventually(Duration.ofMillis(50),
+                                                               () -> assertThat(attempts.incrementAndGet()).isNegative()));
+    // THEN
+    then(assertionError).hasMessageStartingWith(format("%nExpecting assertions to pass within%n" +
+                                                       "  0.05s%n" +
+                                                       "but they still failed after "))
+                        .hasMessageContaining(format("attempts, last failure was:%n  Expecting actual:%n  %s%nto be less than:",
+                                                     attempts.get()))
+                        .cause().isInstanceOf(AssertionError.class);
+    then(attempts.get()).isGreaterThan(2);
+  }
+
+  @Test
+  void should_run_assertions_once_with_a_zero_timeout() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    var assertionError = expectAssertionError(() -> eventually(Duration.ZERO,
+                                                               () -> assertThat(attempts.incrementAndGet()).isEqualTo(2)));
+    // THEN
+    then(assertionError).hasMessageContaining("but they still failed after 1 attempts");
+    then(attempts).hasValue(1);
+  }
+
+  @Test
+  void should_report_the_failure_of_the_last_attempt_as_raised() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    var assertionError = expectAssertionError(() -> eventually(Duration.ofMillis(20),
+                                                               () -> assertThat(attempts.incrementAndGet()).isZero()));
+    // THEN
+    then(assertionError).cause()
+                        .isInstanceOf(AssertionFailedError.class)
+                        .hasMessageContaining(String.valueOf(attempts.get()));
+  }
+
+  @Test
+  void should_not_alter_the_failures_caught_by_the_assertions() {
+    // GIVEN
+    AtomicInteger attempts = new AtomicInteger();
+    // WHEN
+    eventually(Duration.ofSeconds(10), () -> {
+      attempts.incrementAndGet();
+      assertThatThrownBy(() -> assertThat("Luke").isEqualTo("Yoda")).isInstanceOf(AssertionFailedError.class)
+                                                                   .hasMessageContaining("Yoda");
+    });
+    // THEN
+    then(attempts).hasValue(1);
+  }
+
+  @Test
+  void should_collect_the_last_failure_in_soft_assertions() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.eventually(Duration.ofMillis(10), () -> assertThat(false).isTrue());
+    softly.eventually(Duration.ofMillis(10), () -> assertThat(true).isTrue());
+    // THEN
+    then(softly.errorsCollected()).hasSize(1);
+    then(softly.errorsCollected().get(0)).hasMessageContaining("Expecting assertions to pass within");
+  }
+
+  @Test
+  void should_throw_error_if_timeout_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> eventually(Duration.ofMillis(-1), () -> {}))
+                                        .withMessage("The timeout must not be negative but was PT-0.001S");
+  }
+
+  @Test
+  void should_throw_error_if_timeout_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> eventually(null, () -> {}))
+                                    .withMessage("non null timeout expected");
+  }
+
+}
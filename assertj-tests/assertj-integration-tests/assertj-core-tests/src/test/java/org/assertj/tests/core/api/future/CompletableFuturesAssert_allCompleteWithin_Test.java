@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class CompletableFuturesAssert_allCompleteWithin_Test {
+
+  @Test
+  void should_pass_if_all_futures_complete_normally_or_exceptionally() {
+    // GIVEN
+    CompletableFuture<String> cancelled = new CompletableFuture<>();
+    cancelled.cancel(false);
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"), failedFuture(new IllegalStateException()),
+                                                      cancelled);
+    // WHEN/THEN
+    assertThatFutures(futures).allCompleteWithin(Duration.ofMillis(10));
+  }
+
+  @Test
+  void should_fail_reporting_only_the_futures_not_completed() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(new CompletableFuture<>(), failedFuture(new IllegalStateException()));
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures).allCompleteWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessageStartingWith(format("%nExpecting all the 2 futures to complete within%n" +
+                                                       "  0.01s%n" +
+                                                       "but 1 of them did not:%n" +
+                                                       "  - future at index 0 was still not completed after "))
+                        .hasMessageNotContaining("index 1");
+  }
+
+}
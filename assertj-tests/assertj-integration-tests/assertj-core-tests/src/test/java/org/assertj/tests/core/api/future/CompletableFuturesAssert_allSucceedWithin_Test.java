@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class CompletableFuturesAssert_allSucceedWithin_Test {
+
+  @Test
+  void should_allow_assertions_on_the_results_in_the_order_of_the_futures() {
+    // GIVEN
+    CompletableFuture<String> slow = supplyAsync(() -> "slow", delayedExecutor(50, MILLISECONDS));
+    CompletableFuture<String> done = completedFuture("done");
+    // WHEN/THEN
+    assertThatFutures(List.of(slow, done)).allSucceedWithin(Duration.ofSeconds(10))
+                                          .containsExactly("slow", "done");
+  }
+
+  @Test
+  void should_wait_for_all_futures_under_a_single_deadline() {
+    // GIVEN
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      int value = i;
+      futures.add(supplyAsync(() -> value, delayedExecutor(50, MILLISECONDS)));
+    }
+    long start = System.nanoTime();
+    // WHEN
+    assertThatFutures(futures).allSucceedWithin(Duration.ofSeconds(10))
+                              .hasSize(100);
+    // THEN
+    then(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void should_fail_reporting_failed_and_not_completed_futures() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"),
+                                                      failedFuture(new IllegalStateException("boom")),
+                                                      new CompletableFuture<>());
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessageStartingWith(format("%nExpecting all the 3 futures to succeed within%n" +
+                                                       "  0.01s%n" +
+                                                       "but 2 of them did not:%n" +
+                                                       "  - future at index 1 failed after "))
+                        .hasMessageContainingAll("s with java.lang.IllegalStateException: boom",
+                                                 format("%n  - future at index 2 was still not completed after "));
+  }
+
+  @Test
+  void should_fail_if_a_future_is_null() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    futures.add(completedFuture("done"));
+    futures.add(null);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessageContaining("not to contain null elements");
+  }
+
+  @Test
+  void should_fail_if_futures_are_null() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = null;
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+}
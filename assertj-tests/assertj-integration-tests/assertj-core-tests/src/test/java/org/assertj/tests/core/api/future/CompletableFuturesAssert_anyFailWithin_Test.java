@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class CompletableFuturesAssert_anyFailWithin_Test {
+
+  @Test
+  void should_allow_assertions_on_the_unwrapped_exception_of_the_first_failed_future() {
+    // GIVEN
+    CompletableFuture<String> failing = supplyAsync(() -> {
+      throw new IllegalStateException("boom");
+    }, delayedExecutor(10, MILLISECONDS));
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"), new CompletableFuture<>(), failing);
+    // WHEN/THEN
+    assertThatFutures(futures).anyFailWithin(Duration.ofSeconds(10))
+                              .isInstanceOf(IllegalStateException.class)
+                              .hasMessage("boom");
+  }
+
+  @Test
+  void should_not_wait_for_the_other_futures_once_one_failed() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(new CompletableFuture<>(), failedFuture(new IllegalStateException()));
+    long start = System.nanoTime();
+    // WHEN
+    assertThatFutures(futures).anyFailWithin(Duration.ofSeconds(30));
+    // THEN
+    then(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void should_fail_if_no_future_fails_within_the_timeout() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"), new CompletableFuture<>());
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures).anyFailWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting at least one of the 2 futures to fail within%n" +
+                                           "  0.01s%n" +
+                                           "but 1 of them succeeded and 1 were still not completed"));
+  }
+
+  @Test
+  void should_fail_without_waiting_if_all_futures_succeeded() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"), completedFuture("done too"));
+    long start = System.nanoTime();
+    // WHEN
+    expectAssertionError(() -> assertThatFutures(futures).anyFailWithin(Duration.ofSeconds(30)));
+    // THEN
+    then(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+  }
+
+}
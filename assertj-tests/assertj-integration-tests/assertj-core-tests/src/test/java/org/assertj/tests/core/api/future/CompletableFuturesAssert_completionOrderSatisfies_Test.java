@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.future;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class CompletableFuturesAssert_completionOrderSatisfies_Test {
+
+  @Test
+  void should_pass_the_futures_in_completion_order_to_the_requirements() {
+    // GIVEN
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    CompletableFuture<String> done = completedFuture("done");
+    // complete the futures once the assertion has registered its completion callbacks
+    runAsync(() -> {
+      while (first.getNumberOfDependents() == 0 || second.getNumberOfDependents() == 0) Thread.onSpinWait();
+      second.complete("second");
+      first.complete("first");
+    });
+    // WHEN/THEN
+    assertThatFutures(List.of(first, second, done))
+        .completionOrderSatisfies(Duration.ofSeconds(10),
+                                  inCompletionOrder -> assertThat(inCompletionOrder).containsExactly(done, second, first));
+  }
+
+  @Test
+  void should_fail_if_requirements_are_not_satisfied() {
+    // GIVEN
+    CompletableFuture<String> first = completedFuture("first");
+    CompletableFuture<String> second = completedFuture("second");
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(List.of(first, second))
+        .completionOrderSatisfies(Duration.ofMillis(10), inCompletionOrder -> assertThat(inCompletionOrder).startsWith(second)));
+    // THEN
+    then(assertionError).hasMessageContaining("to start with");
+  }
+
+  @Test
+  void should_fail_if_a_future_does_not_complete_within_the_timeout() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = List.of(completedFuture("done"), new CompletableFuture<>());
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatFutures(futures)
+        .completionOrderSatisfies(Duration.ofMillis(10), inCompletionOrder -> {}));
+    // THEN
+    then(assertionError).hasMessageContaining("future at index 1 was still not completed after");
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.performance;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatPerformanceOf;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+class PerformanceAssert_allocatesAtMostBytes_Test {
+
+  private final List<byte[]> allocations = new ArrayList<>();
+
+  @Test
+  void should_pass_if_code_allocates_less_than_the_given_number_of_bytes() {
+    // GIVEN
+    ThrowingCallable code = () -> allocations.add(new byte[100]);
+    // WHEN/THEN
+    assertThatPerformanceOf(code).withWarmUpIterations(1000)
+                                 .allocatesAtMostBytes(10_000);
+  }
+
+  @Test
+  void should_fail_if_code_allocates_more_than_the_given_number_of_bytes() {
+    // GIVEN
+    ThrowingCallable code = () -> allocations.add(new byte[10_000]);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).allocatesAtMostBytes(1000));
+    // THEN
+    then(assertionError).hasMessageStartingWith("%nExpecting code to allocate at most%n  1000 bytes%nbut it allocated%n  ".formatted());
+  }
+
+  @Test
+  void should_fail_if_code_throws_an_exception() {
+    // GIVEN
+    ThrowingCallable code = () -> {
+      throw new IllegalStateException("boom");
+    };
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).allocatesAtMostBytes(1000));
+    // THEN
+    then(assertionError).hasMessageContainingAll("Expecting code not to raise a throwable but caught",
+                                                 "java.lang.IllegalStateException: boom");
+  }
+
+  @Test
+  void should_throw_error_if_max_bytes_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatPerformanceOf(() -> {}).allocatesAtMostBytes(-1))
+                                        .withMessage("The maximum number of bytes must not be negative but was -1");
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.performance;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatPerformanceOf;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+class PerformanceAssert_completesWithin_Test {
+
+  @Test
+  void should_pass_if_code_completes_within_the_given_duration() {
+    // GIVEN
+    ThrowingCallable code = () -> Thread.sleep(10);
+    // WHEN/THEN
+    assertThatPerformanceOf(code).completesWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void should_run_warm_up_iterations_before_measuring_the_code() {
+    // GIVEN
+    AtomicInteger runs = new AtomicInteger();
+    // WHEN
+    assertThatPerformanceOf(runs::incrementAndGet).withWarmUpIterations(5)
+                                                  .completesWithin(Duration.ofSeconds(10));
+    // THEN
+    then(runs).hasValue(6);
+  }
+
+  @Test
+  void should_fail_if_code_does_not_complete_within_the_given_duration() {
+    // GIVEN
+    ThrowingCallable code = () -> Thread.sleep(100);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).completesWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessageStartingWith("%nExpecting code to complete within%n  0.01s%nbut it took%n  0.".formatted());
+  }
+
+  @Test
+  void should_fail_if_code_throws_an_exception() {
+    // GIVEN
+    ThrowingCallable code = () -> {
+      throw new IllegalStateException("boom");
+    };
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).completesWithin(Duration.ofSeconds(10)));
+    // THEN
+    then(assertionError).hasMessageContainingAll("Expecting code not to raise a throwable but caught",
+                                                 "java.lang.IllegalStateException: boom");
+  }
+
+  @Test
+  void should_fail_if_code_is_null() {
+    // GIVEN
+    ThrowingCallable code = null;
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).completesWithin(Duration.ofSeconds(10)));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_if_duration_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThatPerformanceOf(() -> {}).completesWithin(null))
+                                    .withMessage("non null duration expected");
+  }
+
+}
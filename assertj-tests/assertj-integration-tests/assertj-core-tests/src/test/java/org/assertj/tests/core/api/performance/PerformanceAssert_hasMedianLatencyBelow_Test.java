@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.performance;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatPerformanceOf;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+class PerformanceAssert_hasMedianLatencyBelow_Test {
+
+  @Test
+  void should_pass_if_median_latency_is_below_the_given_duration() {
+    // GIVEN
+    ThrowingCallable code = () -> Thread.sleep(1);
+    // WHEN/THEN
+    assertThatPerformanceOf(code).hasMedianLatencyBelow(Duration.ofSeconds(10), 5);
+  }
+
+  @Test
+  void should_run_the_code_for_each_warm_up_and_measured_iteration() {
+    // GIVEN
+    AtomicInteger runs = new AtomicInteger();
+    // WHEN
+    assertThatPerformanceOf(runs::incrementAndGet).withWarmUpIterations(10)
+                                                  .hasMedianLatencyBelow(Duration.ofSeconds(10), 20);
+    // THEN
+    then(runs).hasValue(30);
+  }
+
+  @Test
+  void should_fail_reporting_latency_percentiles_if_median_latency_is_not_below_the_given_duration() {
+    // GIVEN
+    ThrowingCallable code = () -> Thread.sleep(20);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatPerformanceOf(code).hasMedianLatencyBelow(Duration.ofMillis(10),
+                                                                                                        3));
+    // THEN
+    then(assertionError).hasMessageStartingWith("%nExpecting code median latency over 3 iterations to be below%n  0.01s%nbut was%n  0.".formatted())
+                        .hasMessageContainingAll("measured latencies:", "min=", "p50=", "p90=", "p99=", "max=");
+  }
+
+  @Test
+  void should_throw_error_if_iterations_is_not_strictly_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatPerformanceOf(() -> {}).hasMedianLatencyBelow(Duration.ofSeconds(1),
+                                                                                                                  0))
+                                        .withMessage("The number of iterations must be strictly positive but was 0");
+  }
+
+  @Test
+  void should_throw_error_if_warm_up_iterations_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatPerformanceOf(() -> {}).withWarmUpIterations(-1))
+                                        .withMessage("The number of warm-up iterations must not be negative but was -1");
+  }
+
+}
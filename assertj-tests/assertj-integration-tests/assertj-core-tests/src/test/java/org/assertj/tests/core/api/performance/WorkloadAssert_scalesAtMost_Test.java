@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.performance;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatWorkload;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * The growth rates measured on real workloads are checked by {@code WorkloadAssertPerfTest} in assertj-performance-tests,
+ * these tests don't depend on the measured execution times.
+ */
+class WorkloadAssert_scalesAtMost_Test {
+
+  private static final IntFunction<Runnable> NO_OP = size -> () -> {};
+
+  @Test
+  void should_create_the_workload_once_per_size() {
+    // GIVEN
+    List<Integer> sizes = new ArrayList<>();
+    // WHEN
+    assertThatWorkload(size -> {
+      sizes.add(size);
+      return () -> {};
+    }).withSizes(4_000, 1_000, 2_000)
+      // the workload does nothing, the measured growth rate is noise
+      .withTolerance(Double.MAX_VALUE)
+      .scalesAtMostQuadratically();
+    // THEN
+    then(sizes).containsExactly(1_000, 2_000, 4_000);
+  }
+
+  @Test
+  void should_fail_if_workload_throws_an_exception() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThatWorkload(size -> () -> {
+      throw new IllegalStateException("boom");
+    }).scalesLinearly());
+    // THEN
+    then(assertionError).hasMessageContaining("boom");
+  }
+
+  @Test
+  void should_throw_error_if_there_are_less_than_two_distinct_sizes() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatWorkload(NO_OP).withSizes(1_000, 1_000))
+                                        .withMessage("At least two distinct sizes are expected to measure a growth rate");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, 1 })
+  void should_throw_error_if_a_size_is_less_than_two(int size) {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatWorkload(NO_OP).withSizes(size, 1_000))
+                                        .withMessage("The sizes must be greater than or equal to 2");
+  }
+
+  @Test
+  void should_throw_error_if_the_minimum_doubling_size_is_less_than_two() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatWorkload(NO_OP).withSizesDoublingFrom(1, 1_000))
+                                        .withMessage("The minimum size must be greater than or equal to 2 but was 1");
+  }
+
+  @Test
+  void should_throw_error_if_tolerance_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatWorkload(NO_OP).withTolerance(-0.1))
+                                        .withMessage("The tolerance must not be negative but was -0.1");
+  }
+
+}
@@ -105,6 +105,14 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.shouldIgnoreArrayOrder()).isEqualTo(value);
   }
 
+  @Test
+  void should_set_maxDifferences() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withMaxDifferences(3).build();
+    // THEN
+    then(configuration.getMaxDifferences()).isEqualTo(3);
+  }
+
   @Test
   void should_set_ignoreCollectionOrderInFields() {
     // GIVEN
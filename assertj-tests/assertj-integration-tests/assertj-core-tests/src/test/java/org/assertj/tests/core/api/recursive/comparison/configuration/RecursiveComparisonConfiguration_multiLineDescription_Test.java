@@ -452,6 +452,26 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_that_the_comparison_stopped_at_the_first_difference() {
+    // GIVEN
+    recursiveComparisonConfiguration.stopAtFirstDifference();
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the comparison was set to stop at the first difference found");
+  }
+
+  @Test
+  void should_show_the_maximum_number_of_differences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(3);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the comparison was set to stop after finding 3 differences");
+  }
+
   @Test
   void should_show_ignoreNonExistentFields_in_the_description() {
     // GIVEN
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDifferences_Test extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  private Person actual;
+  private Person expected;
+
+  @BeforeEach
+  void setUpPersons() {
+    actual = new Person("Sherlock");
+    actual.home.address.number = 221;
+    expected = new Person("Moriarty");
+    expected.home.address.number = 1;
+    expected.neighbour = new Person("Watson");
+  }
+
+  @Test
+  void should_only_report_the_first_difference_found() {
+    // GIVEN
+    recursiveComparisonConfiguration.stopAtFirstDifference();
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(1);
+  }
+
+  @Test
+  void should_report_at_most_the_given_number_of_differences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(2);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(2);
+  }
+
+  @Test
+  void should_report_all_differences_when_there_are_less_than_the_maximum_number_of_differences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(10);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(3);
+  }
+
+  @Test
+  void should_mention_that_the_comparison_stopped_in_the_error_message() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .stoppingAtFirstDifference()
+                                                                      .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("found the following difference:")
+                        .hasMessageContaining("The comparison stopped after finding 1 difference(s), there may be other ones.");
+  }
+
+  @Test
+  void should_not_mention_that_the_comparison_stopped_when_all_differences_were_found() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .withMaxDifferences(10)
+                                                                      .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("found the following 3 differences:")
+                        .hasMessageNotContaining("The comparison stopped after finding");
+  }
+
+  @Test
+  void should_pass_when_objects_are_equal() {
+    // GIVEN
+    Person other = new Person("Sherlock");
+    other.home.address.number = 221;
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .stoppingAtFirstDifference()
+                .isEqualTo(other);
+  }
+
+  @Test
+  void should_fail_if_max_differences_is_not_strictly_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> recursiveComparisonConfiguration.setMaxDifferences(0))
+                                        .withMessage("The maximum number of differences must be strictly positive but was 0");
+  }
+
+}
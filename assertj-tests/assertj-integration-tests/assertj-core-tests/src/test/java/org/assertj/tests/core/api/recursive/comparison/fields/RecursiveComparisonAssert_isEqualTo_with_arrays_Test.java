@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.tests.core.api.recursive.data.Author;
 import org.assertj.tests.core.api.recursive.data.WithGroupField;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -102,6 +103,39 @@ class RecursiveComparisonAssert_isEqualTo_with_arrays_Test extends WithComparing
                                   "expected field is an array but actual field is not (java.util.ArrayList)"));
   }
 
+  @Test
+  void should_report_all_mismatching_elements_of_primitive_array_fields() {
+    // GIVEN
+    var actual = new WithGroupField(new int[] { 1, 2, 3, 4 });
+    var expected = new WithGroupField(new int[] { 1, 5, 3, 6 });
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, javaTypeDiff("group.[1]", 2, 5), javaTypeDiff("group.[3]", 4, 6));
+  }
+
+  @Test
+  void should_honor_type_comparators_when_comparing_primitive_array_fields() {
+    // GIVEN
+    var actual = new WithGroupField(new int[] { 1, 2, 3 });
+    var expected = new WithGroupField(new int[] { -1, -2, -3 });
+    recursiveComparisonConfiguration.registerComparatorForType((Integer i1, Integer i2) -> Math.abs(i1) - Math.abs(i2),
+                                                               Integer.class);
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_honor_type_comparators_for_every_element_type_of_object_array_fields() {
+    // GIVEN
+    var actual = new WithGroupField(new Object[] { "a", 1, "b", 2 });
+    var expected = new WithGroupField(new Object[] { "a", -1, "b", -2 });
+    recursiveComparisonConfiguration.registerComparatorForType((Integer i1, Integer i2) -> Math.abs(i1) - Math.abs(i2),
+                                                               Integer.class);
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .isEqualTo(expected);
+  }
+
   public static class WithArray<E> {
     public E[] group;
 
@@ -59,7 +59,8 @@ class Configuration_describe_Test {
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
-                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
+                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n" +
+                                       "- parallelRecursiveDirectoryScanEnabled ........... = true%n"));
   }
 
   @AfterEach
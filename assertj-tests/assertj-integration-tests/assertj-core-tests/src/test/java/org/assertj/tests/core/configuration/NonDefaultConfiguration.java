@@ -80,4 +80,9 @@ class NonDefaultConfiguration extends Configuration {
     return PreferredAssumptionException.TEST_NG;
   }
 
+  @Override
+  public boolean parallelRecursiveDirectoryScanEnabled() {
+    return !super.parallelRecursiveDirectoryScanEnabled();
+  }
+
 }
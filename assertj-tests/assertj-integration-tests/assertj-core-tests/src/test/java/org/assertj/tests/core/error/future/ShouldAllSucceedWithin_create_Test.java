@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.error.future;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.future.ShouldAllSucceedWithin.shouldAllSucceedWithin;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.tests.core.testkit.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldAllSucceedWithin_create_Test {
+
+  @Test
+  void should_create_error_message() {
+    // GIVEN
+    List<String> unsuccessfulFutures = List.of("future at index 3 failed after 0.012s with java.lang.Exception: 100% broken",
+                                               "future at index 7 was still not completed after 1.001s");
+    // WHEN
+    String error = shouldAllSucceedWithin(Duration.ofSeconds(1), 10, unsuccessfulFutures).create(new TestDescription("TEST"));
+    // THEN
+    then(error).isEqualTo(format("[TEST] %n" +
+                                 "Expecting all the 10 futures to succeed within%n" +
+                                 "  1s%n" +
+                                 "but 2 of them did not:%n" +
+                                 "  - future at index 3 failed after 0.012s with java.lang.Exception: 100%% broken%n" +
+                                 "  - future at index 7 was still not completed after 1.001s"));
+  }
+
+}
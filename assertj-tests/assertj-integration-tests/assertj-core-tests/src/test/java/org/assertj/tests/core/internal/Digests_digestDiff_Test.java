@@ -15,16 +15,24 @@
  */
 package org.assertj.tests.core.internal;
 
+import static java.nio.file.Files.readAllBytes;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.digestDiffs;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.internal.DigestDiff;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +58,7 @@ class Digests_digestDiff_Test {
 
   @Test
   void should_fail_if_stream_is_null() {
-    assertThatNullPointerException().isThrownBy(() -> digestDiff(null, null, null))
+    assertThatNullPointerException().isThrownBy(() -> digestDiff((InputStream) null, null, null))
                                     .withMessage("The stream should not be null");
   }
 
@@ -97,4 +105,36 @@ class Digests_digestDiff_Test {
     // THEN
     assertThat(diff.digestsDiffer()).isFalse();
   }
+
+  @Test
+  void should_pass_if_channel_digest_is_MD5() throws Exception {
+    // GIVEN
+    try (FileChannel channel = FileChannel.open(redPng())) {
+      // WHEN
+      DigestDiff diff = digestDiff(channel, MessageDigest.getInstance("MD5"), EXPECTED_MD5_DIGEST);
+      // THEN
+      assertThat(diff.digestsDiffer()).isFalse();
+    }
+  }
+
+  @Test
+  void should_compute_all_digests_in_a_single_pass_over_the_channel() throws Exception {
+    // GIVEN
+    MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+    byte[] expectedSha256 = sha256.digest(readAllBytes(redPng()));
+    Map<MessageDigest, byte[]> expectedDigests = new LinkedHashMap<>();
+    expectedDigests.put(MessageDigest.getInstance("MD5"), EXPECTED_MD5_DIGEST);
+    expectedDigests.put(sha256, expectedSha256);
+    try (FileChannel channel = FileChannel.open(redPng())) {
+      // WHEN
+      List<DigestDiff> diffs = digestDiffs(channel, expectedDigests);
+      // THEN
+      assertThat(diffs).extracting(DigestDiff::getDigestAlgorithm).containsExactly("MD5", "SHA-256");
+      assertThat(diffs).noneMatch(DigestDiff::digestsDiffer);
+    }
+  }
+
+  private Path redPng() throws URISyntaxException {
+    return Path.of(getClass().getResource("/red.png").toURI());
+  }
 }
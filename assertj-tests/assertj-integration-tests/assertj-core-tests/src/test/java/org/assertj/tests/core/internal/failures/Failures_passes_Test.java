@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Failures#passes(Runnable)}</code>.
+ */
+class Failures_passes_Test {
+
+  private Failures failures;
+
+  @BeforeEach
+  void setUp() {
+    failures = Failures.instance();
+  }
+
+  @Test
+  void should_return_true_when_assertions_pass() {
+    // WHEN
+    boolean passes = failures.passes(() -> assertThat("Yoda").startsWith("Yo"));
+    // THEN
+    then(passes).isTrue();
+  }
+
+  @Test
+  void should_return_false_when_assertions_fail() {
+    // WHEN
+    boolean passes = failures.passes(() -> assertThat("Yoda").startsWith("Lu"));
+    // THEN
+    then(passes).isFalse();
+  }
+
+  @Test
+  void should_not_alter_failures_caught_by_the_assertions() {
+    // GIVEN
+    AssertionError[] nestedFailure = new AssertionError[1];
+    // WHEN
+    boolean passes = failures.passes(() -> nestedFailure[0] = catchThrowableOfType(AssertionError.class,
+                                                                                   () -> assertThat("Yoda").startsWith("Lu")));
+    // THEN
+    then(passes).isTrue();
+    then(nestedFailure[0]).hasMessageContaining("Lu");
+    then(nestedFailure[0].getStackTrace()).isNotEmpty();
+  }
+
+}
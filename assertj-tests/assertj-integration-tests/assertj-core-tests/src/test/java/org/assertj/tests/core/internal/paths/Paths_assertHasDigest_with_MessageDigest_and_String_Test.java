@@ -129,7 +129,7 @@ class Paths_assertHasDigest_with_MessageDigest_and_String_Test extends PathsBase
     MessageDigest digest = MessageDigest.getInstance("MD5");
     String expected = "";
     IOException cause = new IOException("boom!");
-    willThrow(cause).given(nioFilesWrapper).newInputStream(actual);
+    willThrow(cause).given(nioFilesWrapper).newFileChannel(actual);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.assertHasDigest(INFO, actual, digest, expected));
     // THEN
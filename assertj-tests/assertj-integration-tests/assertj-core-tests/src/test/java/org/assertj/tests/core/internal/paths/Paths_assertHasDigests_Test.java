@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.internal.paths;
+
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.readAllBytes;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeRegularFile.shouldBeRegularFile;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
+import static org.assertj.core.internal.Digests.toHex;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.internal.DigestDiff;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertHasDigests_Test extends PathsBaseTest {
+
+  @Test
+  void should_fail_if_expected_digests_is_null() throws IOException {
+    // GIVEN
+    Path actual = createFile(tempDir.resolve("actual"));
+    Map<String, String> expected = null;
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The expected digests to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_expected_digests_is_empty() throws IOException {
+    // GIVEN
+    Path actual = createFile(tempDir.resolve("actual"));
+    Map<String, String> expected = Map.of();
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The expected digests to compare to should not be empty");
+  }
+
+  @Test
+  void should_fail_if_an_algorithm_is_unknown() throws IOException {
+    // GIVEN
+    Path actual = createFile(tempDir.resolve("actual"));
+    Map<String, String> expected = Map.of("UnknownDigestAlgorithm", "");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(thrown).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to find digest implementation for: <UnknownDigestAlgorithm>");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Path actual = null;
+    Map<String, String> expected = Map.of("MD5", "");
+    // WHEN
+    var error = expectAssertionError(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_regular_file() throws IOException {
+    // GIVEN
+    Path actual = createDirectory(tempDir.resolve("directory"));
+    Map<String, String> expected = Map.of("MD5", "");
+    // WHEN
+    var error = expectAssertionError(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(error).hasMessage(shouldBeRegularFile(actual).create());
+  }
+
+  @Test
+  void should_rethrow_IOException_as_UncheckedIOException() throws IOException {
+    // GIVEN
+    Path actual = createFile(tempDir.resolve("actual"));
+    Map<String, String> expected = Map.of("MD5", "");
+    IOException cause = new IOException("boom!");
+    willThrow(cause).given(nioFilesWrapper).newFileChannel(actual);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    then(thrown).isInstanceOf(UncheckedIOException.class)
+                .hasCause(cause);
+  }
+
+  @Test
+  void should_fail_reporting_only_the_digests_that_differ() throws Exception {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), "Content".getBytes());
+    MessageDigest md5 = MessageDigest.getInstance("MD5");
+    MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+    String actualSha256 = toHex(sha256.digest(readAllBytes(actual)));
+    String unexpectedMd5 = toHex(md5.digest("Another content".getBytes()));
+    Map<String, String> expected = new LinkedHashMap<>();
+    expected.put("SHA-256", actualSha256);
+    expected.put("MD5", unexpectedMd5);
+    // WHEN
+    var error = expectAssertionError(() -> underTest.assertHasDigests(INFO, actual, expected));
+    // THEN
+    DigestDiff md5Diff = new DigestDiff(toHex(md5.digest(readAllBytes(actual))), unexpectedMd5, md5);
+    then(error).hasMessage(shouldHaveDigests(actual, List.of(md5Diff)).create());
+  }
+
+  @Test
+  void should_pass_if_actual_has_all_expected_digests_reading_it_once() throws Exception {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), "Content".getBytes());
+    Map<String, String> expected = Map.of("MD5", toHex(MessageDigest.getInstance("MD5").digest(readAllBytes(actual))),
+                                          "SHA-256", toHex(MessageDigest.getInstance("SHA-256").digest(readAllBytes(actual))));
+    // WHEN
+    underTest.assertHasDigests(INFO, actual, expected);
+    // THEN
+    verify(nioFilesWrapper).newFileChannel(actual);
+  }
+
+}
@@ -105,4 +105,24 @@ class Strings_assertContainsAnyOf_Test extends StringsBaseTest {
     stringsWithCaseInsensitiveComparisonStrategy.assertContainsAnyOf(someInfo(), actual, values);
   }
 
+  @Test
+  void should_pass_if_actual_contains_one_of_many_given_values() {
+    // GIVEN
+    CharSequence actual = "Master Yoda";
+    CharSequence[] values = array("Luke", "Leia", "Han", "Chewie", "Lando", "Obi-Wan", "Anakin", "Padme", "Palpatine", "Yoda");
+    // WHEN/THEN
+    strings.assertContainsAnyOf(someInfo(), actual, values);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_any_of_many_given_values() {
+    // GIVEN
+    CharSequence actual = "Master Yoda";
+    CharSequence[] values = array("Luke", "Leia", "Han", "Chewie", "Lando", "Obi-Wan", "Anakin", "Padme", "Palpatine", "Rey");
+    // WHEN
+    var assertionError = expectAssertionError(() -> strings.assertContainsAnyOf(someInfo(), actual, values));
+    // THEN
+    then(assertionError).hasMessage(shouldContainAnyOf(actual, values, StandardComparisonStrategy.instance()).create());
+  }
+
 }
@@ -105,6 +105,12 @@ class Strings_assertContainsSequence_Test extends StringsBaseTest {
     strings.assertContainsSequence(someInfo(), "a-b-c-", array("a", "-", "b", "-", "c"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_after_partial_matches() {
+    strings.assertContainsSequence(someInfo(), "Yo-Yoda", array("Yo", "da"));
+    strings.assertContainsSequence(someInfo(), "aaaab", array("aa", "ab"));
+  }
+
   @Test
   void should_pass_if_actual_contains_sequence_according_to_custom_comparison_strategy() {
     stringsWithCaseInsensitiveComparisonStrategy.assertContainsSequence(someInfo(), "Yoda", array("Yo", "da"));
@@ -116,6 +116,11 @@ class Strings_assertContainsSubsequence_Test extends StringsBaseTest {
                                       array("George", " ", "Martin"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_subsequence_with_empty_values() {
+    strings.assertContainsSubsequence(INFO, "Yoda", array("", "Yo", "", "da", ""));
+  }
+
   @Test
   void should_pass_if_actual_contains_subsequence_according_to_custom_comparison_strategy() {
     stringsWithCaseInsensitiveComparisonStrategy.assertContainsSubsequence(INFO, "Yoda", array("Yo", "da"));
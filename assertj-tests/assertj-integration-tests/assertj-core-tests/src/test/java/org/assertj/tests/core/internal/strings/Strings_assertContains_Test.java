@@ -108,4 +108,21 @@ class Strings_assertContains_Test extends StringsBaseTest {
                                                                                                                           .create());
   }
 
+  @Test
+  void should_fail_reporting_values_not_found_if_actual_does_not_contain_all_of_many_given_strings() {
+    // GIVEN
+    String actual = "Luke, Leia, Han, Chewbacca, Lando, Obi-Wan, Yoda, Anakin, Padme, Palpatine";
+    String[] values = array("Leia", "Vader", "Han", "Yoda", "Jabba", "Lando", "Luke", "Padme", "Vader", "Obi-Wan", "Chewie");
+    // WHEN/THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertContains(someInfo(), actual, values))
+                                                   .withMessage(shouldContain(actual, values,
+                                                                              newLinkedHashSet("Vader", "Jabba", "Chewie")).create());
+  }
+
+  @Test
+  void should_pass_if_actual_contains_all_of_many_given_strings() {
+    strings.assertContains(someInfo(), "Luke, Leia, Han, Chewbacca, Lando, Obi-Wan, Yoda, Anakin, Padme, Palpatine",
+                           "Leia", "Han", "Yoda", "Lando", "Luke", "Padme", "Obi-Wan", "Chew", "an", "", "Palpatine");
+  }
+
 }
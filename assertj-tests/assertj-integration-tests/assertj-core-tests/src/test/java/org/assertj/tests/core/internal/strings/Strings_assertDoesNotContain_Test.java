@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.error.ShouldNotContainCharSequence.shouldNotContain;
 import static org.assertj.core.internal.ErrorMessages.arrayOfValuesToLookForIsNull;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.tests.core.testkit.TestData.someInfo;
 
 import java.util.Set;
@@ -121,4 +122,21 @@ class Strings_assertDoesNotContain_Test extends StringsBaseTest {
                                                                                                                         .formatted());
   }
 
+  @Test
+  void should_fail_reporting_values_found_if_actual_contains_some_of_many_given_values() {
+    // GIVEN
+    String actual = "Luke, Leia, Han, Chewbacca, Lando, Obi-Wan, Yoda, Anakin, Padme, Palpatine";
+    String[] values = { "Vader", "Yoda", "Jabba", "Boba", "Maul", "Han", "Dooku", "Rey", "Finn", "Poe", "Yoda" };
+    // WHEN/THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertDoesNotContain(someInfo(), actual, values))
+                                                   .withMessage(shouldNotContain(actual, values, newLinkedHashSet("Yoda", "Han"),
+                                                                                 StandardComparisonStrategy.instance()).create());
+  }
+
+  @Test
+  void should_pass_if_actual_does_not_contain_any_of_many_given_values() {
+    strings.assertDoesNotContain(someInfo(), "Luke, Leia, Han, Chewbacca, Lando, Obi-Wan, Yoda, Anakin, Padme, Palpatine",
+                                 "Vader", "Jabba", "Boba", "Maul", "Dooku", "Rey", "Finn", "Poe", "Kylo", "Ahsoka");
+  }
+
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.TreeMultimap;
 
 class MultimapAssert_hasSameEntriesAs_Test extends MultimapAssertBaseTest {
 
@@ -56,6 +57,19 @@ class MultimapAssert_hasSameEntriesAs_Test extends MultimapAssertBaseTest {
     assertThat(other).hasSameEntriesAs(actual);
   }
 
+  @Test
+  void should_pass_if_actual_has_duplicated_entries_of_the_given_multimap() {
+    // GIVEN
+    actual.putAll("Spurs", List.of("Tony Parker", "Tim Duncan"));
+    Multimap<String, String> other = TreeMultimap.create();
+    other.putAll("Lakers", List.of("Kobe Bryant", "Magic Johnson", "Kareem Abdul Jabbar"));
+    other.putAll("Bulls", List.of("Michael Jordan", "Scottie Pippen", "Derrick Rose"));
+    other.putAll("Spurs", List.of("Tony Parker", "Tim Duncan", "Manu Ginobili"));
+    // THEN
+    assertThat(actual).hasSameEntriesAs(other);
+    assertThat(other).hasSameEntriesAs(actual);
+  }
+
   @Test
   void should_pass_if_both_multimaps_are_empty() {
     // GIVEN
@@ -99,6 +113,20 @@ class MultimapAssert_hasSameEntriesAs_Test extends MultimapAssertBaseTest {
                                                      entry("Spurs", "Manu Ginobili"))).create());
   }
 
+  @Test
+  void should_fail_if_actual_has_null_values_not_in_given_sorted_multimap() {
+    // GIVEN
+    actual.put("Spurs", null);
+    Multimap<String, String> other = TreeMultimap.create();
+    other.putAll("Lakers", List.of("Kobe Bryant", "Magic Johnson", "Kareem Abdul Jabbar"));
+    other.putAll("Bulls", List.of("Michael Jordan", "Scottie Pippen", "Derrick Rose"));
+    other.putAll("Spurs", List.of("Tony Parker", "Tim Duncan", "Manu Ginobili"));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).hasSameEntriesAs(other));
+    // THEN
+    then(error).hasMessage(shouldContainOnly(actual, other, null, List.of(entry("Spurs", null))).create());
+  }
+
   @Test
   void should_fail_if_actual_does_not_contain_all_given_multimap_entries() {
     // GIVEN
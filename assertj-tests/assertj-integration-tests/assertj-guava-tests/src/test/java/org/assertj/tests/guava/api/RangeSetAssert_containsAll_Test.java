@@ -16,6 +16,8 @@
 package org.assertj.tests.guava.api;
 
 import static com.google.common.collect.Range.closed;
+import static com.google.common.collect.Range.closedOpen;
+import static com.google.common.collect.Range.openClosed;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
@@ -109,4 +111,32 @@ class RangeSetAssert_containsAll_Test {
     assertThat(actual).containsAll(values);
   }
 
+  @Test
+  void should_pass_if_actual_contains_many_unsorted_values_spread_over_its_ranges() {
+    // GIVEN
+    RangeSet<Integer> actual = ImmutableRangeSet.<Integer> builder()
+                                                .add(closed(0, 10))
+                                                .add(openClosed(20, 30))
+                                                .add(closedOpen(40, 50))
+                                                .build();
+    Iterable<Integer> values = iterable(49, 0, 21, 10, 40, 30, 5, 45, 25, 0, 49, 21);
+    // WHEN/THEN
+    assertThat(actual).containsAll(values);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_many_unsorted_values_spread_over_its_ranges() {
+    // GIVEN
+    RangeSet<Integer> actual = ImmutableRangeSet.<Integer> builder()
+                                                .add(closed(0, 10))
+                                                .add(openClosed(20, 30))
+                                                .add(closedOpen(40, 50))
+                                                .build();
+    Iterable<Integer> values = iterable(49, 50, 0, 21, 20, 10, 40, 30, 5, 45, 25, 11);
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).containsAll(values));
+    // THEN
+    then(error).hasMessage(shouldContain(actual, values, asList(50, 20, 11)).create());
+  }
+
 }
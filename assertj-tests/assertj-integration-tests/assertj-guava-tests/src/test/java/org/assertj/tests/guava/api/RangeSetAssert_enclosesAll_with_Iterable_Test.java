@@ -15,7 +15,9 @@
  */
 package org.assertj.tests.guava.api;
 
+import static com.google.common.collect.Range.atMost;
 import static com.google.common.collect.Range.closed;
+import static com.google.common.collect.Range.closedOpen;
 import static com.google.common.collect.Range.open;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -102,4 +104,16 @@ class RangeSetAssert_enclosesAll_with_Iterable_Test {
     assertThat(rangeSet).enclosesAll(ranges);
   }
 
+  @Test
+  void should_fail_if_actual_does_not_enclose_many_unsorted_ranges() {
+    // GIVEN
+    RangeSet<Integer> actual = ImmutableRangeSet.of(closed(0, 100));
+    Iterable<Range<Integer>> ranges = List.of(closed(90, 100), closed(0, 10), open(100, 110), closedOpen(0, 100), atMost(50),
+                                              closed(50, 70), closed(120, 150), closed(0, 100));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).enclosesAll(ranges));
+    // THEN
+    then(error).hasMessage(shouldEnclose(actual, ranges, List.of(open(100, 110), atMost(50), closed(120, 150))).create());
+  }
+
 }
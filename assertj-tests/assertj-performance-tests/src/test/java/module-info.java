@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 open module org.assertj.tests.core.perf {
+  requires jdk.management;
   requires org.assertj.core;
   requires org.junit.jupiter.api;
 }
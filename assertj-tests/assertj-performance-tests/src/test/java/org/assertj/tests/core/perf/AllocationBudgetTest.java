@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * These tests record the number of bytes allocated by successful assertions of the common entry points and fail when it
+ * exceeds the budget checked in {@code allocation-budgets.properties}, to catch allocation regressions like functional
+ * ones: assertions are run millions of times in a build and their garbage shows in its duration.
+ * <p>
+ * Each assertion is run enough times for the JIT to compile it before being measured, the allocations of the measured runs
+ * are read with {@link ThreadMXBean#getThreadAllocatedBytes(long)} and the lowest average of several rounds is kept to
+ * ignore the allocations of a concurrent compilation or of the class loading triggered by the first runs.
+ */
+class AllocationBudgetTest {
+
+  private static final int WARM_UP_ITERATIONS = 20_000;
+  private static final int ROUNDS = 5;
+  private static final int ITERATIONS_PER_ROUND = 10_000;
+
+  private static Properties budgets;
+
+  private final Object object = new Object();
+  private final int number = 42;
+  private final String string = "Frodo and Sam";
+  private final List<String> list = List.of("Frodo", "Sam", "Pippin");
+  private final Map<String, Integer> map = Map.of("Frodo", 33, "Sam", 38);
+  private SoftAssertions softly;
+
+  @BeforeAll
+  static void loadBudgets() {
+    budgets = new Properties();
+    try (InputStream budgetsStream = AllocationBudgetTest.class.getResourceAsStream("allocation-budgets.properties")) {
+      budgets.load(budgetsStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @BeforeEach
+  void setup() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  void object_isEqualTo() {
+    assertAllocationsWithinBudget("assertThat(Object).isEqualTo", () -> assertThat(object).isEqualTo(object));
+  }
+
+  @Test
+  void int_isEqualTo() {
+    assertAllocationsWithinBudget("assertThat(int).isEqualTo", () -> assertThat(number).isEqualTo(number));
+  }
+
+  @Test
+  void string_contains() {
+    assertAllocationsWithinBudget("assertThat(String).contains", () -> assertThat(string).contains("and"));
+  }
+
+  @Test
+  void list_containsExactly() {
+    assertAllocationsWithinBudget("assertThat(List).containsExactly",
+                                  () -> assertThat(list).containsExactly("Frodo", "Sam", "Pippin"));
+  }
+
+  @Test
+  void map_containsEntry() {
+    assertAllocationsWithinBudget("assertThat(Map).containsEntry", () -> assertThat(map).containsEntry("Frodo", 33));
+  }
+
+  @Test
+  void soft_object_isEqualTo() {
+    assertAllocationsWithinBudget("softly.assertThat(Object).isEqualTo", () -> softly.assertThat(object).isEqualTo(object));
+  }
+
+  @Test
+  void soft_string_contains() {
+    assertAllocationsWithinBudget("softly.assertThat(String).contains", () -> softly.assertThat(string).contains("and"));
+  }
+
+  @Test
+  void soft_list_containsExactly() {
+    assertAllocationsWithinBudget("softly.assertThat(List).containsExactly",
+                                  () -> softly.assertThat(list).containsExactly("Frodo", "Sam", "Pippin"));
+  }
+
+  @Test
+  void soft_map_containsEntry() {
+    assertAllocationsWithinBudget("softly.assertThat(Map).containsEntry",
+                                  () -> softly.assertThat(map).containsEntry("Frodo", 33));
+  }
+
+  @Test
+  void assertSoftly_object_isEqualTo() {
+    assertAllocationsWithinBudget("assertSoftly(Object).isEqualTo",
+                                  () -> assertSoftly(softly -> softly.assertThat(object).isEqualTo(object)));
+  }
+
+  private static void assertAllocationsWithinBudget(String assertion, Runnable assertionRun) {
+    String budgetProperty = budgets.getProperty(assertion);
+    if (budgetProperty == null) throw new IllegalStateException("No allocation budget for " + assertion);
+    long budget = Long.parseLong(budgetProperty);
+    long allocatedBytes = allocatedBytesPerRun(assertionRun);
+    assertThat(allocatedBytes).as("bytes allocated by %s", assertion)
+                              .isLessThanOrEqualTo(budget);
+  }
+
+  private static long allocatedBytesPerRun(Runnable run) {
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      run.run();
+    }
+    long minAllocatedBytes = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      for (int i = 0; i < ITERATIONS_PER_ROUND; i++) {
+        run.run();
+      }
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+      minAllocatedBytes = Math.min(minAllocatedBytes, allocatedBytes / ITERATIONS_PER_ROUND);
+    }
+    return minAllocatedBytes;
+  }
+
+}
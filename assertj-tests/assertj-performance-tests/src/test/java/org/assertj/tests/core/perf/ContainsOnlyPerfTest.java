@@ -18,8 +18,10 @@ package org.assertj.tests.core.perf;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatWorkload;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,9 @@ import org.junit.jupiter.api.Timeout;
  * Therefore, 5 seconds (the limit used in the tests below) seems to be a good threshold that would
  * clearly distinguish .containsOnly(...) being O(N) or O(N^2) on any test agent, thus preventing
  * a regression of .containsOnly(...) back to O(N^2) complexity.
+ * <p>
+ * The complexity tests measure how the execution time grows with the number of elements, they catch regressions to
+ * an O(N log N) or O(N^2) complexity even when the absolute timings stay below the timeout.
  *
  * @see <a href="https://github.com/assertj/assertj/issues/1718">assertj/assertj#1718</a>
  */
@@ -63,4 +68,29 @@ class ContainsOnlyPerfTest {
                        .containsOnly(0, 1);
   }
 
+  @Test
+  void containsOnly_scales_linearly() {
+    assertThatWorkload(size -> {
+      List<Object> objects = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        objects.add(ThreadLocalRandom.current().nextBoolean());
+      }
+      return () -> assertThat(objects).containsOnly(TRUE, FALSE);
+    }).withSizesDoublingFrom(10_000, 320_000)
+      .scalesLinearly();
+  }
+
+  @Test
+  void containsOnly_usingCustomComparator_scales_linearly() {
+    assertThatWorkload(size -> {
+      List<Integer> objects = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        objects.add(ThreadLocalRandom.current().nextInt(2));
+      }
+      return () -> assertThat(objects).usingElementComparator(Integer::compare)
+                                      .containsOnly(0, 1);
+    }).withSizesDoublingFrom(10_000, 320_000)
+      .scalesLinearly();
+  }
+
 }
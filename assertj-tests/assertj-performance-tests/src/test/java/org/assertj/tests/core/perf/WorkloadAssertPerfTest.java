@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatWorkload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * These tests check the growth rates measured by {@code assertThatWorkload} on workloads of known complexity, they measure
+ * real execution times and belong here rather than in the functional tests which can run on loaded machines.
+ */
+class WorkloadAssertPerfTest {
+
+  private static final IntFunction<Runnable> SUM = size -> {
+    List<Integer> list = integers(size);
+    return () -> list.stream().mapToInt(Integer::intValue).sum();
+  };
+
+  private static final IntFunction<Runnable> SORT = size -> {
+    int[] array = new Random(size).ints(size).toArray();
+    return () -> Arrays.sort(array.clone());
+  };
+
+  private static final IntFunction<Runnable> INDEX_OF_EACH = size -> {
+    List<Integer> list = integers(size);
+    return () -> list.forEach(list::indexOf);
+  };
+
+  @Test
+  void linear_workload_scales_linearly() {
+    assertThatWorkload(SUM).scalesLinearly()
+                           .scalesAtMostNLogN()
+                           .scalesAtMostQuadratically();
+  }
+
+  @Test
+  void n_log_n_workload_scales_at_most_as_n_log_n() {
+    assertThatWorkload(SORT).scalesAtMostNLogN()
+                            .scalesAtMostQuadratically();
+  }
+
+  @Test
+  void quadratic_workload_scales_at_most_quadratically() {
+    assertThatWorkload(INDEX_OF_EACH).withSizesDoublingFrom(500, 8_000)
+                                     .scalesAtMostQuadratically();
+  }
+
+  @Test
+  void quadratic_workload_does_not_scale_linearly() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatWorkload(INDEX_OF_EACH).withSizesDoublingFrom(500,
+                                                                                                                            8_000)
+                                                                                                      .scalesLinearly())
+                                                   .withMessageStartingWith("%nExpecting workload execution time to grow at most linearly (exponent <= 1.25)%nbut the measured exponent was%n  ".formatted())
+                                                   .withMessageContainingAll("measured timings:", "size=500: ", "size=8000: ");
+  }
+
+  private static List<Integer> integers(int size) {
+    List<Integer> integers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+
+}